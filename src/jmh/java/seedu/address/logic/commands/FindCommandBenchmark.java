@@ -0,0 +1,55 @@
+package seedu.address.logic.commands;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.parser.FindCommandParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.notes.Notebook;
+import seedu.address.testutil.SyntheticData;
+
+/**
+ * Measures parsing and executing a {@code FindCommand} over all students.
+ * Every invocation parses a new predicate, so the displayed students are filtered again each time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FindCommandBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int studentCount;
+
+    @Param({" n/alex", " n/alex s/nus y/sec 4"})
+    public String arguments;
+
+    private final FindCommandParser parser = new FindCommandParser();
+    private Model model;
+
+    @Setup
+    public void setUp() {
+        model = new ModelManager(SyntheticData.getReeve(studentCount, 0), new UserPrefs(), new Notebook());
+    }
+
+    @Benchmark
+    public CommandResult execute() throws ParseException {
+        return parser.parse(arguments).execute(model);
+    }
+}
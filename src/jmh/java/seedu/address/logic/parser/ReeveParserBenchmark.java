@@ -0,0 +1,120 @@
+package seedu.address.logic.parser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AttendanceCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CountCommand;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.DetailCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.ExamCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.OverdueCommand;
+import seedu.address.logic.commands.QuestionCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.ScheduleCommand;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.ToggleStudentCardCommand;
+import seedu.address.logic.commands.notes.NoteCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures parsing a typical command of every command word.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ReeveParserBenchmark {
+
+    private static final Map<String, String> ARGUMENTS_BY_COMMAND_WORD = Map.ofEntries(
+            Map.entry(AddCommand.COMMAND_WORD, " n/John Doe p/98765432 s/Woodlands Secondary School y/Sec 2 "
+                    + "v/347 Woodlands Ave 3, Singapore 730347 t/1 1200-1400 f/30 d/24/09/2020 "
+                    + "a/Likes chocolates a/Needs help with Algebra"),
+            Map.entry(EditCommand.COMMAND_WORD, " 1 n/Arthur p/98727030 s/Meridian Junior College"),
+            Map.entry(DeleteCommand.COMMAND_WORD, " 3"),
+            Map.entry(ClearCommand.COMMAND_WORD, ""),
+            Map.entry(FindCommand.COMMAND_WORD, " n/alex s/yishun"),
+            Map.entry(QuestionCommand.COMMAND_WORD, " add 1 t/How do birds fly?"),
+            Map.entry(ListCommand.COMMAND_WORD, ""),
+            Map.entry(ExitCommand.COMMAND_WORD, ""),
+            Map.entry(HelpCommand.COMMAND_WORD, ""),
+            Map.entry(ScheduleCommand.COMMAND_WORD, " m/weekly d/02/11/2020"),
+            Map.entry(OverdueCommand.COMMAND_WORD, ""),
+            Map.entry(CountCommand.COMMAND_WORD, " overdue y/sec 4"),
+            Map.entry(FilterCommand.COMMAND_WORD, " y/pri t/sat"),
+            Map.entry(SortCommand.COMMAND_WORD, " year"),
+            Map.entry(DetailCommand.COMMAND_WORD, " edit 1 i/2 t/Handsome"),
+            Map.entry(ExamCommand.COMMAND_WORD, " add 1 n/Mid Year 2020 d/08/12/2020 s/40/60"),
+            Map.entry(AttendanceCommand.COMMAND_WORD, " add 2 d/08/12/2020 a/present f/attentive"),
+            Map.entry(ToggleStudentCardCommand.COMMAND_WORD, ""),
+            Map.entry(StatsCommand.COMMAND_WORD, ""),
+            Map.entry(NoteCommand.COMMAND_WORD, " add t/things to do d/buy coffee"),
+            Map.entry(ImportCommand.COMMAND_WORD, " students legacy/students.csv"),
+            Map.entry(ExportCommand.COMMAND_WORD, " exams backup/exams.csv"));
+
+    @Param({AddCommand.COMMAND_WORD, EditCommand.COMMAND_WORD, DeleteCommand.COMMAND_WORD, ClearCommand.COMMAND_WORD,
+        FindCommand.COMMAND_WORD, QuestionCommand.COMMAND_WORD, ListCommand.COMMAND_WORD, ExitCommand.COMMAND_WORD,
+        HelpCommand.COMMAND_WORD, ScheduleCommand.COMMAND_WORD, OverdueCommand.COMMAND_WORD,
+        CountCommand.COMMAND_WORD, FilterCommand.COMMAND_WORD, SortCommand.COMMAND_WORD, DetailCommand.COMMAND_WORD,
+        ExamCommand.COMMAND_WORD, AttendanceCommand.COMMAND_WORD, ToggleStudentCardCommand.COMMAND_WORD,
+        StatsCommand.COMMAND_WORD, NoteCommand.COMMAND_WORD, RunCommand.COMMAND_WORD, ImportCommand.COMMAND_WORD,
+        ExportCommand.COMMAND_WORD})
+    public String commandWord;
+
+    private final ReeveParser parser = new ReeveParser();
+    private Path commandFile;
+    private String commandText;
+
+    @Setup
+    public void setUp() throws IOException {
+        // a run command is parsed with the commands in its file
+        commandFile = Files.createTempFile("commands", ".txt");
+        Files.write(commandFile, List.of(ListCommand.COMMAND_WORD, "delete 1", "find n/alex"), StandardCharsets.UTF_8);
+
+        commandText = commandWord + (commandWord.equals(RunCommand.COMMAND_WORD)
+                ? " " + commandFile
+                : ARGUMENTS_BY_COMMAND_WORD.get(commandWord));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(commandFile);
+    }
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(commandText);
+    }
+}
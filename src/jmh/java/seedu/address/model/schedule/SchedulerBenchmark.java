@@ -0,0 +1,51 @@
+package seedu.address.model.schedule;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.student.Student;
+import seedu.address.testutil.SyntheticData;
+
+/**
+ * Measures mapping the class times of all students to the lesson events shown in the schedule.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SchedulerBenchmark {
+
+    @Param({"1000", "10000"})
+    public int studentCount;
+
+    private List<Student> students;
+
+    @Setup
+    public void setUp() {
+        students = SyntheticData.getStudents(studentCount);
+    }
+
+    /**
+     * Maps the class times of all students into a new scheduler, as when Reeve starts.
+     */
+    @Benchmark
+    public Scheduler mapClassTimesToLessonEvent() {
+        Scheduler scheduler = new Scheduler();
+        scheduler.mapClassTimesToLessonEvent(students);
+        return scheduler;
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.model.student;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.testutil.SyntheticData;
+
+/**
+ * Measures adding students to and looking up students in a {@code UniqueStudentList}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class UniqueStudentListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int studentCount;
+
+    private List<Student> students;
+    private UniqueStudentList studentList;
+    private Student presentStudent;
+    private Student absentStudent;
+
+    @Setup
+    public void setUp() {
+        students = SyntheticData.getStudents(studentCount + 1);
+        absentStudent = students.remove(studentCount);
+        presentStudent = students.get(studentCount / 2);
+        studentList = new UniqueStudentList();
+        studentList.setStudents(students);
+    }
+
+    /**
+     * Adds every student, one at a time, to an empty list.
+     */
+    @Benchmark
+    public UniqueStudentList addEachToEmptyList() {
+        UniqueStudentList emptyList = new UniqueStudentList();
+        for (Student student : students) {
+            emptyList.add(student);
+        }
+        return emptyList;
+    }
+
+    /**
+     * Adds a student to the end of the full list, then removes it so that the list is the same size for the
+     * next invocation.
+     */
+    @Benchmark
+    public UniqueStudentList addToFullListThenRemove() {
+        studentList.add(absentStudent);
+        studentList.remove(absentStudent);
+        return studentList;
+    }
+
+    @Benchmark
+    public boolean containsPresentStudent() {
+        return studentList.contains(presentStudent);
+    }
+
+    @Benchmark
+    public boolean containsAbsentStudent() {
+        return studentList.contains(absentStudent);
+    }
+}
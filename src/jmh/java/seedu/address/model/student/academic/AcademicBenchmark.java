@@ -0,0 +1,91 @@
+package seedu.address.model.student.academic;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.student.academic.exam.Exam;
+import seedu.address.model.student.academic.exam.Score;
+import seedu.address.model.student.academic.question.UnsolvedQuestion;
+import seedu.address.testutil.SyntheticData;
+
+/**
+ * Measures the changes made to the academic details of a student with many exams and attendance records.
+ * Every change returns a new {@code Academic}, so the details being measured are the same for every invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AcademicBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int recordCount;
+
+    private Academic academic;
+    private Attendance firstAttendance;
+    private Attendance middleAttendance;
+    private Exam middleExam;
+    private Attendance newAttendance;
+    private Exam newExam;
+    private UnsolvedQuestion newQuestion;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(recordCount);
+        List<Attendance> attendance = List.of(SyntheticData.getAttendance(random, recordCount));
+        List<Exam> exams = List.of(SyntheticData.getExams(random, recordCount));
+        academic = new Academic(List.of(), attendance, exams);
+
+        firstAttendance = attendance.get(0);
+        middleAttendance = attendance.get(recordCount / 2);
+        middleExam = exams.get(recordCount / 2);
+        newAttendance = new Attendance(middleAttendance.getLessonDate().plusDays(1), true);
+        newExam = new Exam("Extra Quiz", middleExam.getDate(), new Score("25/50"));
+        newQuestion = new UnsolvedQuestion("How do birds fly?");
+    }
+
+    @Benchmark
+    public Academic addAttendanceInMiddle() {
+        return academic.addAttendance(newAttendance);
+    }
+
+    @Benchmark
+    public Academic deleteFirstAttendance() {
+        return academic.deleteAttendance(firstAttendance);
+    }
+
+    @Benchmark
+    public boolean containsAttendance() {
+        return academic.containsAttendance(middleAttendance);
+    }
+
+    @Benchmark
+    public Academic addExamInMiddle() {
+        return academic.addExam(newExam);
+    }
+
+    @Benchmark
+    public Academic deleteMiddleExam() {
+        return academic.deleteExam(middleExam);
+    }
+
+    @Benchmark
+    public Academic addQuestion() {
+        return academic.addQuestion(newQuestion);
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyReeve;
+import seedu.address.testutil.SyntheticData;
+
+/**
+ * Measures saving Reeve to and reading Reeve from a JSON data file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JsonReeveStorageBenchmark {
+
+    @Param({"1000", "10000"})
+    public int studentCount;
+
+    @Param({"10"})
+    public int academicRecordCount;
+
+    @Param({"false", "true"})
+    public boolean isAcademicLoadedLazily;
+
+    private Path dataFile;
+    private ReadOnlyReeve reeve;
+    private JsonReeveStorage storage;
+
+    @Setup
+    public void setUp() throws IOException {
+        dataFile = Files.createTempFile("reeve", ".json");
+        reeve = SyntheticData.getReeve(studentCount, academicRecordCount);
+        storage = new JsonReeveStorage(dataFile, isAcademicLoadedLazily);
+        storage.saveAddressBook(reeve);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(dataFile);
+    }
+
+    /**
+     * Saves all students to the data file, replacing the file saved by the previous invocation.
+     */
+    @Benchmark
+    public Path save() throws IOException {
+        storage.saveAddressBook(reeve);
+        return dataFile;
+    }
+
+    @Benchmark
+    public ReadOnlyReeve read() throws DataConversionException {
+        return storage.readAddressBook().get();
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.testutil;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import seedu.address.model.Reeve;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.academic.Attendance;
+import seedu.address.model.student.academic.Feedback;
+import seedu.address.model.student.academic.exam.Exam;
+import seedu.address.model.student.academic.exam.Score;
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * Generates any number of distinct students for benchmarks, by varying the sample students of
+ * {@link SampleDataUtil}. The same arguments always generate the same students, so that benchmark results can be
+ * compared across runs.
+ */
+public class SyntheticData {
+
+    public static final LocalDate FIRST_LESSON_DATE = LocalDate.of(2020, 1, 6);
+
+    private static final long SEED = 2103;
+    private static final int FIRST_PHONE = 80000000;
+    private static final String[] YEARS = {"Pri 5", "Pri 6", "Sec 1", "Sec 2", "Sec 3", "Sec 4", "JC 1", "JC 2"};
+
+    /**
+     * Returns {@code count} students without any questions, exams or attendance.
+     */
+    public static List<Student> getStudents(int count) {
+        return getStudents(count, 0);
+    }
+
+    /**
+     * Returns {@code count} students who each have {@code academicRecordCount} exams and as many attendance
+     * records, one for each weekly lesson from {@link #FIRST_LESSON_DATE}.
+     */
+    public static List<Student> getStudents(int count, int academicRecordCount) {
+        Random random = new Random(SEED);
+        Student[] templates = SampleDataUtil.getSamplePersons();
+        List<Student> students = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Student template = templates[i % templates.length];
+            int startHour = 8 + random.nextInt(12);
+            students.add(new StudentBuilder(template)
+                    .withName(template.getName().fullName + " " + i)
+                    .withPhone(String.valueOf(FIRST_PHONE + i))
+                    .withYear(YEARS[random.nextInt(YEARS.length)])
+                    .withClassTime(String.format("%d %02d00-%02d00", 1 + random.nextInt(7), startHour, startHour + 1))
+                    .withFee(String.valueOf(100 + random.nextInt(400)))
+                    .withQuestions()
+                    .withExams(getExams(random, academicRecordCount))
+                    .withAttendances(getAttendance(random, academicRecordCount))
+                    .build());
+        }
+        return students;
+    }
+
+    /**
+     * Returns a {@code Reeve} with the students of {@link #getStudents(int, int)}.
+     */
+    public static Reeve getReeve(int count, int academicRecordCount) {
+        Reeve reeve = new Reeve();
+        reeve.setStudents(getStudents(count, academicRecordCount));
+        return reeve;
+    }
+
+    /**
+     * Returns {@code count} exams, with one exam each week from {@link #FIRST_LESSON_DATE}.
+     */
+    public static Exam[] getExams(Random random, int count) {
+        Exam[] exams = new Exam[count];
+        for (int i = 0; i < count; i++) {
+            exams[i] = new Exam("Quiz " + (i + 1), FIRST_LESSON_DATE.plusWeeks(i),
+                    new Score(random.nextInt(51) + "/50"));
+        }
+        return exams;
+    }
+
+    /**
+     * Returns {@code count} attendance records, with one lesson each week from {@link #FIRST_LESSON_DATE}.
+     */
+    public static Attendance[] getAttendance(Random random, int count) {
+        Attendance[] attendance = new Attendance[count];
+        for (int i = 0; i < count; i++) {
+            attendance[i] = new Attendance(FIRST_LESSON_DATE.plusWeeks(i), random.nextInt(10) > 0,
+                    new Feedback("attentive"));
+        }
+        return attendance;
+    }
+}
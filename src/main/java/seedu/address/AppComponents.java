@@ -0,0 +1,274 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.DurabilityMode;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyReeve;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.Reeve;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.notes.Notebook;
+import seedu.address.model.notes.ReadOnlyNotebook;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.JournaledReeveStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ReeveFileFormat;
+import seedu.address.storage.ReeveStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindStorage;
+import seedu.address.storage.notes.JournaledNotebookStorage;
+import seedu.address.storage.notes.JsonNotebookStorage;
+import seedu.address.storage.notes.NotebookStorage;
+
+/**
+ * The config, storage, model and logic of Reeve, which are set up and shut down in the same way whether Reeve is
+ * run with its GUI or headless.
+ */
+public class AppComponents {
+
+    public static final String METRICS_FILE_NAME = "commandmetrics.json";
+
+    private static final Logger logger = LogsCenter.getLogger(AppComponents.class);
+
+    private final Config config;
+    private final Storage storage;
+    private final Model model;
+    private final CommandMetrics metrics = new CommandMetrics();
+    private final Logic logic;
+
+    private AppComponents(Config config, Storage storage, Model model) {
+        this.config = config;
+        this.storage = storage;
+        this.model = model;
+        this.logic = new LogicManager(model, storage, metrics);
+        if (config.getMetricsSaveIntervalSeconds() > 0) {
+            metrics.startSaving(LogsCenter.getLogFilePath().resolveSibling(METRICS_FILE_NAME),
+                    Duration.ofSeconds(config.getMetricsSaveIntervalSeconds()));
+        }
+    }
+
+    /**
+     * Sets up the components of Reeve using the config file at {@code configFilePath}, or the default config file
+     * if {@code configFilePath} is null.
+     */
+    public static AppComponents init(Path configFilePath) {
+        Config config = initConfig(configFilePath);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        ReeveStorage reeveStorage = initReeveStorage(userPrefs.getAddressBookFilePath(),
+                config.isLazyAcademicLoading());
+        NotebookStorage notebookStorage = new JsonNotebookStorage(userPrefs.getNotebookFilePath());
+        JournaledReeveStorage journaledReeveStorage = new JournaledReeveStorage(reeveStorage);
+        JournaledNotebookStorage journaledNotebookStorage = new JournaledNotebookStorage(notebookStorage);
+        if (config.isJournalEnabled()) {
+            reeveStorage = journaledReeveStorage;
+            notebookStorage = journaledNotebookStorage;
+        } else {
+            mergeJournals(journaledReeveStorage, journaledNotebookStorage);
+        }
+        Storage storage = new StorageManager(reeveStorage, userPrefsStorage, notebookStorage);
+        if (config.getDurabilityMode() == DurabilityMode.ASYNC) {
+            storage = new WriteBehindStorage(storage);
+        }
+
+        LogsCenter.init(config);
+
+        return new AppComponents(config, storage, initModelManager(storage, userPrefs));
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    /**
+     * Writes out any data that is not saved yet, and saves the user preferences and the command metrics.
+     */
+    public void stop() {
+        metrics.stop();
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and notebook
+     * and {@code userPrefs}<br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * The same applies to the notebook.
+     */
+    private static Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        Optional<ReadOnlyReeve> addressBookOptional;
+        Optional<ReadOnlyNotebook> notebookOptional;
+        ReadOnlyReeve initialData;
+        ReadOnlyNotebook initialNotebook;
+
+        try {
+            addressBookOptional = storage.readAddressBook();
+
+            if (!addressBookOptional.isPresent()) {
+                logger.info("Data file not found. Will be starting with a sample Reeve");
+            }
+            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty Reeve");
+            initialData = new Reeve();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty Reeve");
+            initialData = new Reeve();
+        }
+
+        try {
+            notebookOptional = storage.readNotebook();
+            if (!notebookOptional.isPresent()) {
+                logger.info("Data file for notebook not found. Will be starting with a sample Notebook");
+            }
+            initialNotebook = notebookOptional.orElseGet(SampleDataUtil::getSampleNotebook);
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty Notebook");
+            initialNotebook = new Notebook();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty Notebook");
+            initialNotebook = new Notebook();
+        }
+
+        return new ModelManager(initialData, userPrefs, initialNotebook);
+    }
+
+    /**
+     * Returns a {@code ReeveStorage} for the data file at {@code filePath}, in the format given by its extension.
+     * If the file does not exist yet, the data is converted from a file of the same name in the other format.
+     */
+    private static ReeveStorage initReeveStorage(Path filePath, boolean isAcademicLoadedLazily) {
+        try {
+            ReeveFileFormat.convertFromOtherFormatIfMissing(filePath);
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Unable to convert the data file to " + filePath + ": " + StringUtil.getDetails(e));
+        }
+        return ReeveFileFormat.createStorage(filePath, isAcademicLoadedLazily);
+    }
+
+    /**
+     * Writes the changes left in the journals, from when the journal was enabled, into the data files.
+     * A journal that cannot be merged is kept, and is merged once its data file is fixed.
+     */
+    private static void mergeJournals(JournaledReeveStorage reeveStorage, JournaledNotebookStorage notebookStorage) {
+        try {
+            reeveStorage.mergeJournal();
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Unable to merge the journal into " + reeveStorage.getAddressBookFilePath() + ": "
+                    + StringUtil.getDetails(e));
+        }
+        try {
+            notebookStorage.mergeJournal();
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Unable to merge the journal into " + notebookStorage.getNotebookFilePath() + ": "
+                    + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    private static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataConversionException e) {
+            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
+                    + "Using default config properties");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    private static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using prefs file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataConversionException e) {
+            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
+                    + "Using default user prefs");
+            initializedPrefs = new UserPrefs();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+}
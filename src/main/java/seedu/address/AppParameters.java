@@ -2,6 +2,9 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -14,9 +17,16 @@ import seedu.address.commons.util.FileUtil;
  * Represents the parsed command-line parameters given to the application.
  */
 public class AppParameters {
+    public static final String HEADLESS_FLAG = "--headless";
+    public static final String MESSAGE_INVALID_COMMAND_FILE = "Invalid command file path %1$s";
+
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
+    private static final String NAMED_PARAMETER_PREFIX = "--";
+    private static final String NAMED_PARAMETER_SEPARATOR = "=";
 
     private Path configPath;
+    private boolean isHeadless;
+    private Path commandFile;
 
     public Path getConfigPath() {
         return configPath;
@@ -26,21 +36,74 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    public boolean isHeadless() {
+        return isHeadless;
+    }
+
+    public void setHeadless(boolean isHeadless) {
+        this.isHeadless = isHeadless;
+    }
+
+    /**
+     * Returns the file of commands to run headless, or null if the commands are read from the standard input.
+     */
+    public Path getCommandFile() {
+        return commandFile;
+    }
+
+    public void setCommandFile(Path commandFile) {
+        this.commandFile = commandFile;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
+        appParameters.setConfigPath(parseConfigPath(parameters.getNamed()));
+        return appParameters;
+    }
+
+    /**
+     * Parses the raw command-line arguments given to {@code Main}, before any JavaFX application is launched.
+     * Parameters are named as {@code --name=value}, as for a JavaFX application. In headless mode, the first
+     * unnamed argument other than {@link #HEADLESS_FLAG} is the file of commands to run.
+     *
+     * @throws IllegalArgumentException if the file of commands to run headless is not a valid path.
+     */
+    public static AppParameters parse(String... args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        List<String> unnamedParameters = new ArrayList<>();
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf(NAMED_PARAMETER_SEPARATOR);
+            if (arg.startsWith(NAMED_PARAMETER_PREFIX) && separatorIndex > NAMED_PARAMETER_PREFIX.length()) {
+                namedParameters.put(arg.substring(NAMED_PARAMETER_PREFIX.length(), separatorIndex),
+                        arg.substring(separatorIndex + 1));
+            } else {
+                unnamedParameters.add(arg);
+            }
+        }
+
+        AppParameters appParameters = new AppParameters();
+        appParameters.setConfigPath(parseConfigPath(namedParameters));
+        appParameters.setHeadless(unnamedParameters.remove(HEADLESS_FLAG));
+        if (appParameters.isHeadless() && !unnamedParameters.isEmpty()) {
+            String commandFileParameter = unnamedParameters.get(0);
+            if (!FileUtil.isValidPath(commandFileParameter)) {
+                throw new IllegalArgumentException(String.format(MESSAGE_INVALID_COMMAND_FILE, commandFileParameter));
+            }
+            appParameters.setCommandFile(Paths.get(commandFileParameter));
+        }
+        return appParameters;
+    }
 
+    private static Path parseConfigPath(Map<String, String> namedParameters) {
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
             logger.warning("Invalid config path " + configPathParameter + ". Using default config path.");
             configPathParameter = null;
         }
-        appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
-
-        return appParameters;
+        return configPathParameter != null ? Paths.get(configPathParameter) : null;
     }
 
     @Override
@@ -54,11 +117,13 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && isHeadless() == otherAppParameters.isHeadless()
+                && Objects.equals(getCommandFile(), otherAppParameters.getCommandFile());
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, isHeadless, commandFile);
     }
 }
@@ -0,0 +1,111 @@
+package seedu.address;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs Reeve without its GUI, executing the commands in a file or the standard input one line at a time and
+ * printing the result of each command. The JavaFX toolkit and the GUI are never started, so scripted jobs such as
+ * nightly imports and reports start faster and use less memory than the GUI.
+ */
+public class HeadlessApp {
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_COMMAND_FAILED = 1;
+    public static final int EXIT_NOT_RUN = 2;
+
+    public static final String MESSAGE_COMMAND_FAILED = "Line %1$d: %2$s";
+    public static final String MESSAGE_FILE_NOT_READ = "Could not read the commands: %1$s";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final Logic logic;
+    private final PrintStream out;
+    private final PrintStream err;
+
+    /**
+     * Creates a {@code HeadlessApp} that executes commands with {@code logic}, printing their results to
+     * {@code out} and their errors to {@code err}.
+     */
+    public HeadlessApp(Logic logic, PrintStream out, PrintStream err) {
+        requireAllNonNull(logic, out, err);
+        this.logic = logic;
+        this.out = out;
+        this.err = err;
+    }
+
+    /**
+     * Sets up Reeve as given by the command-line arguments {@code args}, runs the commands, saves the data and
+     * returns the exit status of the process.
+     */
+    public static int run(String... args) {
+        AppParameters appParameters;
+        try {
+            appParameters = AppParameters.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            return EXIT_NOT_RUN;
+        }
+
+        logger.info("=========================[ Running Reeve headless ]=========================");
+        AppComponents components = AppComponents.init(appParameters.getConfigPath());
+        HeadlessApp app = new HeadlessApp(components.getLogic(), System.out, System.err);
+        try (BufferedReader commands = appParameters.getCommandFile() == null
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(appParameters.getCommandFile(), StandardCharsets.UTF_8)) {
+            return app.run(commands);
+        } catch (IOException e) {
+            System.err.println(String.format(MESSAGE_FILE_NOT_READ, e));
+            return EXIT_NOT_RUN;
+        } finally {
+            components.stop();
+        }
+    }
+
+    /**
+     * Executes the commands read from {@code commands} until the end of the input or a command to exit.
+     * Blank lines and lines starting with {@link RunCommand#COMMENT_PREFIX} are skipped, and a failed command does
+     * not stop the commands after it.
+     *
+     * @return {@link #EXIT_COMMAND_FAILED} if any command failed, or {@link #EXIT_SUCCESS} otherwise.
+     * @throws IOException if the commands cannot be read.
+     */
+    public int run(BufferedReader commands) throws IOException {
+        boolean hasFailedCommand = false;
+        int lineNumber = 0;
+        String line;
+        while ((line = commands.readLine()) != null) {
+            lineNumber++;
+            String commandText = line.strip();
+            if (commandText.isEmpty() || commandText.startsWith(RunCommand.COMMENT_PREFIX)) {
+                continue;
+            }
+
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                out.println(commandResult.getFeedbackToUser());
+                if (commandResult.isShouldExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                err.println(String.format(MESSAGE_COMMAND_FAILED, lineNumber, e.getMessage()));
+                hasFailedCommand = true;
+            }
+        }
+        return hasFailedCommand ? EXIT_COMMAND_FAILED : EXIT_SUCCESS;
+    }
+}
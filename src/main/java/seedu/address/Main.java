@@ -1,5 +1,7 @@
 package seedu.address;
 
+import java.util.Arrays;
+
 import javafx.application.Application;
 
 /**
@@ -17,9 +19,15 @@ import javafx.application.Application;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * Given the {@code --headless} flag, the application runs a file of commands, or the commands in the standard
+ * input, with {@link HeadlessApp} instead, and the JavaFX toolkit is never started.
  */
 public class Main {
     public static void main(String[] args) {
+        if (Arrays.asList(args).contains(AppParameters.HEADLESS_FLAG)) {
+            System.exit(HeadlessApp.run(args));
+        }
         Application.launch(MainApp.class, args);
     }
 }
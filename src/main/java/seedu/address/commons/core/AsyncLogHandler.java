@@ -0,0 +1,193 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Passes log records to other handlers, such as a {@code FileHandler}, on a background writer thread.
+ * The records are kept in a bounded buffer until they are written, so the thread that logs a record never waits for
+ * it to be formatted or written, unless the buffer is full and the {@link LogOverflowPolicy} is {@code BLOCK}.
+ * Closing this handler writes the records left in the buffer, which the {@code LogManager} does when the JVM exits.
+ */
+public class AsyncLogHandler extends Handler {
+
+    public static final String MESSAGE_RECORDS_DROPPED = "%1$d log records were dropped as the log buffer was full";
+
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+
+    private final List<Handler> targets;
+    private final BlockingQueue<LogRecord> buffer;
+    private final Thread writer;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Object writtenLock = new Object();
+    private long queuedCount = 0; // guarded by this
+    private long writtenCount = 0; // guarded by writtenLock
+    private long reportedDroppedCount = 0; // only used by the writer
+    private volatile LogOverflowPolicy overflowPolicy;
+    private volatile boolean isClosed = false;
+
+    /**
+     * Creates an {@code AsyncLogHandler} that passes the records to {@code targets}, keeping up to
+     * {@code capacity} records that are not written yet.
+     */
+    public AsyncLogHandler(List<Handler> targets, int capacity, LogOverflowPolicy overflowPolicy) {
+        requireNonNull(targets);
+        requireNonNull(overflowPolicy);
+        this.targets = List.copyOf(targets);
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+        writer = new Thread(this::writeRecords, "Reeve log writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    public void setOverflowPolicy(LogOverflowPolicy overflowPolicy) {
+        this.overflowPolicy = requireNonNull(overflowPolicy);
+    }
+
+    /**
+     * Returns the number of records dropped since this handler was created.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+        // the class and method that logged the record can only be found on the thread that logged it
+        record.getSourceClassName();
+
+        synchronized (this) {
+            if (overflowPolicy == LogOverflowPolicy.DROP) {
+                if (buffer.offer(record)) {
+                    queuedCount++;
+                } else {
+                    droppedCount.incrementAndGet();
+                }
+                return;
+            }
+        }
+        queueBlocking(record);
+    }
+
+    private void queueBlocking(LogRecord record) {
+        try {
+            synchronized (this) {
+                // the writer takes records without this lock, so waiting for room here does not stop it
+                buffer.put(record);
+                queuedCount++;
+            }
+        } catch (InterruptedException e) {
+            droppedCount.incrementAndGet();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits until the records published so far are written, and flushes the handlers they are written to.
+     */
+    @Override
+    public void flush() {
+        long targetCount;
+        synchronized (this) {
+            targetCount = queuedCount;
+        }
+        awaitWritten(targetCount, 0);
+        targets.forEach(Handler::flush);
+    }
+
+    /**
+     * Writes the records left in the buffer, waiting for up to {@code CLOSE_TIMEOUT_MILLIS}, and closes the
+     * handlers they are written to. Records published after this are ignored.
+     */
+    @Override
+    public void close() {
+        long targetCount;
+        synchronized (this) {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+            targetCount = queuedCount;
+        }
+        awaitWritten(targetCount, CLOSE_TIMEOUT_MILLIS);
+        writer.interrupt();
+        targets.forEach(Handler::close);
+    }
+
+    /**
+     * Waits until {@code count} records have been written, or for {@code timeoutMillis} if it is not 0.
+     */
+    private void awaitWritten(long count, long timeoutMillis) {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        synchronized (writtenLock) {
+            while (writtenCount < count) {
+                long waitMillis = timeoutMillis == 0 ? 0 : deadline - System.currentTimeMillis();
+                if (timeoutMillis != 0 && waitMillis <= 0) {
+                    return;
+                }
+                try {
+                    writtenLock.wait(waitMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void writeRecords() {
+        try {
+            while (true) {
+                LogRecord record = buffer.poll(1, TimeUnit.SECONDS);
+                if (record != null) {
+                    write(record);
+                }
+                if (buffer.isEmpty()) {
+                    reportDroppedRecords();
+                }
+                if (record != null) {
+                    synchronized (writtenLock) {
+                        writtenCount++;
+                        writtenLock.notifyAll();
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            // the handler is closed
+        }
+    }
+
+    private void reportDroppedRecords() {
+        long dropped = droppedCount.get() - reportedDroppedCount;
+        if (dropped > 0) {
+            reportedDroppedCount += dropped;
+            LogRecord report = new LogRecord(Level.WARNING, String.format(MESSAGE_RECORDS_DROPPED, dropped));
+            report.setSourceClassName(AsyncLogHandler.class.getName());
+            report.setSourceMethodName("publish");
+            write(report);
+        }
+    }
+
+    private void write(LogRecord record) {
+        for (Handler target : targets) {
+            try {
+                target.publish(record);
+            } catch (RuntimeException e) {
+                reportError("Failed to write a log record", e, ErrorManager.WRITE_FAILURE);
+            }
+        }
+    }
+}
@@ -15,6 +15,11 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private DurabilityMode durabilityMode = DurabilityMode.SYNC;
+    private boolean journalEnabled = true;
+    private boolean lazyAcademicLoading = false;
+    private int metricsSaveIntervalSeconds = 0;
+    private LogOverflowPolicy logOverflowPolicy = LogOverflowPolicy.DROP;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +37,53 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public DurabilityMode getDurabilityMode() {
+        return durabilityMode;
+    }
+
+    public void setDurabilityMode(DurabilityMode durabilityMode) {
+        this.durabilityMode = durabilityMode;
+    }
+
+    /**
+     * Returns true if changes are appended to a journal next to each data file, instead of rewriting the data file
+     * on every save.
+     */
+    public boolean isJournalEnabled() {
+        return journalEnabled;
+    }
+
+    public void setJournalEnabled(boolean journalEnabled) {
+        this.journalEnabled = journalEnabled;
+    }
+
+    public boolean isLazyAcademicLoading() {
+        return lazyAcademicLoading;
+    }
+
+    public void setLazyAcademicLoading(boolean lazyAcademicLoading) {
+        this.lazyAcademicLoading = lazyAcademicLoading;
+    }
+
+    /**
+     * Returns how often the command metrics are saved beside the log file, or 0 if they are never saved.
+     */
+    public int getMetricsSaveIntervalSeconds() {
+        return metricsSaveIntervalSeconds;
+    }
+
+    public void setMetricsSaveIntervalSeconds(int metricsSaveIntervalSeconds) {
+        this.metricsSaveIntervalSeconds = metricsSaveIntervalSeconds;
+    }
+
+    public LogOverflowPolicy getLogOverflowPolicy() {
+        return logOverflowPolicy;
+    }
+
+    public void setLogOverflowPolicy(LogOverflowPolicy logOverflowPolicy) {
+        this.logOverflowPolicy = logOverflowPolicy;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +96,18 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && Objects.equals(durabilityMode, o.durabilityMode)
+                && journalEnabled == o.journalEnabled
+                && lazyAcademicLoading == o.lazyAcademicLoading
+                && metricsSaveIntervalSeconds == o.metricsSaveIntervalSeconds
+                && Objects.equals(logOverflowPolicy, o.logOverflowPolicy);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, durabilityMode, journalEnabled, lazyAcademicLoading,
+                metricsSaveIntervalSeconds, logOverflowPolicy);
     }
 
     @Override
@@ -57,6 +115,11 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nDurability mode : " + durabilityMode);
+        sb.append("\nJournal enabled : " + journalEnabled);
+        sb.append("\nLazy academic loading : " + lazyAcademicLoading);
+        sb.append("\nMetrics save interval in seconds : " + metricsSaveIntervalSeconds);
+        sb.append("\nLog overflow policy : " + logOverflowPolicy);
         return sb.toString();
     }
 
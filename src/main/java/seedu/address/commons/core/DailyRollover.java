@@ -0,0 +1,97 @@
+package seedu.address.commons.core;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * Notifies a listener of the new date at every midnight, for data that depends on the current date.
+ * The listener is run by the given {@code Executor}, such as the JavaFX application thread, so that it can safely
+ * update data that is only changed from that thread. The wait for midnight is worked out again every day, so
+ * days that are longer or shorter due to daylight saving time are handled.
+ */
+public class DailyRollover {
+
+    private static final Logger logger = LogsCenter.getLogger(DailyRollover.class);
+
+    private final Consumer<LocalDate> listener;
+    private final Executor dispatcher;
+    private final Clock clock;
+    private ScheduledExecutorService timer;
+    private LocalDate lastDate;
+
+    /**
+     * Creates a {@code DailyRollover} that passes each new date of {@code clock} to {@code listener}, running it
+     * with {@code dispatcher}.
+     */
+    public DailyRollover(Consumer<LocalDate> listener, Executor dispatcher, Clock clock) {
+        requireAllNonNull(listener, dispatcher, clock);
+        this.listener = listener;
+        this.dispatcher = dispatcher;
+        this.clock = clock;
+    }
+
+    /**
+     * Starts waiting for the next midnight in the background.
+     */
+    public synchronized void start() {
+        if (timer != null) {
+            return;
+        }
+        lastDate = LocalDate.now(clock);
+        timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Reeve daily rollover");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduleNext();
+    }
+
+    /**
+     * Stops waiting for midnight. The listener is not notified of any later dates.
+     */
+    public synchronized void stop() {
+        if (timer != null) {
+            timer.shutdownNow();
+            timer = null;
+        }
+    }
+
+    /**
+     * Notifies the listener if the date of the clock has changed since it was last notified, and waits for the
+     * next midnight again.
+     */
+    synchronized void rollOver() {
+        LocalDate currentDate = LocalDate.now(clock);
+        if (!currentDate.equals(lastDate)) {
+            logger.info("Rolling over to " + currentDate);
+            lastDate = currentDate;
+            dispatcher.execute(() -> listener.accept(currentDate));
+        }
+        if (timer != null) {
+            scheduleNext();
+        }
+    }
+
+    /**
+     * Returns the time from now until the start of the next day of {@code clock}.
+     */
+    static Duration getDelayUntilNextDay(Clock clock) {
+        ZonedDateTime now = ZonedDateTime.now(clock);
+        ZonedDateTime nextDay = now.toLocalDate().plusDays(1).atStartOfDay(now.getZone());
+        return Duration.between(now, nextDay);
+    }
+
+    private void scheduleNext() {
+        timer.schedule(this::rollOver, getDelayUntilNextDay(clock).toMillis(), TimeUnit.MILLISECONDS);
+    }
+}
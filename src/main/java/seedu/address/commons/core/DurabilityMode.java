@@ -0,0 +1,11 @@
+package seedu.address.commons.core;
+
+/**
+ * How data is persisted after each command.
+ * {@code SYNC} writes the data files before the command returns,
+ * {@code ASYNC} hands the data to a background writer and returns immediately.
+ */
+public enum DurabilityMode {
+    SYNC,
+    ASYNC;
+}
@@ -0,0 +1,11 @@
+package seedu.address.commons.core;
+
+/**
+ * What is done with a log record when the buffer of records waiting to be written is full.
+ * {@code DROP} discards the record, and the number of records discarded is logged once there is room again,
+ * {@code BLOCK} makes the logging thread wait for room, so that no record is lost.
+ */
+public enum LogOverflowPolicy {
+    DROP,
+    BLOCK;
+}
@@ -1,10 +1,16 @@
 package seedu.address.commons.core;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
 
@@ -14,15 +20,18 @@ import java.util.logging.SimpleFormatter;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * The records are written by a background thread, so logging does not wait for the console or the file,
+ *   unless the records waiting to be written fill their buffer and the {@link LogOverflowPolicy} is {@code BLOCK}.
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
     private static final String LOG_FILE = "addressbook.log";
     private static Level currentLogLevel = Level.INFO;
+    private static final int BUFFER_CAPACITY = 8192;
+    private static LogOverflowPolicy overflowPolicy = LogOverflowPolicy.DROP;
+    private static AsyncLogHandler asyncHandler;
     private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
-    private static FileHandler fileHandler;
-    private static ConsoleHandler consoleHandler;
 
     /**
      * Initializes with a custom log level (specified in the {@code config} object)
@@ -32,21 +41,31 @@ public class LogsCenter {
      */
     public static void init(Config config) {
         currentLogLevel = config.getLogLevel();
+        overflowPolicy = config.getLogOverflowPolicy();
+        getAsyncHandler().setOverflowPolicy(overflowPolicy);
         logger.info("currentLogLevel: " + currentLogLevel);
     }
 
+    public static Path getLogFilePath() {
+        return Paths.get(LOG_FILE);
+    }
+
     /**
      * Creates a logger with the given name.
+     * A logger that was already created is returned as it is, so getting a logger is cheap on any path.
      */
     public static Logger getLogger(String name) {
         Logger logger = Logger.getLogger(name);
-        logger.setUseParentHandlers(false);
+        AsyncLogHandler handler = getAsyncHandler();
+        Handler[] handlers = logger.getHandlers();
+        if (handlers.length == 1 && handlers[0] == handler) {
+            return logger;
+        }
 
+        logger.setUseParentHandlers(false);
         removeHandlers(logger);
-        addConsoleHandler(logger);
-        addFileHandler(logger);
-
-        return Logger.getLogger(name);
+        logger.addHandler(handler);
+        return logger;
     }
 
     /**
@@ -60,14 +79,28 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code consoleHandler} to the {@code logger}. <br>
-     * Creates the {@code consoleHandler} if it is null.
+     * Returns the {@code asyncHandler} shared by every logger. <br>
+     * Creates the {@code asyncHandler}, writing to the console and the log file, if it is null.
      */
-    private static void addConsoleHandler(Logger logger) {
-        if (consoleHandler == null) {
-            consoleHandler = createConsoleHandler();
+    private static synchronized AsyncLogHandler getAsyncHandler() {
+        if (asyncHandler != null) {
+            return asyncHandler;
+        }
+
+        List<Handler> targets = new ArrayList<>();
+        targets.add(createConsoleHandler());
+        String fileHandlerError = null;
+        try {
+            targets.add(createFileHandler());
+        } catch (IOException e) {
+            fileHandlerError = "Error adding file handler for logger.";
+        }
+        asyncHandler = new AsyncLogHandler(targets, BUFFER_CAPACITY, overflowPolicy);
+        asyncHandler.setLevel(currentLogLevel);
+        if (fileHandlerError != null) {
+            asyncHandler.publish(new LogRecord(Level.WARNING, fileHandlerError));
         }
-        logger.addHandler(consoleHandler);
+        return asyncHandler;
     }
 
     /**
@@ -78,21 +111,6 @@ public class LogsCenter {
                 .forEach(logger::removeHandler);
     }
 
-    /**
-     * Adds the {@code fileHandler} to the {@code logger}. <br>
-     * Creates {@code fileHandler} if it is null.
-     */
-    private static void addFileHandler(Logger logger) {
-        try {
-            if (fileHandler == null) {
-                fileHandler = createFileHandler();
-            }
-            logger.addHandler(fileHandler);
-        } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
-        }
-    }
-
     /**
      * Creates a {@code FileHandler} for the log file.
      * @throws IOException if there are problems opening the file.
@@ -10,6 +10,7 @@ public class Messages {
     public static final String MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX = "There is no student at the given index!";
     public static final String MESSAGE_STUDENTS_LISTED_OVERVIEW = "%1$d students listed!";
     public static final String MESSAGE_CLASHING_LESSON = "You have another lesson that clashes with this lesson!";
+    public static final String MESSAGE_CLASHING_LESSON_WITH = MESSAGE_CLASHING_LESSON + "\nClashing lessons:\n%1$s";
     public static final String MESSAGE_STUDENTS_SORTED = "Students sorted by %1$s!";
 
     public static final String MESSAGE_INVALID_NOTE_DISPLAYED_INDEX = "There is no note at the given index!";
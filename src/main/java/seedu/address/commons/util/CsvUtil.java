@@ -0,0 +1,110 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Reads and writes the records of comma separated values (CSV) files.
+ * Fields that contain commas, quotes or line breaks are enclosed in double quotes, and a quote within such a field
+ * is written as two quotes.
+ */
+public class CsvUtil {
+
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "A quoted field is not closed";
+    public static final String MESSAGE_INVALID_QUOTE = "A quote in a field that is not quoted";
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    /**
+     * Returns true if {@code text} ends inside a quoted field, so that the record it starts continues on the next
+     * line.
+     */
+    public static boolean isRecordIncomplete(String text) {
+        requireNonNull(text);
+        boolean isQuoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == QUOTE) {
+                isQuoted = !isQuoted;
+            }
+        }
+        return isQuoted;
+    }
+
+    /**
+     * Splits the CSV record {@code record} into its fields, without their quotes.
+     *
+     * @throws IllegalValueException if the quotes in {@code record} are not balanced or out of place.
+     */
+    public static List<String> parseRecord(String record) throws IllegalValueException {
+        requireNonNull(record);
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int i = 0;
+        while (true) {
+            if (i < record.length() && record.charAt(i) == QUOTE) {
+                i = readQuotedField(record, i + 1, field);
+                if (i < record.length() && record.charAt(i) != SEPARATOR) {
+                    throw new IllegalValueException(MESSAGE_INVALID_QUOTE);
+                }
+            } else {
+                for (; i < record.length() && record.charAt(i) != SEPARATOR; i++) {
+                    if (record.charAt(i) == QUOTE) {
+                        throw new IllegalValueException(MESSAGE_INVALID_QUOTE);
+                    }
+                    field.append(record.charAt(i));
+                }
+            }
+            fields.add(field.toString());
+            field.setLength(0);
+            if (i >= record.length()) {
+                return fields;
+            }
+            i++; // skips the separator
+        }
+    }
+
+    /**
+     * Appends the quoted field starting at {@code start}, just after its opening quote, to {@code field}, and
+     * returns the index just after its closing quote.
+     */
+    private static int readQuotedField(String record, int start, StringBuilder field) throws IllegalValueException {
+        for (int i = start; i < record.length(); i++) {
+            char c = record.charAt(i);
+            if (c != QUOTE) {
+                field.append(c);
+            } else if (i + 1 < record.length() && record.charAt(i + 1) == QUOTE) {
+                field.append(QUOTE);
+                i++;
+            } else {
+                return i + 1;
+            }
+        }
+        throw new IllegalValueException(MESSAGE_UNTERMINATED_QUOTE);
+    }
+
+    /**
+     * Joins {@code fields} into a CSV record, quoting the fields that need it.
+     */
+    public static String toRecord(List<String> fields) {
+        requireNonNull(fields);
+        StringBuilder record = new StringBuilder();
+        for (int i = 0; i < fields.size(); i++) {
+            String field = fields.get(i);
+            if (i > 0) {
+                record.append(SEPARATOR);
+            }
+            if (field.indexOf(SEPARATOR) >= 0 || field.indexOf(QUOTE) >= 0
+                    || field.indexOf('\n') >= 0 || field.indexOf('\r') >= 0) {
+                record.append(QUOTE).append(field.replace("\"", "\"\"")).append(QUOTE);
+            } else {
+                record.append(field);
+            }
+        }
+        return record.toString();
+    }
+}
@@ -1,17 +1,28 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    /** The extension appended to the name of a file to get the name of its backup. */
+    public static final String BACKUP_FILE_EXTENSION = ".bak";
+
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -75,9 +86,171 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The file is replaced atomically, so it is never left partially written.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeToFileAtomically(file, out -> out.write(bytes), false);
+    }
+
+    /**
+     * Writes the content written by {@code contentWriter} to a file, creating the file and its missing parent
+     * directories if they do not exist yet.
+     * <p>
+     * The content is first written to a temporary file in the same directory and forced to the disk, and then
+     * renamed over the file atomically where the file system supports it. If writing fails part way, for example
+     * because the disk is full, the file keeps its previous content.
+     *
+     * @param isBackupKept if true, the previous content of the file is kept in a file with the same name followed
+     *     by {@link #BACKUP_FILE_EXTENSION}, replacing the previous backup.
+     * @throws IOException if the content cannot be written, or if {@code contentWriter} throws it.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter contentWriter, boolean isBackupKept)
+            throws IOException {
+        Path absoluteFile = file.toAbsolutePath();
+        createParentDirsOfFile(absoluteFile);
+
+        Path tempFile = absoluteFile.resolveSibling(absoluteFile.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ChannelOutputStream out = new ChannelOutputStream(channel);
+                contentWriter.writeTo(out);
+                out.flush();
+                channel.force(true);
+            }
+
+            replaceFile(tempFile, absoluteFile, isBackupKept);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Renames {@code source}, which must already be forced to the disk, over {@code target} atomically where the
+     * file system supports it, and forces the rename to the disk.
+     *
+     * @param isBackupKept if true, the previous content of {@code target} is kept in a file with the same name
+     *     followed by {@link #BACKUP_FILE_EXTENSION}, replacing the previous backup.
+     */
+    public static void replaceFile(Path source, Path target, boolean isBackupKept) throws IOException {
+        Path absoluteTarget = target.toAbsolutePath();
+        if (isBackupKept && isFileExists(absoluteTarget)) {
+            backUp(absoluteTarget);
+        }
+        moveAtomically(source, absoluteTarget);
+        forceDirectory(absoluteTarget.getParent());
+    }
+
+    /**
+     * Appends {@code bytes} to a file, creating the file if it does not exist yet, and forces them to the disk
+     * before returning. A newly created file is also forced into its directory.
+     */
+    public static void appendToFile(Path file, byte[] bytes) throws IOException {
+        Path absoluteFile = file.toAbsolutePath();
+        boolean isCreated = !Files.exists(absoluteFile);
+        try (FileChannel channel = FileChannel.open(absoluteFile, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        if (isCreated) {
+            forceDirectory(absoluteFile.getParent());
+        }
+    }
+
+    /**
+     * Replaces the backup of {@code file} with its current content.
+     * A hard link is used where the file system supports it, so that the content does not have to be copied.
+     */
+    private static void backUp(Path file) throws IOException {
+        Path backupFile = file.resolveSibling(file.getFileName() + BACKUP_FILE_EXTENSION);
+        Files.deleteIfExists(backupFile);
+        try {
+            Files.createLink(backupFile, file);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(file, backupFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the renaming of files in {@code directory} to the disk.
+     * Not all platforms allow directories to be opened, in which case this is left to the file system.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // the rename is still atomic, it may just not be durable yet
+        }
+    }
+
+    /**
+     * Writes content to an {@code OutputStream}.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * An {@code OutputStream} that buffers its content in a direct buffer, which is written to a
+     * {@code FileChannel} without being copied again. Closing the stream only flushes it, so that the channel
+     * can still be forced to the disk afterwards.
+     */
+    private static class ChannelOutputStream extends OutputStream {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+
+        ChannelOutputStream(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+            buffer.put((byte) b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            while (length > 0) {
+                if (!buffer.hasRemaining()) {
+                    flush();
+                }
+                int chunkLength = Math.min(length, buffer.remaining());
+                buffer.put(bytes, offset, chunkLength);
+                offset += chunkLength;
+                length -= chunkLength;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
     }
 
 }
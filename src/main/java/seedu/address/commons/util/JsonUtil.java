@@ -3,6 +3,8 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,10 +13,15 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -39,8 +46,18 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    // values written to a stream are buffered by the generator, instead of being flushed to the file one by one
+    private static ObjectWriter streamingWriter = objectMapper.writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        serializeObjectToJsonFile(jsonFile, objectToSerialize, false);
+    }
+
+    static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize, boolean isBackupKept)
+            throws IOException {
+        FileUtil.writeToFileAtomically(jsonFile, out -> objectMapper.writerWithDefaultPrettyPrinter()
+                .writeValue(out, objectToSerialize), isBackupKept);
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
@@ -84,12 +101,78 @@ public class JsonUtil {
      * @throws IOException if there was an error during writing to the file
      */
     public static <T> void saveJsonFile(T jsonFile, Path filePath) throws IOException {
+        saveJsonFile(jsonFile, filePath, false);
+    }
+
+    /**
+     * Similar to {@link #saveJsonFile(Object, Path)}.
+     * The file is replaced atomically, so it is never left partially written.
+     * @param isBackupKept if true, the previous content of the file is kept as a backup.
+     * @see FileUtil#writeToFileAtomically
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, boolean isBackupKept) throws IOException {
         requireNonNull(filePath);
         requireNonNull(jsonFile);
 
-        serializeObjectToJsonFile(filePath, jsonFile);
+        serializeObjectToJsonFile(filePath, jsonFile, isBackupKept);
     }
 
+    /**
+     * Opens a parser that reads the JSON data in the given file one token at a time.
+     * Values can be bound to objects with {@link JsonParser#readValueAs(Class)}, as in {@link #readJsonFile}.
+     * The caller is responsible for closing the parser, which also closes the file.
+     * @param filePath cannot be null
+     * @throws IOException if the file cannot be opened
+     */
+    public static JsonParser createParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return createParser(Files.newInputStream(filePath));
+    }
+
+    /**
+     * Similar to {@link #createParser(Path)}, but reads the JSON data from the given stream.
+     * Locations reported by the parser are byte offsets into the stream.
+     */
+    public static JsonParser createParser(InputStream in) throws IOException {
+        requireNonNull(in);
+        return objectMapper.getFactory().createParser(in);
+    }
+
+    /**
+     * Opens a generator that writes JSON data to the given stream in the same format as {@link #saveJsonFile}.
+     * The caller is responsible for closing the generator, which also flushes and closes the stream.
+     * @param out cannot be null
+     * @throws IOException if the generator cannot be created
+     */
+    public static JsonGenerator createGenerator(OutputStream out) throws IOException {
+        requireNonNull(out);
+        return objectMapper.getFactory()
+                .createGenerator(out, JsonEncoding.UTF8)
+                .useDefaultPrettyPrinter();
+    }
+
+    /**
+     * Writes {@code value} as the next JSON value of {@code generator}.
+     * @throws IOException if there was an error during writing
+     */
+    public static <T> void writeValue(JsonGenerator generator, T value) throws IOException {
+        streamingWriter.writeValue(generator, value);
+    }
+
+    /**
+     * Converts a given instance of a class into a tree of JSON nodes, as it would be written by {@link #toJsonString}.
+     */
+    public static <T> JsonNode valueToTree(T instance) {
+        return objectMapper.valueToTree(instance);
+    }
+
+    /**
+     * Converts a given tree of JSON nodes to instance of a class, as it would be read by {@link #fromJsonString}.
+     * @throws JsonProcessingException if the tree does not correspond to the structure of the class
+     */
+    public static <T> T treeToValue(JsonNode tree, Class<T> instanceClass) throws JsonProcessingException {
+        return objectMapper.treeToValue(tree, instanceClass);
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -100,6 +183,15 @@ public class JsonUtil {
         return objectMapper.readValue(json, instanceClass);
     }
 
+    /**
+     * Converts a given UTF-8 encoded JSON data to instance of a class
+     * @param <T> The generic type to create an instance of
+     * @return The instance of T with the specified values in the JSON data
+     */
+    public static <T> T fromJsonBytes(byte[] json, Class<T> instanceClass) throws IOException {
+        return objectMapper.readValue(json, instanceClass);
+    }
+
     /**
      * Converts a given instance of a class into its JSON data string representation
      * @param instance The T object to be converted into the JSON string
@@ -110,6 +202,16 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string without line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
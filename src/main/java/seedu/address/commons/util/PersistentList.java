@@ -0,0 +1,290 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * An immutable list that is changed by creating new lists which share most of their structure with the old list.
+ *
+ * The elements are kept in a balanced binary tree ordered by position, in which every node knows the size of its
+ * subtree. Getting, appending, replacing and removing an element each take O(log n) time, and a change only copies
+ * the O(log n) nodes on the path to the changed element, so keeping the old list as well costs almost nothing.
+ * The list cannot be modified through the {@code List} interface, so it can be handed out as a read-only view.
+ * A list kept in sorted order can be searched in O(log n) time with {@link #indexOfFirst(Predicate)}.
+ */
+public final class PersistentList<E> extends AbstractList<E> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<E> root;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list of the elements of {@code elements}, in iteration order.
+     * If {@code elements} is already a {@code PersistentList}, it is returned without copying.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> copyOf(Collection<? extends E> elements) {
+        requireNonNull(elements);
+        if (elements instanceof PersistentList) {
+            return (PersistentList<E>) elements;
+        }
+        Object[] array = elements.toArray();
+        for (Object element : array) {
+            requireNonNull(element);
+        }
+        return array.length == 0 ? empty() : new PersistentList<>(build((E[]) array, 0, array.length));
+    }
+
+    @Override
+    public E get(int index) {
+        checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.value;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Returns a list with {@code element} appended to the elements of this list.
+     */
+    public PersistentList<E> plus(E element) {
+        requireNonNull(element);
+        return new PersistentList<>(insert(root, size(), element));
+    }
+
+    /**
+     * Returns a list with {@code element} inserted at {@code index}, before the element at {@code index} of this
+     * list, if any.
+     */
+    public PersistentList<E> plus(int index, E element) {
+        requireNonNull(element);
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        return new PersistentList<>(insert(root, index, element));
+    }
+
+    /**
+     * Returns the index of the first element that satisfies {@code condition}, or the size of the list if there is
+     * none. The list must be partitioned by {@code condition}, with all elements that do not satisfy it before all
+     * elements that do, such as the elements that are at least some value in a sorted list.
+     */
+    public int indexOfFirst(Predicate<? super E> condition) {
+        requireNonNull(condition);
+        int index = 0;
+        int firstIndex = size();
+        Node<E> node = root;
+        while (node != null) {
+            int leftSize = size(node.left);
+            if (condition.test(node.value)) {
+                firstIndex = index + leftSize;
+                node = node.left;
+            } else {
+                index += leftSize + 1;
+                node = node.right;
+            }
+        }
+        return firstIndex;
+    }
+
+    /**
+     * Returns a list with the element at {@code index} of this list replaced by {@code element}.
+     */
+    public PersistentList<E> with(int index, E element) {
+        requireNonNull(element);
+        checkIndex(index, size());
+        return new PersistentList<>(set(root, index, element));
+    }
+
+    /**
+     * Returns a list with the element at {@code index} of this list removed.
+     */
+    public PersistentList<E> minus(int index) {
+        checkIndex(index, size());
+        return new PersistentList<>(remove(root, index));
+    }
+
+    /**
+     * Returns a list with the first occurrence of {@code element} removed, or this list if it does not contain
+     * {@code element}.
+     */
+    public PersistentList<E> without(Object element) {
+        int index = indexOf(element);
+        return index == -1 ? this : minus(index);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private final Deque<Node<E>> path = new ArrayDeque<>();
+
+            {
+                pushLeftmostPath(root);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public E next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<E> node = path.pop();
+                pushLeftmostPath(node.right);
+                return node.value;
+            }
+
+            private void pushLeftmostPath(Node<E> node) {
+                for (; node != null; node = node.left) {
+                    path.push(node);
+                }
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        // lists that share their whole tree are equal without comparing their elements
+        return (other instanceof PersistentList && ((PersistentList<?>) other).root == root) || super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private static <E> Node<E> build(E[] elements, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node<>(build(elements, from, middle), elements[middle], build(elements, middle + 1, to));
+    }
+
+    private static <E> Node<E> insert(Node<E> node, int index, E element) {
+        if (node == null) {
+            return new Node<>(null, element, null);
+        }
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            return balance(insert(node.left, index, element), node.value, node.right);
+        }
+        return balance(node.left, node.value, insert(node.right, index - leftSize - 1, element));
+    }
+
+    private static <E> Node<E> set(Node<E> node, int index, E element) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return new Node<>(set(node.left, index, element), node.value, node.right);
+        } else if (index == leftSize) {
+            return new Node<>(node.left, element, node.right);
+        }
+        return new Node<>(node.left, node.value, set(node.right, index - leftSize - 1, element));
+    }
+
+    private static <E> Node<E> remove(Node<E> node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return balance(remove(node.left, index), node.value, node.right);
+        } else if (index > leftSize) {
+            return balance(node.left, node.value, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        Node<E> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(node.left, successor.value, remove(node.right, 0));
+    }
+
+    /**
+     * Returns a node with the given children and value, rotated so that the heights of its subtrees differ by at
+     * most one, if the heights of {@code left} and {@code right} differ by at most two.
+     */
+    private static <E> Node<E> balance(Node<E> left, E value, Node<E> right) {
+        int leftHeight = height(left);
+        int rightHeight = height(right);
+        if (leftHeight > rightHeight + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node<>(left.left, left.value, new Node<>(left.right, value, right));
+            }
+            return new Node<>(new Node<>(left.left, left.value, left.right.left), left.right.value,
+                    new Node<>(left.right.right, value, right));
+        } else if (rightHeight > leftHeight + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node<>(new Node<>(left, value, right.left), right.value, right.right);
+            }
+            return new Node<>(new Node<>(left, value, right.left.left), right.left.value,
+                    new Node<>(right.left.right, right.value, right.right));
+        }
+        return new Node<>(left, value, right);
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static class Node<E> {
+        private final Node<E> left;
+        private final E value;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        Node(Node<E> left, E value, Node<E> right) {
+            this.left = left;
+            this.value = value;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+}
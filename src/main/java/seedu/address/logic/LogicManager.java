@@ -12,6 +12,9 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.metrics.CommandMetrics.Phase;
+import seedu.address.logic.metrics.CommandMetrics.Recording;
 import seedu.address.logic.parser.ReeveParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -30,32 +33,48 @@ public class LogicManager implements Logic {
 
     private final Model model;
     private final Storage storage;
+    private final CommandMetrics metrics;
     private final ReeveParser reeveParser;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, new CommandMetrics());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which records the
+     * commands that succeed in {@code metrics}.
+     */
+    public LogicManager(Model model, Storage storage, CommandMetrics metrics) {
         this.model = model;
         this.storage = storage;
-        reeveParser = new ReeveParser();
+        this.metrics = metrics;
+        reeveParser = new ReeveParser(metrics);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
 
+        Recording recording = metrics.startRecording();
         CommandResult commandResult;
         Command command = reeveParser.parseCommand(commandText);
+        recording.endPhase(Phase.PARSE);
         commandResult = command.execute(model);
+        recording.endPhase(Phase.EXECUTE);
 
         try {
             storage.saveAddressBook(model.getReeve());
+            recording.endPhase(Phase.SAVE_REEVE);
             storage.saveNotebook(model.getNotebook());
+            recording.endPhase(Phase.SAVE_NOTEBOOK);
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
 
+        metrics.record(ReeveParser.getCommandWord(commandText), recording);
         return commandResult;
     }
 
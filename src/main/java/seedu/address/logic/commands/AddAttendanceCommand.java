@@ -73,8 +73,7 @@ public class AddAttendanceCommand extends AttendanceCommand {
             throw new CommandException(MESSAGE_INVALID_ATTENDANCE_DATE);
         }
 
-        List<Attendance> updatedAttendance = updateAttendanceList(studentToAddAttendance.getAttendance());
-        Student updatedStudent = updateStudentAttendance(studentToAddAttendance, updatedAttendance);
+        Student updatedStudent = studentToAddAttendance.addAttendance(attendanceToAdd);
 
         model.setStudent(studentToAddAttendance, updatedStudent);
         logger.log(Level.INFO, "Execution complete");
@@ -82,13 +81,6 @@ public class AddAttendanceCommand extends AttendanceCommand {
         return new CommandResult(String.format(MESSAGE_SUCCESS, updatedStudent.getName(), attendanceToAdd));
     }
 
-    private List<Attendance> updateAttendanceList(List<Attendance> attendanceList) {
-        assert attendanceList.stream().noneMatch(attendanceToAdd::isSameAttendance);
-
-        attendanceList.add(attendanceToAdd);
-        return attendanceList;
-    }
-
     @Override
     public boolean equals(Object obj) {
         if (this == obj) {
@@ -11,7 +11,8 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_VENUE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_YEAR;
 
-import seedu.address.commons.core.Messages;
+import java.util.List;
+
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.student.Student;
@@ -67,8 +68,9 @@ public class AddCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_STUDENT);
         }
 
-        if (model.hasClashingClassTimeWith(toAdd)) {
-            throw new CommandException(Messages.MESSAGE_CLASHING_LESSON);
+        List<Student> clashingStudents = model.getClashingStudents(toAdd);
+        if (!clashingStudents.isEmpty()) {
+            throw new CommandException(getClashingLessonMessage(clashingStudents));
         }
 
         model.addStudent(toAdd);
@@ -63,10 +63,7 @@ public class AddDetailCommand extends DetailCommand {
 
         Student studentToAddDetail = lastShownList.get(index.getZeroBased());
 
-        List<Detail> details = studentToAddDetail.getDetails();
-        details.add(detailToAdd);
-
-        Student updatedStudent = super.updateStudentDetail(studentToAddDetail, details);
+        Student updatedStudent = studentToAddDetail.addDetail(detailToAdd);
 
         model.setStudent(studentToAddDetail, updatedStudent);
         logger.log(Level.INFO, "Execution complete");
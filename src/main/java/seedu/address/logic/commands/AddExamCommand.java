@@ -6,7 +6,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_EXAM_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EXAM_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SCORE;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import seedu.address.commons.core.Messages;
@@ -68,11 +67,7 @@ public class AddExamCommand extends ExamCommand {
                     toAdd.getName(), selectedStudent.getName()));
         }
 
-        ArrayList<Exam> exams = new ArrayList<>(selectedStudent.getExams());
-        exams.add(toAdd);
-        Student updatedStudent = new Student(selectedStudent.getName(), selectedStudent.getPhone(),
-                selectedStudent.getSchool(), selectedStudent.getYear(), selectedStudent.getAdmin(),
-                selectedStudent.getQuestions(), exams, selectedStudent.getAttendance());
+        Student updatedStudent = selectedStudent.addExam(toAdd);
         model.setStudent(selectedStudent, updatedStudent);
         return new CommandResult(String.format(MESSAGE_EXAM_ADDED_SUCCESS, updatedStudent.getName(), toAdd));
     }
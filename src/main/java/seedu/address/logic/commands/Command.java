@@ -1,7 +1,12 @@
 package seedu.address.logic.commands;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.student.Student;
 
 /**
  * Represents a command with hidden internal logic and the ability to be executed.
@@ -17,4 +22,14 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns the error message listing the lessons of {@code clashingStudents}.
+     */
+    protected static String getClashingLessonMessage(List<Student> clashingStudents) {
+        String clashingLessons = clashingStudents.stream()
+                .map(student -> String.format("- %s: %s", student.getName(), student.getClassTime()))
+                .collect(Collectors.joining("\n"));
+        return String.format(Messages.MESSAGE_CLASHING_LESSON_WITH, clashingLessons);
+    }
+
 }
@@ -0,0 +1,49 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_YEAR;
+
+import seedu.address.model.Model;
+import seedu.address.model.student.CategoryFilter;
+
+/**
+ * Counts the students in Reeve by school type or year, lesson day and overdue fees, without changing the
+ * displayed list.
+ */
+public class CountCommand extends Command {
+
+    public static final String COMMAND_WORD = "count";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Counts the students in all of the given categories.\n"
+            + "Parameters: "
+            + "[" + FilterCommand.OVERDUE_KEYWORD + "]"
+            + " [" + PREFIX_YEAR + "YEAR_OR_SCHOOL_TYPE]"
+            + " [" + PREFIX_TIME + "DAY]\n\n"
+            + "Example: " + COMMAND_WORD + " "
+            + FilterCommand.OVERDUE_KEYWORD + " "
+            + PREFIX_YEAR + "sec "
+            + PREFIX_TIME + "6";
+
+    public static final String MESSAGE_COUNT = "%1$d students (%2$s)";
+
+    private final CategoryFilter filter;
+
+    public CountCommand(CategoryFilter filter) {
+        requireNonNull(filter);
+        this.filter = filter;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(String.format(MESSAGE_COUNT, model.countStudents(filter), filter));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CountCommand // instanceof handles nulls
+                && filter.equals(((CountCommand) other).filter)); // state check
+    }
+}
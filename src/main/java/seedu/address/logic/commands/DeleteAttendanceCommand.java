@@ -7,9 +7,9 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_ATTENDANCE_DATE;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Stream;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
@@ -66,30 +66,18 @@ public class DeleteAttendanceCommand extends AttendanceCommand {
         }
         Student studentToDeleteAttendance = lastShownList.get(index.getZeroBased());
 
-        List<Attendance> updatedAttendance = updateAttendanceList(studentToDeleteAttendance.getAttendance());
-        Student updatedStudent = updateStudentAttendance(studentToDeleteAttendance, updatedAttendance);
-
-        model.setStudent(studentToDeleteAttendance, updatedStudent);
-        logger.log(Level.INFO, "Execution complete");
-
-        return new CommandResult(String.format(MESSAGE_SUCCESS, updatedStudent.getName(), getUserInputDateString()));
-    }
-
-    private List<Attendance> updateAttendanceList(List<Attendance> attendanceList) throws CommandException {
-        boolean containsAttendanceAtDate = attendanceList.stream()
-                .anyMatch(attendance -> attendance.getLessonDate().equals(attendanceDate));
-
-        if (!containsAttendanceAtDate) {
+        Optional<Attendance> attendanceToDelete =
+                studentToDeleteAttendance.getAcademic().getAttendanceOn(attendanceDate);
+        if (attendanceToDelete.isEmpty()) {
             logger.log(Level.WARNING, "Invalid attendance date error");
             throw new CommandException(MESSAGE_INVALID_ATTENDANCE_DATE);
         }
+        Student updatedStudent = studentToDeleteAttendance.deleteAttendance(attendanceToDelete.get());
 
-        Stream<Attendance> matchingAttendance = attendanceList.stream()
-                .filter(attendance -> attendance.getLessonDate().equals(attendanceDate));
-        Attendance attendanceToDelete = matchingAttendance.findFirst().get();
-        attendanceList.remove(attendanceToDelete);
+        model.setStudent(studentToDeleteAttendance, updatedStudent);
+        logger.log(Level.INFO, "Execution complete");
 
-        return attendanceList;
+        return new CommandResult(String.format(MESSAGE_SUCCESS, updatedStudent.getName(), getUserInputDateString()));
     }
 
     private String getUserInputDateString() {
@@ -69,10 +69,8 @@ public class DeleteDetailCommand extends DetailCommand {
             throw new CommandException(MESSAGE_BAD_DETAIL_INDEX);
         }
 
-        List<Detail> details = studentToDeleteDetail.getDetails();
-        Detail removedDetail = details.remove(detailIndex.getZeroBased());
-
-        Student updatedStudent = super.updateStudentDetail(studentToDeleteDetail, details);
+        Detail removedDetail = studentToDeleteDetail.getDetails().get(detailIndex.getZeroBased());
+        Student updatedStudent = studentToDeleteDetail.deleteDetail(detailIndex.getZeroBased());
 
         model.setStudent(studentToDeleteDetail, updatedStudent);
 
@@ -4,7 +4,6 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EXAM_INDEX;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import seedu.address.commons.core.Messages;
@@ -62,10 +61,8 @@ public class DeleteExamCommand extends ExamCommand {
             throw new CommandException(MESSAGE_MISSING_EXAM_INDEX);
         }
 
-        ArrayList<Exam> exams = new ArrayList<>(studentToDeleteExam.getExams());
-        Exam removedExam = exams.remove(examIndex.getZeroBased());
-
-        Student updatedStudent = super.updateStudentExam(studentToDeleteExam, exams);
+        Exam removedExam = studentToDeleteExam.getExams().get(examIndex.getZeroBased());
+        Student updatedStudent = studentToDeleteExam.deleteExam(removedExam);
 
         model.setStudent(studentToDeleteExam, updatedStudent);
         return new CommandResult(String.format(MESSAGE_EXAM_DELETED_SUCCESS, updatedStudent.getName(), removedExam));
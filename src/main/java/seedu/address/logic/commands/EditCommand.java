@@ -14,6 +14,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
@@ -121,12 +122,18 @@ public class EditCommand extends Command {
         ClassTime editedStudentClassTime = editedStudent.getAdmin().getClassTime();
 
         boolean isClassTimeChanged = !(editedStudentClassTime.equals(studentToEditClassTime));
-        boolean isStudentTimeClashWithOthers = model.hasClashingClassTimeWith(editedStudent);
-        boolean isNewClassTimeClashing = isClassTimeChanged && isStudentTimeClashWithOthers;
+        if (!isClassTimeChanged) {
+            return;
+        }
+
+        // the lesson being edited is replaced, so it cannot clash with the new class time
+        List<Student> clashingStudents = model.getClashingStudents(editedStudent).stream()
+                .filter(student -> !student.equals(studentToEdit))
+                .collect(Collectors.toList());
 
-        if (isNewClassTimeClashing) {
+        if (!clashingStudents.isEmpty()) {
             logger.log(Level.WARNING, "Clashing class time input error");
-            throw new CommandException(Messages.MESSAGE_CLASHING_LESSON);
+            throw new CommandException(getClashingLessonMessage(clashingStudents));
         }
     }
 
@@ -76,10 +76,7 @@ public class EditDetailCommand extends DetailCommand {
             throw new CommandException(MESSAGE_BAD_DETAIL_INDEX);
         }
 
-        List<Detail> details = studentToEditDetail.getDetails();
-        details.set(detailIndex.getZeroBased(), detailToAdd);
-
-        Student updatedStudent = super.updateStudentDetail(studentToEditDetail, details);
+        Student updatedStudent = studentToEditDetail.setDetail(detailIndex.getZeroBased(), detailToAdd);
 
         model.setStudent(studentToEditDetail, updatedStudent);
 
@@ -0,0 +1,79 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EXAM_NAME;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.student.ExamStatistics;
+
+/**
+ * Shows the statistics of an exam, or a summary of every exam, across all students in Reeve.
+ */
+public class ExamAnalyticsCommand extends ExamCommand {
+
+    public static final String COMMAND_WORD = "analytics";
+
+    public static final String MESSAGE_USAGE = ExamCommand.COMMAND_WORD + " " + COMMAND_WORD
+            + ": Shows the statistics of an exam across all students, "
+            + "or a summary of every exam if no exam is given.\n\n"
+            + "Parameters: [" + PREFIX_EXAM_NAME + "EXAM_NAME]\n\n"
+            + "Example: "
+            + ExamCommand.COMMAND_WORD + " "
+            + COMMAND_WORD + " "
+            + PREFIX_EXAM_NAME + "Mid Year Examination 2020";
+
+    public static final String MESSAGE_SUMMARY = "Exams taken by students:";
+    public static final String MESSAGE_NO_EXAMS = "No students have taken any exams";
+    public static final String MESSAGE_EXAM_NOT_FOUND = "No students have taken %1$s";
+
+    private final String examName; // null for every exam
+
+    /**
+     * Creates an ExamAnalyticsCommand to show the statistics of the exam named {@code examName}.
+     */
+    public ExamAnalyticsCommand(String examName) {
+        requireNonNull(examName);
+        this.examName = examName;
+    }
+
+    /**
+     * Creates an ExamAnalyticsCommand to show a summary of every exam.
+     */
+    public ExamAnalyticsCommand() {
+        this.examName = null;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (examName != null) {
+            Optional<ExamStatistics> statistics = model.getExamStatistics(examName);
+            if (statistics.isEmpty()) {
+                throw new CommandException(String.format(MESSAGE_EXAM_NOT_FOUND, examName));
+            }
+            return new CommandResult(statistics.get().toString());
+        }
+
+        List<ExamStatistics> allStatistics = model.getAllExamStatistics();
+        if (allStatistics.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_EXAMS);
+        }
+        StringBuilder builder = new StringBuilder(MESSAGE_SUMMARY);
+        for (ExamStatistics statistics : allStatistics) {
+            builder.append("\n").append(statistics.getSummary());
+        }
+        return new CommandResult(builder.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExamAnalyticsCommand // instanceof handles nulls
+                && Objects.equals(examName, ((ExamAnalyticsCommand) other).examName)); // state check
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.storage.CsvExporter;
+import seedu.address.storage.CsvRecordType;
+
+/**
+ * Exports the students in Reeve, or their attendance records or exams, to a CSV file.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports every student in Reeve, or the attendance "
+            + "records or exams of every student, to a CSV file that can be imported with the "
+            + ImportCommand.COMMAND_WORD + " command. An existing file is replaced.\n\n"
+            + "Parameters: TYPE FILE\n"
+            + "TYPE is one of: students, attendance, exams\n\n"
+            + "Example: " + COMMAND_WORD + " exams backup/exams.csv";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d rows of %2$s to %3$s";
+    public static final String MESSAGE_FILE_NOT_WRITTEN = "Could not export to %1$s: %2$s";
+
+    private final CsvRecordType type;
+    private final Path file;
+
+    /**
+     * Creates an ExportCommand to export the records of {@code type} to {@code file}.
+     */
+    public ExportCommand(CsvRecordType type, Path file) {
+        requireAllNonNull(type, file);
+        this.type = type;
+        this.file = file;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        try {
+            int rowCount = new CsvExporter(file, type).exportRecords(model.getReeve().getStudentList());
+            return new CommandResult(String.format(MESSAGE_SUCCESS, rowCount, type.getName(), file));
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_WRITTEN, file, ioe), ioe);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportCommand // instanceof handles nulls
+                && type == ((ExportCommand) other).type
+                && file.equals(((ExportCommand) other).file)); // state check
+    }
+}
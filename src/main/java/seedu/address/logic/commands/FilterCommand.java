@@ -0,0 +1,51 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_YEAR;
+
+import seedu.address.model.Model;
+import seedu.address.model.student.CategoryFilter;
+
+/**
+ * Lists the students in Reeve by school type or year, lesson day and overdue fees.
+ */
+public class FilterCommand extends Command {
+
+    public static final String COMMAND_WORD = "filter";
+
+    public static final String OVERDUE_KEYWORD = "overdue";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the students in all of the given categories "
+            + "with index numbers.\n"
+            + "Parameters: "
+            + "[" + OVERDUE_KEYWORD + "]"
+            + " [" + PREFIX_YEAR + "YEAR_OR_SCHOOL_TYPE]"
+            + " [" + PREFIX_TIME + "DAY]\n\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_YEAR + "pri "
+            + PREFIX_TIME + "sat";
+
+    private final CategoryFilter filter;
+
+    public FilterCommand(CategoryFilter filter) {
+        requireNonNull(filter);
+        this.filter = filter;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredStudentList(model.getCategoryPredicate(filter));
+        return new CommandResult(String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW,
+                model.getSortedStudentList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FilterCommand // instanceof handles nulls
+                && filter.equals(((FilterCommand) other).filter)); // state check
+    }
+}
@@ -16,21 +16,28 @@ import seedu.address.model.Model;
 import seedu.address.model.student.NameContainsKeywordsPredicate;
 import seedu.address.model.student.SchoolContainsKeywordsPredicate;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentQueryPlan;
 import seedu.address.model.student.YearMatchPredicate;
 
 
 /**
  * Finds and lists all persons in Reeve by a certain criteria.
  * Keyword matching is case insensitive.
+ * The criteria are run as a {@code StudentQueryPlan}, which can be shown by starting the arguments with
+ * {@code explain}.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
+    public static final String EXPLAIN_KEYWORD = "explain";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Given a non-empty list of filter criteria, "
             + "finds all persons whose fields match or contain keywords (if applicable, case-insensitive) "
             + "of each of the filter criteria and displays them as a list with index numbers.\n"
+            + "Starting with " + EXPLAIN_KEYWORD + " also shows how the search was run.\n"
             + "Parameters: "
+            + "[" + EXPLAIN_KEYWORD + "]"
             + " [" + PREFIX_NAME + "NAME]"
             + " [" + PREFIX_SCHOOL + "SCHOOL]"
             + " [" + PREFIX_YEAR + "YEAR]\n\n"
@@ -41,15 +48,24 @@ public class FindCommand extends Command {
 
     public static final String FIELD_NOT_GIVEN = "At least one field to search by must be provided.";
 
-
     private final FindStudentDescriptor findStudentDescriptor;
+    private final boolean isExplained;
 
     /**
      * @param findStudentDescriptor Details we use to filter Reeve with
      */
     public FindCommand(FindStudentDescriptor findStudentDescriptor) {
+        this(findStudentDescriptor, false);
+    }
+
+    /**
+     * @param findStudentDescriptor Details we use to filter Reeve with
+     * @param isExplained whether the result shows the plan that was used to find the students
+     */
+    public FindCommand(FindStudentDescriptor findStudentDescriptor, boolean isExplained) {
         requireNonNull(findStudentDescriptor);
         this.findStudentDescriptor = findStudentDescriptor;
+        this.isExplained = isExplained;
     }
 
     @Override
@@ -57,20 +73,21 @@ public class FindCommand extends Command {
         requireNonNull(model);
         List<Predicate<Student>> predicates = findStudentDescriptor.getPredicates();
         assert predicates.size() > 0;
-        Predicate<Student> consolidatedPredicate = student -> true;
-        for (Predicate <Student> currentPredicate : predicates) {
-            consolidatedPredicate = consolidatedPredicate.and(currentPredicate);
+        StudentQueryPlan queryPlan = model.planStudentQuery(predicates);
+        model.updateFilteredStudentList(queryPlan);
+        String message = String.format(Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW, model.getSortedStudentList().size());
+        if (isExplained) {
+            message += "\n" + queryPlan.explain();
         }
-        model.updateFilteredStudentList(consolidatedPredicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW, model.getSortedStudentList().size()));
+        return new CommandResult(message);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                && findStudentDescriptor.equals(((FindCommand) other).findStudentDescriptor)); // state check
+                && findStudentDescriptor.equals(((FindCommand) other).findStudentDescriptor) // state check
+                && isExplained == ((FindCommand) other).isExplained);
     }
 
     /**
@@ -0,0 +1,165 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentIdentity;
+import seedu.address.model.student.UniqueStudentList;
+import seedu.address.model.student.academic.Attendance;
+import seedu.address.model.student.academic.exam.Exam;
+import seedu.address.storage.CsvImporter;
+import seedu.address.storage.CsvRecord;
+import seedu.address.storage.CsvRecordType;
+
+/**
+ * Imports students, or the attendance records or exams of existing students, from a CSV file.
+ * The rows are validated in parallel, and the valid rows are added to Reeve together, so importing tens of
+ * thousands of rows is saved only once. Rows that cannot be imported are written to a report file instead.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports students, attendance records or exams "
+            + "from a CSV file. The first row of the file must name its columns, as in a file written by the "
+            + ExportCommand.COMMAND_WORD + " command. Rows that cannot be imported are written to a report file "
+            + "beside the imported file.\n\n"
+            + "Parameters: TYPE FILE\n"
+            + "TYPE is one of: students, attendance, exams\n\n"
+            + "Example: " + COMMAND_WORD + " students legacy/students.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d rows of %2$s from %3$s";
+    public static final String MESSAGE_ROWS_REJECTED = "\n%1$d rows could not be imported, see %2$s";
+    public static final String MESSAGE_FILE_NOT_READ = "Could not import %1$s: %2$s";
+    public static final String MESSAGE_DUPLICATE_STUDENT = "This student already exists in Reeve";
+    public static final String MESSAGE_STUDENT_NOT_FOUND = "This student does not exist in Reeve";
+    public static final String MESSAGE_DUPLICATE_ATTENDANCE = "The student already has attendance on this date";
+    public static final String MESSAGE_DUPLICATE_EXAM = "The student already has an exam with this name";
+
+    private final CsvRecordType type;
+    private final Path file;
+
+    /**
+     * Creates an ImportCommand to import the records of {@code type} in {@code file}.
+     */
+    public ImportCommand(CsvRecordType type, Path file) {
+        requireAllNonNull(type, file);
+        this.type = type;
+        this.file = file;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        CsvImporter importer = new CsvImporter(file, type);
+        Transaction transaction = new Transaction(model);
+        int rejectedRowCount;
+        try {
+            rejectedRowCount = importer.importRecords(transaction::add);
+        } catch (DataConversionException dce) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_READ, file, dce.getCause().getMessage()), dce);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_READ, file, ioe), ioe);
+        }
+        transaction.commit();
+
+        String message = String.format(MESSAGE_SUCCESS, transaction.importedRowCount, type.getName(), file);
+        if (rejectedRowCount > 0) {
+            message += String.format(MESSAGE_ROWS_REJECTED, rejectedRowCount, importer.getReportFile());
+        }
+        return new CommandResult(message);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportCommand // instanceof handles nulls
+                && type == ((ImportCommand) other).type
+                && file.equals(((ImportCommand) other).file)); // state check
+    }
+
+    /**
+     * The changes made by the rows imported so far, which are only made to the model once every row is read.
+     * Every row looks up its student once, in an index of the students by identity that includes the changes.
+     * New students must not have lessons clashing with those of the students in the model, or of the students
+     * added before them, which are kept in a list of their own so that their lessons are indexed too.
+     */
+    private static class Transaction {
+        private final Model model;
+        private final Map<StudentIdentity, Student> studentsByIdentity = new HashMap<>();
+        private final UniqueStudentList addedStudents = new UniqueStudentList();
+        private final Map<StudentIdentity, Student> changedStudents = new LinkedHashMap<>(); // before any change
+        private int importedRowCount = 0;
+
+        Transaction(Model model) {
+            this.model = model;
+            model.getReeve().getStudentList()
+                    .forEach(student -> studentsByIdentity.put(student.getIdentity(), student));
+        }
+
+        void add(CsvRecord record) throws IllegalValueException {
+            StudentIdentity identity = record.getIdentity();
+            Student student = studentsByIdentity.get(identity);
+            if (record.getStudent().isPresent()) {
+                if (student != null) {
+                    throw new IllegalValueException(MESSAGE_DUPLICATE_STUDENT);
+                }
+                Student newStudent = record.getStudent().get();
+                List<Student> clashingStudents = new ArrayList<>(model.getClashingStudents(newStudent));
+                clashingStudents.addAll(addedStudents.getClashingStudents(newStudent));
+                if (!clashingStudents.isEmpty()) {
+                    throw new IllegalValueException(getClashingLessonMessage(clashingStudents));
+                }
+                studentsByIdentity.put(identity, newStudent);
+                addedStudents.add(newStudent);
+                importedRowCount++;
+                return;
+            }
+
+            if (student == null) {
+                throw new IllegalValueException(MESSAGE_STUDENT_NOT_FOUND);
+            }
+            Student updatedStudent = record.getAttendance().isPresent()
+                    ? addAttendance(student, record.getAttendance().get())
+                    : addExam(student, record.getExam().get());
+            changedStudents.putIfAbsent(identity, student);
+            studentsByIdentity.put(identity, updatedStudent);
+            importedRowCount++;
+        }
+
+        void commit() {
+            if (!addedStudents.asUnmodifiableObservableList().isEmpty()) {
+                model.addStudents(addedStudents.asUnmodifiableObservableList());
+            }
+            changedStudents.forEach((identity, student) ->
+                    model.setStudent(student, studentsByIdentity.get(identity)));
+        }
+
+        private static Student addAttendance(Student student, Attendance attendance) throws IllegalValueException {
+            if (student.containsAttendance(attendance)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_ATTENDANCE);
+            }
+            return student.addAttendance(attendance);
+        }
+
+        private static Student addExam(Student student, Exam exam) throws IllegalValueException {
+            if (student.getExams().contains(exam)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_EXAM);
+            }
+            return student.addExam(exam);
+        }
+    }
+}
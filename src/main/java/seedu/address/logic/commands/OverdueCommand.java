@@ -4,19 +4,23 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW;
 
 import seedu.address.model.Model;
-import seedu.address.model.student.admin.OverdueFeePredicate;
+import seedu.address.model.student.CategoryFilter;
+import seedu.address.model.student.Year;
 
 /**
  * Finds and lists all students who have not paid their fees in more than a month.
+ * The list is kept up to date as the date changes.
  */
 public class OverdueCommand extends Command {
 
     public static final String COMMAND_WORD = "overdue";
 
+    private static final CategoryFilter OVERDUE_FILTER = new CategoryFilter((Year) null, null, true);
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredStudentList(new OverdueFeePredicate());
+        model.updateFilteredStudentList(model.getCategoryPredicate(OVERDUE_FILTER));
         return new CommandResult(String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW,
                 model.getSortedStudentList().size()));
     }
@@ -0,0 +1,97 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.Reeve;
+import seedu.address.model.notes.Notebook;
+import seedu.address.model.student.exceptions.StudentNotFoundException;
+
+/**
+ * Runs the commands in a file as a single change to Reeve.
+ * The indexes of students in the commands refer to the students displayed before the first command is run, and
+ * if any command fails, the changes made by the earlier commands are undone.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a file, one on each line. "
+            + "Blank lines and lines starting with " + COMMENT_PREFIX + " are skipped. "
+            + "Student indexes refer to the students displayed before the first command is run. "
+            + "If any command fails, none of the changes are kept.\n\n"
+            + "Parameters: FILE\n\n"
+            + "Example: " + COMMAND_WORD + " onboarding.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands from %2$s";
+    public static final String MESSAGE_COMMAND_FAILED = "Line %1$d: %2$s\nNo changes were kept.";
+    public static final String MESSAGE_STUDENT_DELETED =
+            "The student at the given index was deleted by an earlier line";
+
+    private final Path file;
+    private final Map<Integer, Command> commandsByLine; // in order of line number
+
+    /**
+     * Creates a RunCommand to run {@code commandsByLine} from {@code file}, in order of line number.
+     */
+    public RunCommand(Path file, Map<Integer, Command> commandsByLine) {
+        requireAllNonNull(file, commandsByLine);
+        this.file = file;
+        this.commandsByLine = new TreeMap<>(commandsByLine);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Reeve reeveBefore = new Reeve(model.getReeve());
+        Notebook notebookBefore = new Notebook(model.getNotebook());
+
+        boolean isSuccessful = false;
+        model.setSortedStudentListFrozen(true);
+        try {
+            for (Map.Entry<Integer, Command> entry : commandsByLine.entrySet()) {
+                try {
+                    entry.getValue().execute(model);
+                } catch (CommandException e) {
+                    throw failure(entry.getKey(), e.getMessage(), e);
+                } catch (StudentNotFoundException e) {
+                    throw failure(entry.getKey(), MESSAGE_STUDENT_DELETED, e);
+                } catch (RuntimeException e) {
+                    throw failure(entry.getKey(), Objects.toString(e.getMessage(), e.toString()), e);
+                }
+            }
+            isSuccessful = true;
+        } finally {
+            model.setSortedStudentListFrozen(false);
+            if (!isSuccessful) {
+                // Any other exit, including errors, must not leave the changes of the earlier lines behind.
+                model.setReeve(reeveBefore);
+                model.setNotebook(notebookBefore);
+            }
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commandsByLine.size(), file));
+    }
+
+    /**
+     * Returns the exception to throw for the command at {@code lineNumber} failing with {@code message}.
+     */
+    private static CommandException failure(int lineNumber, String message, Exception cause) {
+        return new CommandException(String.format(MESSAGE_COMMAND_FAILED, lineNumber, message), cause);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RunCommand // instanceof handles nulls
+                && file.equals(((RunCommand) other).file)
+                && commandsByLine.equals(((RunCommand) other).commandsByLine)); // state check
+    }
+}
@@ -44,7 +44,6 @@ public class ScheduleViewCommand extends ScheduleCommand {
         model.setScheduleViewDate(viewDate);
         model.setScheduleViewMode(viewMode);
         model.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
-        model.updateClassTimesToEvent();
         return new CommandResult(COMMAND_SUCCESS_MESSAGE, false, false, true, false);
     }
 
@@ -0,0 +1,77 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.StringJoiner;
+
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.metrics.CommandMetrics.CommandStats;
+import seedu.address.logic.metrics.CommandMetrics.Phase;
+import seedu.address.logic.metrics.Histogram;
+import seedu.address.model.Model;
+
+/**
+ * Shows how long each phase of the commands run so far took, for each command word.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows how long the commands run so far took "
+            + "to parse, to execute, and to save Reeve and the notebook, as the 50th and 99th percentiles in "
+            + "milliseconds.\n\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_NO_COMMANDS = "No commands have been run yet";
+    public static final String MESSAGE_HEADER = "Milliseconds taken by each phase (50th/99th percentile):";
+    public static final String MESSAGE_COMMAND = "%1$s (%2$d runs):";
+    public static final String MESSAGE_PHASE = " %1$s %2$.2f/%3$.2f";
+    public static final String MESSAGE_ALLOCATED = " allocated %1$d/%2$d KB";
+
+    private static final double NANOS_PER_MILLI = 1_000_000;
+    private static final long BYTES_PER_KILOBYTE = 1024;
+
+    private final CommandMetrics metrics;
+
+    /**
+     * Creates a StatsCommand to show the numbers recorded in {@code metrics}.
+     */
+    public StatsCommand(CommandMetrics metrics) {
+        requireNonNull(metrics);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        if (metrics.getStats().isEmpty()) {
+            return new CommandResult(MESSAGE_NO_COMMANDS);
+        }
+
+        StringJoiner message = new StringJoiner("\n");
+        message.add(MESSAGE_HEADER);
+        metrics.getStats().forEach((commandWord, stats) -> message.add(format(commandWord, stats)));
+        return new CommandResult(message.toString());
+    }
+
+    private static String format(String commandWord, CommandStats stats) {
+        StringBuilder line = new StringBuilder(String.format(MESSAGE_COMMAND, commandWord, stats.getCount()));
+        for (Phase phase : Phase.values()) {
+            Histogram latency = stats.getLatency(phase);
+            line.append(String.format(MESSAGE_PHASE, phase.getName(),
+                    latency.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                    latency.getValueAtPercentile(99) / NANOS_PER_MILLI));
+        }
+        stats.getAllocatedBytes().ifPresent(allocatedBytes -> line.append(String.format(MESSAGE_ALLOCATED,
+                allocatedBytes.getValueAtPercentile(50) / BYTES_PER_KILOBYTE,
+                allocatedBytes.getValueAtPercentile(99) / BYTES_PER_KILOBYTE)));
+        return line.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StatsCommand // instanceof handles nulls
+                && metrics == ((StatsCommand) other).metrics); // state check
+    }
+}
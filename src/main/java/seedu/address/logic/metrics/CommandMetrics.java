@@ -0,0 +1,235 @@
+package seedu.address.logic.metrics;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Records how long each phase of the commands takes, and how many bytes the commands allocate, for each command
+ * word. The numbers can be shown by the {@code stats} command, and saved as JSON every so often, to tell whether a
+ * slow command is waiting on the disk or working on the model.
+ */
+public class CommandMetrics {
+
+    /**
+     * The phases of running a command.
+     */
+    public enum Phase {
+        PARSE("parse"),
+        EXECUTE("execute"),
+        SAVE_REEVE("saveReeve"),
+        SAVE_NOTEBOOK("saveNotebook");
+
+        private final String name;
+
+        Phase(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    private static final Logger logger = LogsCenter.getLogger(CommandMetrics.class);
+
+    /** Counts the bytes allocated by each thread, or null if the JVM cannot. */
+    private static final com.sun.management.ThreadMXBean ALLOCATION_COUNTER = getAllocationCounter();
+
+    private final SortedMap<String, CommandStats> statsByCommandWord = new ConcurrentSkipListMap<>();
+    private ScheduledExecutorService saver;
+    private Path saveFile;
+
+    /**
+     * Returns true if the bytes allocated by the commands are recorded on this JVM.
+     */
+    public static boolean isAllocationRecorded() {
+        return ALLOCATION_COUNTER != null;
+    }
+
+    /**
+     * Starts timing a command on the current thread. Each phase of the command ends with
+     * {@link Recording#endPhase(Phase)}, and the command is recorded by {@link #record(String, Recording)}.
+     */
+    public Recording startRecording() {
+        return new Recording();
+    }
+
+    /**
+     * Records the phases of a command with {@code commandWord} timed by {@code recording}, which must have been
+     * started on the current thread.
+     */
+    public void record(String commandWord, Recording recording) {
+        requireAllNonNull(commandWord, recording);
+        long allocatedBytes = getAllocatedBytes() - recording.startAllocatedBytes;
+        CommandStats stats = statsByCommandWord.computeIfAbsent(commandWord, word -> new CommandStats());
+        for (Phase phase : Phase.values()) {
+            stats.latencies.get(phase).record(recording.phaseNanos[phase.ordinal()]);
+        }
+        if (isAllocationRecorded()) {
+            stats.allocatedBytes.record(Math.max(0, allocatedBytes));
+        }
+    }
+
+    /**
+     * Returns the numbers recorded for each command word, in order of command word.
+     */
+    public SortedMap<String, CommandStats> getStats() {
+        return Collections.unmodifiableSortedMap(statsByCommandWord);
+    }
+
+    /**
+     * Saves the numbers recorded so far to {@code file} as JSON, with the 50th and 99th percentiles and the maximum
+     * of each phase of each command word.
+     */
+    public void save(Path file) throws IOException {
+        requireNonNull(file);
+        Map<String, Object> commands = new LinkedHashMap<>();
+        statsByCommandWord.forEach((commandWord, stats) -> {
+            Map<String, Object> command = new LinkedHashMap<>();
+            command.put("count", stats.getCount());
+            for (Phase phase : Phase.values()) {
+                command.put(phase.getName() + "Nanos", toJson(stats.getLatency(phase)));
+            }
+            stats.getAllocatedBytes().ifPresent(histogram -> command.put("allocatedBytes", toJson(histogram)));
+            commands.put(commandWord, command);
+        });
+        FileUtil.writeToFile(file, JsonUtil.toJsonString(Map.of("commands", commands)));
+    }
+
+    /**
+     * Starts saving the numbers to {@code file} every {@code interval} in the background, until {@link #stop()}.
+     */
+    public synchronized void startSaving(Path file, Duration interval) {
+        requireAllNonNull(file, interval);
+        if (saver != null) {
+            return;
+        }
+        saveFile = file;
+        saver = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Reeve command metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        saver.scheduleWithFixedDelay(this::saveQuietly, interval.toMillis(), interval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops saving the numbers in the background, after saving them one last time.
+     */
+    public synchronized void stop() {
+        if (saver == null) {
+            return;
+        }
+        saver.shutdownNow();
+        saver = null;
+        saveQuietly();
+    }
+
+    private void saveQuietly() {
+        try {
+            save(saveFile);
+        } catch (IOException e) {
+            logger.warning("Failed to save command metrics to " + saveFile + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    private static Map<String, Long> toJson(Histogram histogram) {
+        Map<String, Long> json = new LinkedHashMap<>();
+        json.put("p50", histogram.getValueAtPercentile(50));
+        json.put("p99", histogram.getValueAtPercentile(99));
+        json.put("max", histogram.getMaxValue());
+        return json;
+    }
+
+    private static long getAllocatedBytes() {
+        return isAllocationRecorded() ? ALLOCATION_COUNTER.getThreadAllocatedBytes(Thread.currentThread().getId()) : 0;
+    }
+
+    private static com.sun.management.ThreadMXBean getAllocationCounter() {
+        try {
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean threadBean =
+                        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+                if (threadBean.isThreadAllocatedMemorySupported() && threadBean.isThreadAllocatedMemoryEnabled()) {
+                    return threadBean;
+                }
+            }
+        } catch (LinkageError | UnsupportedOperationException e) {
+            logger.info("The bytes allocated by commands will not be recorded: " + e);
+        }
+        return null;
+    }
+
+    /**
+     * Times the phases of one command.
+     */
+    public static class Recording {
+        private final long[] phaseNanos = new long[Phase.values().length];
+        private final long startAllocatedBytes = getAllocatedBytes();
+        private long phaseStartNanos = System.nanoTime();
+
+        /**
+         * Ends {@code phase} of the command, which started when the previous phase or the recording ended.
+         */
+        public void endPhase(Phase phase) {
+            long now = System.nanoTime();
+            phaseNanos[phase.ordinal()] = now - phaseStartNanos;
+            phaseStartNanos = now;
+        }
+    }
+
+    /**
+     * The numbers recorded for the commands with one command word.
+     */
+    public static class CommandStats {
+        private final Map<Phase, Histogram> latencies = new EnumMap<>(Phase.class);
+        private final Histogram allocatedBytes = new Histogram();
+
+        private CommandStats() {
+            for (Phase phase : Phase.values()) {
+                latencies.put(phase, new Histogram());
+            }
+        }
+
+        public long getCount() {
+            return latencies.get(Phase.PARSE).getTotalCount();
+        }
+
+        /**
+         * Returns the time in nanoseconds taken by {@code phase} of the commands.
+         */
+        public Histogram getLatency(Phase phase) {
+            return latencies.get(phase);
+        }
+
+        /**
+         * Returns the bytes allocated by the commands, or an empty {@code Optional} if they are not recorded by
+         * this JVM.
+         */
+        public Optional<Histogram> getAllocatedBytes() {
+            return isAllocationRecorded() ? Optional.of(allocatedBytes) : Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.logic.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts non-negative values, such as durations in nanoseconds or sizes in bytes, in buckets that are wider for
+ * larger values, in the manner of HdrHistogram. Recording a value takes constant time and allocates nothing, and
+ * every percentile is within 1/32 of the exact value. Values may be recorded and read by different threads.
+ */
+public class Histogram {
+
+    /** Every power of two above {@code 2 * SUB_BUCKET_COUNT} is split into this many buckets of equal width. */
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /** Values of this many bits or more, over 18 minutes in nanoseconds, are counted in the last bucket. */
+    private static final int MAX_VALUE_BITS = 40;
+    private static final long MAX_VALUE = (1L << MAX_VALUE_BITS) - 1;
+    private static final int BUCKET_COUNT = bucketIndexOf(MAX_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong maxValue = new AtomicLong();
+
+    /**
+     * Records one occurrence of {@code value}, which must not be negative.
+     */
+    public void record(long value) {
+        assert value >= 0;
+        counts.incrementAndGet(bucketIndexOf(Math.min(value, MAX_VALUE)));
+        totalCount.incrementAndGet();
+        maxValue.accumulateAndGet(value, Math::max);
+    }
+
+    public long getTotalCount() {
+        return totalCount.get();
+    }
+
+    public long getMaxValue() {
+        return maxValue.get();
+    }
+
+    /**
+     * Returns the value that {@code percentile} percent of the recorded values are at or below, rounded up to the
+     * largest value of its bucket, or 0 if no values are recorded.
+     */
+    public long getValueAtPercentile(double percentile) {
+        assert percentile >= 0 && percentile <= 100;
+        long[] snapshot = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            count += snapshot[i];
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(highestValueInBucket(i), getMaxValue());
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the bucket of {@code value}. Values below {@code 2 * SUB_BUCKET_COUNT} have a bucket each, and the
+     * values of each larger power of two share {@code SUB_BUCKET_COUNT} buckets.
+     */
+    static int bucketIndexOf(long value) {
+        if (value < 2 * SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        int shift = magnitude - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return 2 * SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * Returns the largest value counted in the bucket at {@code index}.
+     */
+    static long highestValueInBucket(int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index - 2 * SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT + 1;
+        long subBucket = (index - 2 * SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -50,6 +50,8 @@ public class CliSyntax {
     public static final Prefix[] FIND_SUPPORTED_PREFIXES =
             new Prefix[] {PREFIX_NAME, PREFIX_SCHOOL, PREFIX_YEAR};
 
+    public static final Prefix[] CATEGORY_SUPPORTED_PREFIXES = new Prefix[] {PREFIX_YEAR, PREFIX_TIME};
+
     public static final Prefix[] COMMAND_PREFIXES = new Prefix[] {PREFIX_INDEX, PREFIX_TEXT};
 
     public static final Prefix[] EXAM_COMMAND_PREFIXES =
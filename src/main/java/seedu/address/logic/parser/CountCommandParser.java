@@ -0,0 +1,19 @@
+package seedu.address.logic.parser;
+
+import seedu.address.logic.commands.CountCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new CountCommand object
+ */
+public class CountCommandParser implements Parser<CountCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the CountCommand
+     * and returns a CountCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public CountCommand parse(String args) throws ParseException {
+        return new CountCommand(FilterCommandParser.parseCategoryFilter(args, CountCommand.MESSAGE_USAGE));
+    }
+}
@@ -11,11 +11,13 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_SCORE;
 import static seedu.address.logic.parser.ReeveParser.BASIC_COMMAND_FORMAT;
 
 import java.time.LocalDate;
+import java.util.Optional;
 import java.util.regex.Matcher;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.AddExamCommand;
 import seedu.address.logic.commands.DeleteExamCommand;
+import seedu.address.logic.commands.ExamAnalyticsCommand;
 import seedu.address.logic.commands.ExamCommand;
 import seedu.address.logic.commands.ExamStatsCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -60,6 +62,9 @@ public class ExamCommandParser extends PrefixDependentParser<ExamCommand> {
         case ExamStatsCommand.COMMAND_WORD:
             return parseExamStatsCommand(arguments);
 
+        case ExamAnalyticsCommand.COMMAND_WORD:
+            return parseExamAnalyticsCommand(arguments);
+
         default:
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     MESSAGE_USAGE));
@@ -131,5 +136,24 @@ public class ExamCommandParser extends PrefixDependentParser<ExamCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExamStatsCommand.MESSAGE_USAGE), pe);
         }
     }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExamAnalyticsCommand
+     * and returns an ExamAnalyticsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format.
+     */
+    private ExamAnalyticsCommand parseExamAnalyticsCommand(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_EXAM_NAME);
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExamAnalyticsCommand.MESSAGE_USAGE));
+        }
+
+        Optional<String> examName = argMultimap.getValue(PREFIX_EXAM_NAME);
+        if (examName.isEmpty()) {
+            return new ExamAnalyticsCommand();
+        }
+        return new ExamAnalyticsCommand(ParserUtil.parseExamName(examName.get()));
+    }
     //@@author
 }
@@ -0,0 +1,70 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.CATEGORY_SUPPORTED_PREFIXES;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_YEAR;
+
+import java.time.DayOfWeek;
+import java.util.Optional;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.student.CategoryFilter;
+import seedu.address.model.student.SchoolType;
+import seedu.address.model.student.Year;
+
+/**
+ * Parses input arguments and creates a new FilterCommand object
+ */
+public class FilterCommandParser implements Parser<FilterCommand> {
+
+    public static final String MESSAGE_INVALID_YEAR_OR_SCHOOL_TYPE = "The year or school type to filter by should "
+            + "either be a year, such as \"Sec 2\", or a type of school, such as \"Sec\".";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FilterCommand
+     * and returns a FilterCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FilterCommand parse(String args) throws ParseException {
+        return new FilterCommand(parseCategoryFilter(args, FilterCommand.MESSAGE_USAGE));
+    }
+
+    /**
+     * Parses the given {@code String} of categories into a {@code CategoryFilter}.
+     * No categories gives a filter that matches every student.
+     *
+     * @param messageUsage the usage of the command being parsed, shown if the arguments are not in the expected
+     *     format.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    static CategoryFilter parseCategoryFilter(String args, String messageUsage) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, CATEGORY_SUPPORTED_PREFIXES);
+
+        String preamble = argMultimap.getPreamble();
+        boolean isOverdue = preamble.equalsIgnoreCase(FilterCommand.OVERDUE_KEYWORD);
+        if (!preamble.isEmpty() && !isOverdue) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, messageUsage));
+        }
+
+        DayOfWeek lessonDay = null;
+        if (argMultimap.getValue(PREFIX_TIME).isPresent()) {
+            lessonDay = ParserUtil.parseLessonDay(argMultimap.getValue(PREFIX_TIME).get());
+        }
+
+        Optional<String> yearOrSchoolType = argMultimap.getValue(PREFIX_YEAR).map(String::trim);
+        if (yearOrSchoolType.isEmpty()) {
+            return new CategoryFilter((Year) null, lessonDay, isOverdue);
+        } else if (Year.isValidYear(yearOrSchoolType.get())) {
+            return new CategoryFilter(new Year(yearOrSchoolType.get()), lessonDay, isOverdue);
+        } else if (SchoolType.isValidSchoolType(yearOrSchoolType.get())) {
+            SchoolType schoolType = SchoolType.LOOKUP_TABLE.get(yearOrSchoolType.get().toLowerCase());
+            return new CategoryFilter(schoolType, lessonDay, isOverdue);
+        } else {
+            throw new ParseException(MESSAGE_INVALID_YEAR_OR_SCHOOL_TYPE);
+        }
+    }
+}
@@ -32,8 +32,10 @@ public class FindCommandParser implements Parser<FindCommand> {
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, FIND_SUPPORTED_PREFIXES);
 
+        String preamble = argMultimap.getPreamble();
+        boolean isExplained = preamble.equals(FindCommand.EXPLAIN_KEYWORD);
         if (!anyPrefixesPresent(argMultimap, FIND_SUPPORTED_PREFIXES)
-                || !argMultimap.getPreamble().isEmpty()) {
+                || !(preamble.isEmpty() || isExplained)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
@@ -61,7 +63,7 @@ public class FindCommandParser implements Parser<FindCommand> {
             throw new ParseException(FindCommand.FIELD_NOT_GIVEN);
         }
 
-        return new FindCommand(findStudentDescriptor);
+        return new FindCommand(findStudentDescriptor, isExplained);
     }
 
     /**
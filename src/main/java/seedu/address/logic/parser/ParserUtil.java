@@ -2,10 +2,13 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.DateUtil;
@@ -31,6 +34,7 @@ import seedu.address.model.student.admin.ClassVenue;
 import seedu.address.model.student.admin.Detail;
 import seedu.address.model.student.admin.Fee;
 import seedu.address.model.student.admin.PaymentDate;
+import seedu.address.storage.CsvRecordType;
 
 /**
  * Contains utility methods used for parsing strings in the various *Parser classes.
@@ -38,6 +42,10 @@ import seedu.address.model.student.admin.PaymentDate;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_DAY = "Day should be a number from 1 (Monday) to 7 (Sunday), "
+            + "or the name of the day.";
+    public static final String MESSAGE_INVALID_CSV_RECORD_TYPE = "Type of records should be one of: "
+            + Arrays.stream(CsvRecordType.values()).map(CsvRecordType::getName).collect(Collectors.joining(", "));
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -169,6 +177,27 @@ public class ParserUtil {
         return new ClassTime(trimmedTime);
     }
 
+    /**
+     * Parses a {@code String day} into the {@code DayOfWeek} of a lesson.
+     * The day can be given as a number from 1 (Monday) to 7 (Sunday), as in {@code ClassTime}, or by its name or
+     * the first three letters of its name. Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code day} is invalid.
+     */
+    public static DayOfWeek parseLessonDay(String day) throws ParseException {
+        requireNonNull(day);
+        String trimmedDay = day.trim().toUpperCase();
+        if (trimmedDay.matches("[1-7]")) {
+            return DayOfWeek.of(Integer.parseInt(trimmedDay));
+        }
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            if (trimmedDay.equals(dayOfWeek.name()) || trimmedDay.equals(dayOfWeek.name().substring(0, 3))) {
+                return dayOfWeek;
+            }
+        }
+        throw new ParseException(MESSAGE_INVALID_DAY);
+    }
+
     /**
      * Parses a {@code String fee} into a {@code Fee}.
      * Leading and trailing whitespaces will be trimmed.
@@ -257,6 +286,18 @@ public class ParserUtil {
         return new Description(trimmedDescription);
     }
 
+    /**
+     * Parses {@code String input} into a {@code CsvRecordType}.
+     * Leading and trailing whitespaces will be trimmed, and case is ignored.
+     *
+     * @throws ParseException if the given {@code input} is not the name of a type of CSV records.
+     */
+    public static CsvRecordType parseCsvRecordType(String input) throws ParseException {
+        requireNonNull(input);
+        return CsvRecordType.fromName(input.trim())
+                .orElseThrow(() -> new ParseException(MESSAGE_INVALID_CSV_RECORD_TYPE));
+    }
+
     /**
      * Parses {@code String input} into a {@code ScheduleViewMode}.
      * Case of the input string is ignored.
@@ -1,5 +1,6 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
@@ -10,20 +11,27 @@ import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AttendanceCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CountCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.DetailCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExamCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.OverdueCommand;
 import seedu.address.logic.commands.QuestionCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.ScheduleCommand;
 import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.ToggleStudentCardCommand;
 import seedu.address.logic.commands.notes.NoteCommand;
+import seedu.address.logic.metrics.CommandMetrics;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.logic.parser.notes.NotebookParser;
 
@@ -37,6 +45,34 @@ public class ReeveParser {
      */
     public static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
 
+    private final CommandMetrics metrics;
+
+    /**
+     * Creates a {@code ReeveParser} whose {@code stats} commands show the numbers recorded in a new
+     * {@code CommandMetrics}.
+     */
+    public ReeveParser() {
+        this(new CommandMetrics());
+    }
+
+    /**
+     * Creates a {@code ReeveParser} whose {@code stats} commands show the numbers recorded in {@code metrics}.
+     */
+    public ReeveParser(CommandMetrics metrics) {
+        requireNonNull(metrics);
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the command word of {@code userInput}, which must have been parsed into a command.
+     */
+    public static String getCommandWord(String userInput) {
+        Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
+        boolean isCommand = matcher.matches();
+        assert isCommand;
+        return matcher.group("commandWord");
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -88,6 +124,12 @@ public class ReeveParser {
         case OverdueCommand.COMMAND_WORD:
             return new OverdueCommand();
 
+        case CountCommand.COMMAND_WORD:
+            return new CountCommandParser().parse(arguments);
+
+        case FilterCommand.COMMAND_WORD:
+            return new FilterCommandParser().parse(arguments);
+
         case SortCommand.COMMAND_WORD:
             return new SortCommandParser().parse(arguments);
 
@@ -103,9 +145,21 @@ public class ReeveParser {
         case ToggleStudentCardCommand.COMMAND_WORD:
             return new ToggleStudentCardCommand();
 
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand(metrics);
+
         case NoteCommand.COMMAND_WORD:
             return new NotebookParser().parse(arguments);
 
+        case RunCommand.COMMAND_WORD:
+            return new RunCommandParser(this).parse(arguments);
+
+        case ImportCommand.COMMAND_WORD:
+            return new ImportCommandParser().parse(arguments);
+
+        case ExportCommand.COMMAND_WORD:
+            return new ExportCommandParser().parse(arguments);
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
@@ -0,0 +1,90 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunCommand object.
+ * Every command in the file is parsed before any of them is run, so a file with an invalid command changes nothing.
+ */
+public class RunCommandParser implements Parser<RunCommand> {
+
+    public static final String MESSAGE_FILE_NOT_READ = "Could not read commands from %1$s: %2$s";
+    public static final String MESSAGE_INVALID_LINE = "Line %1$d: %2$s";
+    public static final String MESSAGE_COMMAND_NOT_ALLOWED = "%1$s cannot be used in a file of commands";
+
+    private final ReeveParser reeveParser;
+
+    /**
+     * Creates a RunCommandParser that parses each line of a file with {@code reeveParser}.
+     */
+    public RunCommandParser(ReeveParser reeveParser) {
+        requireNonNull(reeveParser);
+        this.reeveParser = reeveParser;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunCommand
+     * and returns a RunCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format, the file cannot be read or
+     *     any line of the file is not a valid command.
+     */
+    @Override
+    public RunCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty() || !FileUtil.isValidPath(trimmedArgs)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        }
+
+        Path file = Paths.get(trimmedArgs);
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        } catch (IOException ioe) {
+            throw new ParseException(String.format(MESSAGE_FILE_NOT_READ, file, ioe), ioe);
+        }
+        return new RunCommand(file, parseLines(lines));
+    }
+
+    /**
+     * Parses each line of {@code lines} that is not blank or a comment into a command, keyed by line number.
+     */
+    private Map<Integer, Command> parseLines(List<String> lines) throws ParseException {
+        Map<Integer, Command> commandsByLine = new LinkedHashMap<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(RunCommand.COMMENT_PREFIX)) {
+                continue;
+            }
+
+            int lineNumber = i + 1;
+            // checked before parsing, as parsing a run command would read its file
+            String commandWord = line.split("\\s+", 2)[0];
+            if (commandWord.equals(RunCommand.COMMAND_WORD) || commandWord.equals(ExitCommand.COMMAND_WORD)) {
+                throw new ParseException(String.format(MESSAGE_INVALID_LINE, lineNumber,
+                        String.format(MESSAGE_COMMAND_NOT_ALLOWED, commandWord)));
+            }
+            try {
+                commandsByLine.put(lineNumber, reeveParser.parseCommand(line));
+            } catch (ParseException pe) {
+                throw new ParseException(String.format(MESSAGE_INVALID_LINE, lineNumber, pe.getMessage()), pe);
+            }
+        }
+        return commandsByLine;
+    }
+}
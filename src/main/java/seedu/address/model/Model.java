@@ -4,6 +4,8 @@ import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -13,8 +15,11 @@ import seedu.address.model.notes.ReadOnlyNotebook;
 import seedu.address.model.notes.note.Note;
 import seedu.address.model.schedule.ReadOnlyEvent;
 import seedu.address.model.schedule.ScheduleViewMode;
+import seedu.address.model.student.CategoryFilter;
+import seedu.address.model.student.ExamStatistics;
 import seedu.address.model.student.NameComparator;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentQueryPlan;
 
 /**
  * The API of the Model component.
@@ -88,6 +93,12 @@ public interface Model {
      */
     void addStudent(Student student);
 
+    /**
+     * Adds the given students, in order, as a single change to the displayed list.
+     * None of {@code students} may already exist in Reeve, and they must not contain duplicate students.
+     */
+    void addStudents(List<Student> students);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -133,22 +144,71 @@ public interface Model {
 
     void updateFilteredStudentList(Predicate<Student> predicate);
 
+    /**
+     * Returns a predicate that matches the students that match all of {@code criteria}, which looks up the criteria
+     * that can be answered by the index of Reeve instead of testing every student.
+     * The lookups are made again whenever Reeve is changed.
+     */
+    StudentQueryPlan planStudentQuery(List<Predicate<Student>> criteria);
+
+    /**
+     * Returns the number of students in all of the categories of {@code filter}.
+     */
+    int countStudents(CategoryFilter filter);
+
+    /**
+     * Returns a predicate that matches the students in all of the categories of {@code filter}, which looks up
+     * the students in the categories instead of testing every student.
+     */
+    Predicate<Student> getCategoryPredicate(CategoryFilter filter);
+
+    /**
+     * Sets the date on which students are decided to have overdue fees to {@code date}.
+     * The filtered student list is updated for the students whose fees become overdue, or are no longer overdue.
+     */
+    void setCurrentDate(LocalDate date);
+
+    /**
+     * Returns the statistics of the exam named {@code examName} taken by the students, if any of them took it.
+     * The statistics of an exam are cached until a record of the exam is added, changed or removed.
+     */
+    Optional<ExamStatistics> getExamStatistics(String examName);
+
+    /**
+     * Returns the statistics of every exam taken by the students, in order of exam name.
+     */
+    List<ExamStatistics> getAllExamStatistics();
+
     /**
      * Returns an unmodifiable view of the sorted person list
      */
     ObservableList<Student> getSortedStudentList();
 
+    /**
+     * Freezes the students in the sorted student list in their current order if {@code isFrozen}, or unfreezes
+     * them otherwise. While frozen, {@link #getSortedStudentList()} returns a list in which edited students stay
+     * at their positions, deleted students are kept and added students are appended, so that the indexes of the
+     * students keep referring to the same students.
+     */
+    void setSortedStudentListFrozen(boolean isFrozen);
+
     /**
      * Sorts the internal list in reeve by the given {@code comparator}
      */
     void updateSortedStudentList(Comparator<? super Student> cmp);
 
-    void updateClassTimesToEvent();
-
+    /**
+     * Returns the lesson events of all students, which are kept up to date as students are changed.
+     */
     ObservableList<VEvent> getLessonEventsList();
 
     boolean hasClashingClassTimeWith(Student toCheck);
 
+    /**
+     * Returns the students whose class time clashes with that of {@code toCheck}.
+     */
+    List<Student> getClashingStudents(Student toCheck);
+
     /**
      * Replaces notebook data with the data in {@code notebook}.
      */
@@ -7,9 +7,14 @@ import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
@@ -23,8 +28,11 @@ import seedu.address.model.schedule.ReadOnlyEvent;
 import seedu.address.model.schedule.SchedulePrefs;
 import seedu.address.model.schedule.ScheduleViewMode;
 import seedu.address.model.schedule.Scheduler;
+import seedu.address.model.student.CategoryFilter;
+import seedu.address.model.student.ExamStatistics;
 import seedu.address.model.student.NameComparator;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentQueryPlan;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -39,6 +47,8 @@ public class ModelManager implements Model {
     private final SchedulePrefs schedulePrefs;
     private final SortedList<Student> sortedStudents;
     private final Notebook notebook;
+    private ObservableList<Student> frozenStudents; // null unless the sorted student list is frozen
+    private Map<Student, Integer> frozenStudentIndexes; // the index of each student object in frozenStudents
 
     /**
      * Initializes a ModelManager with the given addressBook, userPrefs and notebook.
@@ -47,13 +57,14 @@ public class ModelManager implements Model {
         super();
         requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with reeve: " + addressBook + " , user prefs " + userPrefs + "and "
+        logger.fine(() -> "Initializing with reeve: " + addressBook + " , user prefs " + userPrefs + "and "
             + "notebook: " + notebook);
 
         this.reeve = new Reeve(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredStudents = new FilteredList<>(this.reeve.getStudentList());
         this.scheduler = new Scheduler();
+        scheduler.trackLessonEvents(this.reeve.getStudentList());
         this.schedulePrefs = new SchedulePrefs(ScheduleViewMode.WEEKLY, LocalDate.now());
         sortedStudents = new SortedList<>(this.filteredStudents, new NameComparator());
         this.notebook = new Notebook(notebook);
@@ -125,12 +136,35 @@ public class ModelManager implements Model {
     public void addStudent(Student student) {
         reeve.addStudent(student);
         updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+        if (frozenStudents != null) {
+            frozenStudentIndexes.put(student, frozenStudents.size());
+            frozenStudents.add(student);
+        }
+    }
+
+    @Override
+    public void addStudents(List<Student> students) {
+        reeve.addStudents(students);
+        updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+        if (frozenStudents != null) {
+            for (Student student : students) {
+                frozenStudentIndexes.put(student, frozenStudents.size());
+                frozenStudents.add(student);
+            }
+        }
     }
 
     @Override
     public void setStudent(Student target, Student editedStudent) {
         requireAllNonNull(target, editedStudent);
         reeve.setStudent(target, editedStudent);
+        if (frozenStudents != null) {
+            Integer index = frozenStudentIndexes.remove(target);
+            if (index != null) {
+                frozenStudents.set(index, editedStudent);
+                frozenStudentIndexes.put(editedStudent, index);
+            }
+        }
     }
 
     //=========== Filtered Student List Accessors =============================================================
@@ -150,6 +184,41 @@ public class ModelManager implements Model {
         filteredStudents.setPredicate(predicate);
     }
 
+    @Override
+    public StudentQueryPlan planStudentQuery(List<Predicate<Student>> criteria) {
+        requireNonNull(criteria);
+        return reeve.planQuery(criteria);
+    }
+
+    @Override
+    public int countStudents(CategoryFilter filter) {
+        requireNonNull(filter);
+        return reeve.countStudents(filter);
+    }
+
+    @Override
+    public Predicate<Student> getCategoryPredicate(CategoryFilter filter) {
+        requireNonNull(filter);
+        return reeve.getCategoryPredicate(filter);
+    }
+
+    @Override
+    public void setCurrentDate(LocalDate date) {
+        requireNonNull(date);
+        reeve.setCurrentDate(date);
+    }
+
+    @Override
+    public Optional<ExamStatistics> getExamStatistics(String examName) {
+        requireNonNull(examName);
+        return reeve.getExamStatistics(examName);
+    }
+
+    @Override
+    public List<ExamStatistics> getAllExamStatistics() {
+        return reeve.getAllExamStatistics();
+    }
+
     //=========== schedule ================================================================================
 
     @Override
@@ -190,7 +259,19 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Student> getSortedStudentList() {
-        return sortedStudents;
+        return frozenStudents == null ? sortedStudents : FXCollections.unmodifiableObservableList(frozenStudents);
+    }
+
+    @Override
+    public void setSortedStudentListFrozen(boolean isFrozen) {
+        frozenStudents = isFrozen ? FXCollections.observableArrayList(sortedStudents) : null;
+        frozenStudentIndexes = null;
+        if (isFrozen) {
+            frozenStudentIndexes = new IdentityHashMap<>();
+            for (int i = 0; i < frozenStudents.size(); i++) {
+                frozenStudentIndexes.put(frozenStudents.get(i), i);
+            }
+        }
     }
 
     @Override
@@ -254,14 +335,8 @@ public class ModelManager implements Model {
                 && notebook.equals(other.notebook);
     }
 
-    @Override
-    public void updateClassTimesToEvent() {
-        scheduler.mapClassTimesToLessonEvent(reeve.getStudentList());
-    }
-
     @Override
     public ObservableList<VEvent> getLessonEventsList() {
-        updateClassTimesToEvent();
         return scheduler.getVEvents();
     }
 
@@ -269,5 +344,11 @@ public class ModelManager implements Model {
     public boolean hasClashingClassTimeWith(Student toCheck) {
         return reeve.hasClashingClassTimeWith(toCheck);
     }
+
+    @Override
+    public List<Student> getClashingStudents(Student toCheck) {
+        requireNonNull(toCheck);
+        return reeve.getClashingStudents(toCheck);
+    }
 }
 
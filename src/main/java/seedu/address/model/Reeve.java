@@ -2,10 +2,16 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.student.CategoryFilter;
+import seedu.address.model.student.ExamStatistics;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentQueryPlan;
 import seedu.address.model.student.UniqueStudentList;
 
 /**
@@ -74,6 +80,14 @@ public class Reeve implements ReadOnlyReeve {
         students.add(p);
     }
 
+    /**
+     * Adds {@code students} to Reeve, in order.
+     * None of the students may already exist in Reeve, and {@code students} must not contain duplicate students.
+     */
+    public void addStudents(List<Student> students) {
+        this.students.addAll(students);
+    }
+
     /**
      * Replaces the given student {@code target} in the list with {@code editedStudent}.
      * {@code target} must exist in Reeve.
@@ -101,6 +115,59 @@ public class Reeve implements ReadOnlyReeve {
         return students.hasClashingClassTimeWith(test);
     }
 
+    /**
+     * Returns the students whose lesson time clashes with that of {@code test}.
+     */
+    public List<Student> getClashingStudents(Student test) {
+        return students.getClashingStudents(test);
+    }
+
+    /**
+     * Returns a predicate that tests that a student in Reeve matches all of {@code criteria}, looking up the criteria
+     * that can be answered by the index of Reeve instead of testing them on every student.
+     */
+    public StudentQueryPlan planQuery(List<? extends Predicate<Student>> criteria) {
+        return students.planQuery(criteria);
+    }
+
+    /**
+     * Returns the number of students in Reeve in all of the categories of {@code filter}.
+     */
+    public int countStudents(CategoryFilter filter) {
+        return students.countMatching(filter);
+    }
+
+    /**
+     * Returns a predicate that tests that a student in Reeve is in all of the categories of {@code filter},
+     * looking up the students in the categories instead of testing every student.
+     */
+    public Predicate<Student> getCategoryPredicate(CategoryFilter filter) {
+        return students.getCategoryPredicate(filter);
+    }
+
+    /**
+     * Sets the date on which Reeve decides whether fees are overdue to {@code date}, updating only the students
+     * whose fees become overdue, or are no longer overdue.
+     */
+    public void setCurrentDate(LocalDate date) {
+        students.setCurrentDate(date);
+    }
+
+    /**
+     * Returns the statistics of the exam named {@code examName} taken by the students in Reeve, if any of them took
+     * it.
+     */
+    public Optional<ExamStatistics> getExamStatistics(String examName) {
+        return students.getExamStatistics(examName);
+    }
+
+    /**
+     * Returns the statistics of every exam taken by the students in Reeve, in order of exam name.
+     */
+    public List<ExamStatistics> getAllExamStatistics() {
+        return students.getAllExamStatistics();
+    }
+
     //// util methods
 
     @Override
@@ -114,6 +181,11 @@ public class Reeve implements ReadOnlyReeve {
         return students.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getVersion() {
+        return students.getVersion();
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
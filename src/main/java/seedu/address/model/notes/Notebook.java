@@ -106,6 +106,11 @@ public class Notebook implements ReadOnlyNotebook {
         return notes.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getVersion() {
+        return notes.getVersion();
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
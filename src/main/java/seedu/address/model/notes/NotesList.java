@@ -28,6 +28,7 @@ public class NotesList implements Iterable<Note> {
     private final ObservableList<Note> internalList = FXCollections.observableArrayList();
     private final ObservableList<Note> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private long version = 0;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
@@ -46,6 +47,7 @@ public class NotesList implements Iterable<Note> {
         if (contains(toAdd)) {
             throw new DuplicateNoteException();
         }
+        version++;
         internalList.add(toAdd);
     }
 
@@ -66,6 +68,7 @@ public class NotesList implements Iterable<Note> {
             throw new DuplicateNoteException();
         }
 
+        version++;
         internalList.set(index, editedNote);
     }
 
@@ -78,10 +81,12 @@ public class NotesList implements Iterable<Note> {
         if (!internalList.remove(toRemove)) {
             throw new NoteNotFoundException();
         }
+        version++;
     }
 
     public void setNotes(NotesList replacement) {
         requireNonNull(replacement);
+        version++;
         internalList.setAll(replacement.internalList);
     }
 
@@ -95,9 +100,17 @@ public class NotesList implements Iterable<Note> {
             throw new DuplicateNoteException();
         }
 
+        version++;
         internalList.setAll(notes);
     }
 
+    /**
+     * Returns the number of modifications made to this list so far.
+     */
+    public long getVersion() {
+        return version;
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -14,4 +14,10 @@ public interface ReadOnlyNotebook {
      */
     ObservableList<Note> getNotesList();
 
+    /**
+     * Returns a version number that increases whenever the data is modified.
+     * Versions are only comparable between calls on the same instance.
+     */
+    long getVersion();
+
 }
@@ -3,6 +3,8 @@ package seedu.address.model.notes.note;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Note's title in the notebook
  * Guarantees: immutable; is valid as declared in {@link #isValidTitle(String)}
@@ -17,6 +19,7 @@ public class Title {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "^(\\S.{0,14})";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String title;
 
@@ -35,7 +38,7 @@ public class Title {
      * Returns true if a given string is a valid title.
      */
     public static boolean isValidTitle(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
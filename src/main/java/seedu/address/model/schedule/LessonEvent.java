@@ -52,8 +52,7 @@ public class LessonEvent extends Event {
         LocalDateTime lessonEventDateTimeStart = LocalDateTime.of(lessonDate, classTimeStart);
         LocalDateTime lessonEventDateTimeEnd = LocalDateTime.of(lessonDate, classTimeEnd);
 
-        String uid = UniqueIdentifierGenerator.generateUid(studentName,
-                lessonEventDateTimeStart.toString(), lessonEventDateTimeEnd.toString());
+        String uid = UniqueIdentifierGenerator.generateLessonUid(student.getIdentity(), classTime);
 
         return new LessonEvent(studentName, lessonEventDateTimeStart, lessonEventDateTimeEnd,
                 uid, EventRecurrence.WEEKLY);
@@ -5,17 +5,20 @@ import static java.util.Objects.requireNonNull;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 import jfxtras.icalendarfx.components.VEvent;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Mapper class that maps Events to VEvents and vice versa.
+ * Every VEvent returned is a new one, as VEvents are mutable. {@link Scheduler} keeps the {@link VEventKey} of each
+ * VEvent it maps, and reuses the VEvents it already holds for events that are unchanged.
  */
 public class Mapper {
 
     /**
-     * Maps a local Event object to a VEvent for Jfxtras calendar
+     * Maps a local Event object to a VEvent for Jfxtras calendar.
      */
     public static VEvent mapEventToVEvent(Event event) {
         requireNonNull(event);
@@ -85,6 +88,58 @@ public class Mapper {
         return events;
     }
 
+    /**
+     * The values of an Event that its VEvent is constructed from.
+     */
+    static class VEventKey {
+        private final String eventName;
+        private final LocalDateTime eventStartDateTime;
+        private final LocalDateTime eventEndDateTime;
+        private final String uniqueIdentifier;
+        private final EventRecurrence recurrence;
+
+        VEventKey(Event event) {
+            eventName = event.getEventName();
+            eventStartDateTime = event.getEventStartDateTime();
+            eventEndDateTime = event.getEventEndDateTime();
+            uniqueIdentifier = event.getUniqueIdentifier();
+            recurrence = event.getRecurrence();
+        }
 
+        /**
+         * Returns true if {@code vEvent}, which was mapped from an event with this key, still has the name, times and
+         * identifier of that event. Its recurrence rule is not compared, as that would parse the rule again.
+         */
+        boolean isKeyOf(VEvent vEvent) {
+            return vEvent.getSummary() != null && eventName.equals(vEvent.getSummary().getValue())
+                    && vEvent.getDateTimeStart() != null
+                    && eventStartDateTime.equals(vEvent.getDateTimeStart().getValue())
+                    && vEvent.getDateTimeEnd() != null && eventEndDateTime.equals(vEvent.getDateTimeEnd().getValue())
+                    && vEvent.getUniqueIdentifier() != null
+                    && uniqueIdentifier.equals(vEvent.getUniqueIdentifier().getValue());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
 
+            if (!(other instanceof VEventKey)) {
+                return false;
+            }
+
+            VEventKey otherKey = (VEventKey) other;
+            return uniqueIdentifier.equals(otherKey.uniqueIdentifier)
+                    && eventStartDateTime.equals(otherKey.eventStartDateTime)
+                    && eventEndDateTime.equals(otherKey.eventEndDateTime)
+                    && recurrence == otherKey.recurrence
+                    && eventName.equals(otherKey.eventName);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(uniqueIdentifier, eventStartDateTime, eventEndDateTime, recurrence, eventName);
+        }
+    }
 }
@@ -7,17 +7,29 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import jfxtras.icalendarfx.components.VEvent;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentIdentity;
 
 /**
  * This class provides the basic functionalities of event operations.
  * Mapping of local Event to jfxtras's VEvent is contained here.
+ * The lesson events of a list of students can be kept up to date by {@link #trackLessonEvents(ObservableList)},
+ * which only maps the students that are added, edited or removed. When all the events are mapped again, the VEvents
+ * of events that are unchanged are reused, so they skip building a new VEvent and parsing its recurrence rule.
  */
 public class Scheduler implements ReadOnlyEvent, ReadOnlyVEvent {
 
@@ -25,6 +37,11 @@ public class Scheduler implements ReadOnlyEvent, ReadOnlyVEvent {
     private final ObservableList<VEvent> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /** The lesson event of each student whose class time is mapped into the list above. */
+    private final Map<StudentIdentity, VEvent> lessonEvents = new HashMap<>();
+    /** The key of the event that each VEvent in the list above was mapped from, if it was mapped by this schedule. */
+    private final Map<VEvent, Mapper.VEventKey> vEventKeys = new IdentityHashMap<>();
+
     public Scheduler() {}
 
     /**
@@ -41,6 +58,10 @@ public class Scheduler implements ReadOnlyEvent, ReadOnlyVEvent {
      */
     public void setVEvents(List<VEvent> vEvents) {
         requireAllNonNull(vEvents);
+        lessonEvents.clear();
+        Set<VEvent> keptVEvents = Collections.newSetFromMap(new IdentityHashMap<>());
+        keptVEvents.addAll(vEvents);
+        vEventKeys.keySet().retainAll(keptVEvents);
         this.internalList.setAll(vEvents);
     }
 
@@ -49,7 +70,7 @@ public class Scheduler implements ReadOnlyEvent, ReadOnlyVEvent {
      */
     public void resetData(List<Event> newData) {
         requireNonNull(newData);
-        setVEvents(Mapper.mapListOfEventsToVEvent(newData));
+        setVEvents(mapEventsReusingVEvents(newData));
     }
 
     /**
@@ -58,7 +79,7 @@ public class Scheduler implements ReadOnlyEvent, ReadOnlyVEvent {
      */
     public void addEvent(Event eventToAdd) {
         requireNonNull(eventToAdd);
-        internalList.add(Mapper.mapEventToVEvent(eventToAdd));
+        internalList.add(mapEventToVEvent(eventToAdd));
     }
 
     /**
@@ -114,15 +135,153 @@ public class Scheduler implements ReadOnlyEvent, ReadOnlyVEvent {
      * @param studentList
      */
     public void mapClassTimesToLessonEvent(List<Student> studentList) {
-        List<Event> listOfEvents = new ArrayList<>();
+        requireNonNull(studentList);
+        Map<StudentIdentity, LessonEvent> studentLessonEvents = new LinkedHashMap<>();
         for (Student student: studentList) {
-            LocalDate date = student.getAdmin().getPaymentDate().lastPaid;
+            studentLessonEvents.put(student.getIdentity(), createLessonEvent(student));
+        }
+        List<VEvent> vEvents = mapEventsReusingVEvents(List.copyOf(studentLessonEvents.values()));
+        Map<StudentIdentity, VEvent> newLessonEvents = new LinkedHashMap<>();
+        int i = 0;
+        for (StudentIdentity identity : studentLessonEvents.keySet()) {
+            newLessonEvents.put(identity, vEvents.get(i++));
+        }
+        setVEvents(vEvents);
+        lessonEvents.putAll(newLessonEvents);
+    }
 
-            // date of lesson event will be recorded from latest payment date onwards
-            LocalDateTime ld = LocalDateTime.of(date, LocalTime.now());
-            listOfEvents.add(LessonEvent.createLessonEvent(student, ld));
+    /**
+     * Maps the class times of {@code students} to lesson events, and keeps the lesson events up to date as
+     * students are added to, edited in or removed from {@code students}.
+     * Only the lesson events of the students that changed are mapped again.
+     */
+    public void trackLessonEvents(ObservableList<Student> students) {
+        requireNonNull(students);
+        mapClassTimesToLessonEvent(students);
+        students.addListener(this::updateLessonEvents);
+    }
+
+    private void updateLessonEvents(ListChangeListener.Change<? extends Student> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                // the order of lesson events does not matter, and students are immutable
+                continue;
+            }
+
+            Map<StudentIdentity, Student> addedStudents = new LinkedHashMap<>();
+            for (Student added : change.getAddedSubList()) {
+                addedStudents.put(added.getIdentity(), added);
+            }
+            Set<VEvent> removedLessonEvents = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (Student removed : change.getRemoved()) {
+                StudentIdentity identity = removed.getIdentity();
+                Student replacement = addedStudents.remove(identity);
+                if (replacement == null) {
+                    VEvent removedLessonEvent = lessonEvents.remove(identity);
+                    if (removedLessonEvent != null) {
+                        removedLessonEvents.add(removedLessonEvent);
+                    }
+                } else if (!isSameClassTime(removed, replacement)) {
+                    replaceLessonEvent(identity, mapStudentToLessonVEvent(replacement));
+                }
+            }
+            removeLessonEvents(removedLessonEvents);
+            for (Map.Entry<StudentIdentity, Student> added : addedStudents.entrySet()) {
+                VEvent lessonEvent = mapStudentToLessonVEvent(added.getValue());
+                if (lessonEvents.containsKey(added.getKey())) {
+                    replaceLessonEvent(added.getKey(), lessonEvent);
+                } else {
+                    lessonEvents.put(added.getKey(), lessonEvent);
+                    internalList.add(lessonEvent);
+                }
+            }
         }
-        this.resetData(listOfEvents);
+    }
+
+    /**
+     * Returns true if the lesson events of both students are the same.
+     */
+    private static boolean isSameClassTime(Student student, Student otherStudent) {
+        return student.getName().equals(otherStudent.getName())
+                && student.getAdmin().getClassTime().equals(otherStudent.getAdmin().getClassTime())
+                && student.getAdmin().getPaymentDate().equals(otherStudent.getAdmin().getPaymentDate());
+    }
+
+    /**
+     * Removes {@code removedLessonEvents} from the list of VEvents, in a single change if there are several.
+     */
+    private void removeLessonEvents(Set<VEvent> removedLessonEvents) {
+        vEventKeys.keySet().removeAll(removedLessonEvents);
+        if (removedLessonEvents.size() == 1) {
+            internalList.remove(indexOfLessonEvent(removedLessonEvents.iterator().next()));
+        } else if (!removedLessonEvents.isEmpty()) {
+            internalList.setAll(internalList.stream()
+                    .filter(vEvent -> !removedLessonEvents.contains(vEvent))
+                    .collect(Collectors.toList()));
+        }
+    }
+
+    private void replaceLessonEvent(StudentIdentity identity, VEvent newLessonEvent) {
+        VEvent lessonEvent = lessonEvents.put(identity, newLessonEvent);
+        vEventKeys.remove(lessonEvent);
+        internalList.set(indexOfLessonEvent(lessonEvent), newLessonEvent);
+    }
+
+    /**
+     * Returns the index of {@code lessonEvent} in the list of VEvents.
+     * The events are compared by reference, as comparing VEvents by value compares all their properties.
+     */
+    private int indexOfLessonEvent(VEvent lessonEvent) {
+        for (int i = 0; i < internalList.size(); i++) {
+            if (internalList.get(i) == lessonEvent) {
+                return i;
+            }
+        }
+        throw new AssertionError("Lesson event is not in the schedule");
+    }
+
+    /**
+     * Maps {@code events} to VEvents, reusing the VEvent in the schedule for each event that it still represents.
+     * The schedule is only read, so the VEvents it can reuse are exactly those of the current events, whatever the
+     * size of the roster. The key of each VEvent is the one kept when it was mapped, so no recurrence rule is parsed.
+     */
+    private List<VEvent> mapEventsReusingVEvents(List<? extends Event> events) {
+        Map<Mapper.VEventKey, VEvent> currentVEvents = new HashMap<>();
+        for (VEvent vEvent : internalList) {
+            Mapper.VEventKey key = vEventKeys.get(vEvent);
+            if (key != null && key.isKeyOf(vEvent)) {
+                currentVEvents.put(key, vEvent);
+            }
+        }
+
+        List<VEvent> vEvents = new ArrayList<>(events.size());
+        for (Event event : events) {
+            // each VEvent is reused at most once, so that the schedule never holds the same VEvent twice
+            VEvent vEvent = currentVEvents.remove(new Mapper.VEventKey(event));
+            vEvents.add(vEvent == null ? mapEventToVEvent(event) : vEvent);
+        }
+        return vEvents;
+    }
+
+    private VEvent mapStudentToLessonVEvent(Student student) {
+        return mapEventToVEvent(createLessonEvent(student));
+    }
+
+    /**
+     * Maps {@code event} to a new VEvent, keeping the key of the event so that the VEvent can be reused.
+     */
+    private VEvent mapEventToVEvent(Event event) {
+        VEvent vEvent = Mapper.mapEventToVEvent(event);
+        vEventKeys.put(vEvent, new Mapper.VEventKey(event));
+        return vEvent;
+    }
+
+    private static LessonEvent createLessonEvent(Student student) {
+        LocalDate date = student.getAdmin().getPaymentDate().lastPaid;
+
+        // date of lesson event will be recorded from latest payment date onwards
+        LocalDateTime ld = LocalDateTime.of(date, LocalTime.now());
+        return LessonEvent.createLessonEvent(student, ld);
     }
 
 }
@@ -4,6 +4,9 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDateTime;
 
+import seedu.address.model.student.StudentIdentity;
+import seedu.address.model.student.admin.ClassTime;
+
 /**
  * A utility for generating unique identifier strings for Event as used by VEvent.
  */
@@ -23,4 +26,22 @@ public class UniqueIdentifierGenerator {
                 .append(eventEndDateTime);
         return builder.toString();
     }
+
+    /**
+     * Generates the unique string identifier of the lessons of a student, which stays the same for as long as the
+     * identity and class time of the student are unchanged.
+     */
+    public static String generateLessonUid(StudentIdentity studentIdentity, ClassTime classTime) {
+        requireAllNonNull(studentIdentity, classTime);
+        StringBuilder builder = new StringBuilder();
+        builder.append("lesson/")
+                .append(studentIdentity)
+                .append("/")
+                .append(classTime.dayOfWeek)
+                .append("/")
+                .append(classTime.startTime)
+                .append("/")
+                .append(classTime.endTime);
+        return builder.toString();
+    }
 }
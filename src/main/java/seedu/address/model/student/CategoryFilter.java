@@ -0,0 +1,121 @@
+package seedu.address.model.student;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.TextStyle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.address.model.student.admin.OverdueFeePredicate;
+
+/**
+ * Tests that a {@code Student} is in all of the given categories: a school type or year, a day of lessons and
+ * whether the student's fees are overdue.
+ * Students in Reeve can be counted or filtered by these categories without testing every student, using the
+ * bitmaps kept for each category.
+ */
+public class CategoryFilter implements Predicate<Student> {
+
+    private final SchoolType schoolType;
+    private final Year year;
+    private final DayOfWeek lessonDay;
+    private final boolean isOverdue;
+
+    /**
+     * Creates a filter for students in {@code schoolType}, with lessons on {@code lessonDay}, and with overdue fees
+     * if {@code isOverdue}. A null category matches every student.
+     */
+    public CategoryFilter(SchoolType schoolType, DayOfWeek lessonDay, boolean isOverdue) {
+        this(schoolType, null, lessonDay, isOverdue);
+    }
+
+    /**
+     * Creates a filter for students in {@code year}, with lessons on {@code lessonDay}, and with overdue fees
+     * if {@code isOverdue}. A null category matches every student.
+     */
+    public CategoryFilter(Year year, DayOfWeek lessonDay, boolean isOverdue) {
+        this(year == null ? null : year.schoolType, year, lessonDay, isOverdue);
+    }
+
+    private CategoryFilter(SchoolType schoolType, Year year, DayOfWeek lessonDay, boolean isOverdue) {
+        this.schoolType = schoolType;
+        this.year = year;
+        this.lessonDay = lessonDay;
+        this.isOverdue = isOverdue;
+    }
+
+    public Optional<SchoolType> getSchoolType() {
+        return Optional.ofNullable(schoolType);
+    }
+
+    public Optional<Year> getYear() {
+        return Optional.ofNullable(year);
+    }
+
+    public Optional<DayOfWeek> getLessonDay() {
+        return Optional.ofNullable(lessonDay);
+    }
+
+    public boolean isOverdue() {
+        return isOverdue;
+    }
+
+    @Override
+    public boolean test(Student student) {
+        return test(student, LocalDate.now());
+    }
+
+    /**
+     * Returns true if {@code student} is in all categories of this filter, with overdue fees being those that are
+     * overdue on {@code currentDate}.
+     */
+    public boolean test(Student student, LocalDate currentDate) {
+        return (schoolType == null || schoolType == student.getYear().schoolType)
+                && (year == null || year.equals(student.getYear()))
+                && (lessonDay == null || lessonDay == student.getClassTime().dayOfWeek)
+                && (!isOverdue || OverdueFeePredicate.isOverdue(student, currentDate));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof CategoryFilter)) {
+            return false;
+        }
+
+        CategoryFilter otherFilter = (CategoryFilter) other;
+        return Objects.equals(schoolType, otherFilter.schoolType)
+                && Objects.equals(year, otherFilter.year)
+                && Objects.equals(lessonDay, otherFilter.lessonDay)
+                && isOverdue == otherFilter.isOverdue;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(schoolType, year, lessonDay, isOverdue);
+    }
+
+    @Override
+    public String toString() {
+        List<String> categories = new ArrayList<>();
+        if (year != null) {
+            categories.add(year.toString());
+        } else if (schoolType != null) {
+            categories.add(schoolType.toString());
+        }
+        if (lessonDay != null) {
+            categories.add("lessons on " + lessonDay.getDisplayName(TextStyle.FULL, Locale.ENGLISH));
+        }
+        if (isOverdue) {
+            categories.add("overdue fees");
+        }
+        return categories.isEmpty() ? "all students" : String.join(", ", categories);
+    }
+}
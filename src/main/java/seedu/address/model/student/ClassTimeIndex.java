@@ -0,0 +1,103 @@
+package seedu.address.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import seedu.address.model.student.admin.ClassTime;
+
+/**
+ * Indexes students by the day and start time of their {@code ClassTime} so that lessons clashing with a given
+ * class time can be found without scanning every student.
+ *
+ * For each day, students are kept sorted by the start of their lesson, together with a count of the lesson
+ * durations on that day. A lesson can only clash with {@code [start, end)} if it starts within the longest
+ * lesson duration before {@code start}, so only that window of the day has to be examined.
+ */
+class ClassTimeIndex {
+
+    private final Map<DayOfWeek, NavigableMap<Integer, List<Student>>> studentsByStart =
+            new EnumMap<>(DayOfWeek.class);
+    private final Map<DayOfWeek, NavigableMap<Integer, Integer>> durationCounts = new EnumMap<>(DayOfWeek.class);
+
+    /**
+     * Adds {@code student} to the index.
+     */
+    void add(Student student) {
+        requireNonNull(student);
+        ClassTime classTime = student.getClassTime();
+        studentsByStart.computeIfAbsent(classTime.dayOfWeek, unused -> new TreeMap<>())
+                .computeIfAbsent(getStart(classTime), unused -> new ArrayList<>(1))
+                .add(student);
+        durationCounts.computeIfAbsent(classTime.dayOfWeek, unused -> new TreeMap<>())
+                .merge(getDuration(classTime), 1, Integer::sum);
+    }
+
+    /**
+     * Removes {@code student} from the index.
+     * The student must have been added to the index.
+     */
+    void remove(Student student) {
+        requireNonNull(student);
+        ClassTime classTime = student.getClassTime();
+        NavigableMap<Integer, List<Student>> dayStudents = studentsByStart.get(classTime.dayOfWeek);
+        assert dayStudents != null && dayStudents.containsKey(getStart(classTime));
+
+        List<Student> studentsAtStart = dayStudents.get(getStart(classTime));
+        studentsAtStart.remove(student);
+        if (studentsAtStart.isEmpty()) {
+            dayStudents.remove(getStart(classTime));
+        }
+
+        NavigableMap<Integer, Integer> dayDurations = durationCounts.get(classTime.dayOfWeek);
+        dayDurations.computeIfPresent(getDuration(classTime), (duration, count) -> count == 1 ? null : count - 1);
+    }
+
+    /**
+     * Replaces the contents of the index with {@code students}.
+     */
+    void setAll(Collection<Student> students) {
+        studentsByStart.clear();
+        durationCounts.clear();
+        students.forEach(this::add);
+    }
+
+    /**
+     * Returns every indexed student whose lesson clashes with {@code classTime}, ordered by lesson start time.
+     */
+    List<Student> getClashingStudents(ClassTime classTime) {
+        requireNonNull(classTime);
+        List<Student> clashingStudents = new ArrayList<>();
+        NavigableMap<Integer, List<Student>> dayStudents = studentsByStart.get(classTime.dayOfWeek);
+        if (dayStudents == null || dayStudents.isEmpty()) {
+            return clashingStudents;
+        }
+
+        int longestDuration = durationCounts.get(classTime.dayOfWeek).lastKey();
+        int earliestPossibleStart = getStart(classTime) - longestDuration;
+        for (List<Student> studentsAtStart : dayStudents.subMap(earliestPossibleStart, false,
+                classTime.endTime.toSecondOfDay(), false).values()) {
+            for (Student student : studentsAtStart) {
+                if (student.getClassTime().clashesWith(classTime)) {
+                    clashingStudents.add(student);
+                }
+            }
+        }
+        return clashingStudents;
+    }
+
+    private static int getStart(ClassTime classTime) {
+        return classTime.startTime.toSecondOfDay();
+    }
+
+    private static int getDuration(ClassTime classTime) {
+        return classTime.endTime.toSecondOfDay() - classTime.startTime.toSecondOfDay();
+    }
+}
@@ -0,0 +1,191 @@
+package seedu.address.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
+
+import seedu.address.model.student.academic.exam.Exam;
+
+/**
+ * Computes the statistics of every exam taken by the students of a list, and caches them by exam name.
+ *
+ * The scores of an exam are gathered from the students by a fork/join task that splits the students into halves
+ * until each part is small, so that the students are read in parallel. The statistics of an exam stay cached until
+ * a change to the students adds, removes or changes a record of that exam, or changes the cohorts of a student who
+ * took it, so adding an exam to one student only recomputes the statistics of that exam.
+ */
+class ExamAnalytics {
+
+    /** The number of students below which the students are read on a single thread. */
+    private static final int SEQUENTIAL_THRESHOLD = 256;
+
+    private final Map<String, ExamStatistics> statisticsByExamName = new HashMap<>();
+    private boolean hasAllExams = false;
+
+    /**
+     * Updates the cache for {@code student} being added to or removed from the list.
+     */
+    void addOrRemove(Student student) {
+        requireNonNull(student);
+        if (!student.getAcademic().isLoaded()) {
+            // dropping every exam is cheaper than loading the exams of the student to find the ones to drop
+            hasAllExams = false;
+            statisticsByExamName.clear();
+            return;
+        }
+        invalidate(student.getExams());
+    }
+
+    /**
+     * Updates the cache for {@code target} being replaced by {@code editedStudent} in the list.
+     */
+    void replace(Student target, Student editedStudent) {
+        requireNonNull(target);
+        requireNonNull(editedStudent);
+        boolean isSameCohorts = target.getYear().equals(editedStudent.getYear())
+                && target.getSchool().equals(editedStudent.getSchool());
+        if (isSameCohorts && target.getAcademic() == editedStudent.getAcademic()) {
+            return;
+        }
+        if (!isSameCohorts) {
+            addOrRemove(target);
+            addOrRemove(editedStudent);
+            return;
+        }
+
+        List<Exam> targetExams = target.getExams();
+        List<Exam> editedExams = editedStudent.getExams();
+        if (targetExams == editedExams) {
+            return;
+        }
+        for (Exam exam : targetExams) {
+            if (!containsRecord(editedExams, exam)) {
+                invalidate(exam);
+            }
+        }
+        for (Exam exam : editedExams) {
+            if (!containsRecord(targetExams, exam)) {
+                invalidate(exam);
+            }
+        }
+    }
+
+    /**
+     * Clears the cache, for the list being replaced.
+     */
+    void clear() {
+        statisticsByExamName.clear();
+        hasAllExams = false;
+    }
+
+    /**
+     * Returns the statistics of the exam named {@code examName} taken by {@code students}, if any of them took it.
+     * {@code students} must be the students of the list.
+     */
+    Optional<ExamStatistics> getStatistics(String examName, Collection<Student> students) {
+        requireNonNull(examName);
+        if (!statisticsByExamName.containsKey(examName) && !hasAllExams) {
+            statisticsByExamName.putAll(compute(students, examName::equals));
+        }
+        return Optional.ofNullable(statisticsByExamName.get(examName));
+    }
+
+    /**
+     * Returns the statistics of every exam taken by {@code students}, in no particular order.
+     * {@code students} must be the students of the list.
+     */
+    List<ExamStatistics> getAllStatistics(Collection<Student> students) {
+        if (!hasAllExams) {
+            statisticsByExamName.putAll(compute(students, examName -> !statisticsByExamName.containsKey(examName)));
+            hasAllExams = true;
+        }
+        return new ArrayList<>(statisticsByExamName.values());
+    }
+
+    private void invalidate(Collection<Exam> exams) {
+        exams.forEach(this::invalidate);
+    }
+
+    private void invalidate(Exam exam) {
+        statisticsByExamName.remove(exam.getName());
+        // the exam may now be taken by a student for the first time
+        hasAllExams = false;
+    }
+
+    /**
+     * Returns true if {@code exams} contains a record with the same name, date and score as {@code exam}.
+     */
+    private static boolean containsRecord(List<Exam> exams, Exam exam) {
+        return exams.stream().anyMatch(other -> other.getName().equals(exam.getName())
+                && other.getDate().equals(exam.getDate())
+                && other.getScore().equals(exam.getScore()));
+    }
+
+    private static Map<String, ExamStatistics> compute(Collection<Student> students, Predicate<String> isIncluded) {
+        Student[] studentArray = students.toArray(new Student[0]);
+        Map<String, List<ExamStatistics.Sample>> samplesByExamName =
+                ForkJoinPool.commonPool().invoke(new SampleTask(studentArray, 0, studentArray.length, isIncluded));
+        Map<String, ExamStatistics> statistics = new HashMap<>();
+        samplesByExamName.forEach((examName, samples) ->
+                statistics.put(examName, new ExamStatistics(examName, samples)));
+        return statistics;
+    }
+
+    /**
+     * Gathers the scores of the included exams taken by a range of students, by exam name.
+     */
+    private static class SampleTask extends RecursiveTask<Map<String, List<ExamStatistics.Sample>>> {
+        private final Student[] students;
+        private final int from;
+        private final int to;
+        private final Predicate<String> isIncluded;
+
+        SampleTask(Student[] students, int from, int to, Predicate<String> isIncluded) {
+            this.students = students;
+            this.from = from;
+            this.to = to;
+            this.isIncluded = isIncluded;
+        }
+
+        @Override
+        protected Map<String, List<ExamStatistics.Sample>> compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                return gather();
+            }
+
+            int middle = (from + to) >>> 1;
+            SampleTask left = new SampleTask(students, from, middle, isIncluded);
+            left.fork();
+            Map<String, List<ExamStatistics.Sample>> samples =
+                    new SampleTask(students, middle, to, isIncluded).compute();
+            left.join().forEach((examName, leftSamples) -> samples.merge(examName, leftSamples, (existing, added) -> {
+                existing.addAll(added);
+                return existing;
+            }));
+            return samples;
+        }
+
+        private Map<String, List<ExamStatistics.Sample>> gather() {
+            Map<String, List<ExamStatistics.Sample>> samples = new HashMap<>();
+            for (int i = from; i < to; i++) {
+                Student student = students[i];
+                for (Exam exam : student.getExams()) {
+                    if (isIncluded.test(exam.getName())) {
+                        samples.computeIfAbsent(exam.getName(), unused -> new ArrayList<>())
+                                .add(new ExamStatistics.Sample(exam.getScore().getScorePercentage(),
+                                        student.getYear(), student.getSchool()));
+                    }
+                }
+            }
+            return samples;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package seedu.address.model.student;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Summarises the scores of all students who took an exam, as percentages of the total marks.
+ * Guarantees: immutable; there is at least one score.
+ */
+public class ExamStatistics {
+
+    /** The number of equal bands from 0% to 100% that scores are counted in by {@link #getHistogram()}. */
+    public static final int HISTOGRAM_BANDS = 10;
+
+    private final String examName;
+    private final double[] sortedScores;
+    private final Map<Year, Double> meanByYear;
+    private final Map<School, Double> meanBySchool;
+
+    /**
+     * Creates the statistics of the exam named {@code examName} from the scores of the students who took it.
+     * {@code samples} must not be empty.
+     */
+    public ExamStatistics(String examName, List<Sample> samples) {
+        requireAllNonNull(examName, samples);
+        if (samples.isEmpty()) {
+            throw new IllegalArgumentException("An exam must have at least one score");
+        }
+        this.examName = examName;
+        sortedScores = samples.stream().mapToDouble(sample -> sample.score).sorted().toArray();
+        meanByYear = Collections.unmodifiableMap(
+                getMeans(samples, sample -> sample.year, Comparator.comparing(Year::toString)));
+        meanBySchool = Collections.unmodifiableMap(
+                getMeans(samples, sample -> sample.school, Comparator.comparing(school -> school.school)));
+    }
+
+    public String getExamName() {
+        return examName;
+    }
+
+    /**
+     * Returns the number of students who took the exam.
+     */
+    public int getCount() {
+        return sortedScores.length;
+    }
+
+    public double getMean() {
+        return Arrays.stream(sortedScores).average().orElseThrow();
+    }
+
+    public double getMedian() {
+        return getPercentile(50);
+    }
+
+    /**
+     * Returns the score below which {@code percentile} percent of the scores fall, interpolating linearly between
+     * the two nearest scores.
+     */
+    public double getPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be from 0 to 100");
+        }
+        double rank = percentile / 100 * (sortedScores.length - 1);
+        int lower = (int) Math.floor(rank);
+        int upper = (int) Math.ceil(rank);
+        return sortedScores[lower] + (rank - lower) * (sortedScores[upper] - sortedScores[lower]);
+    }
+
+    /**
+     * Returns the number of scores in each of {@link #HISTOGRAM_BANDS} equal bands from 0% to 100%.
+     * Each band includes its lower bound, and the last band also includes 100%.
+     */
+    public int[] getHistogram() {
+        int[] histogram = new int[HISTOGRAM_BANDS];
+        for (double score : sortedScores) {
+            histogram[Math.min((int) (score * HISTOGRAM_BANDS / 100), HISTOGRAM_BANDS - 1)]++;
+        }
+        return histogram;
+    }
+
+    /**
+     * Returns the mean score of the students in each year who took the exam, in order of year.
+     */
+    public Map<Year, Double> getMeanByYear() {
+        return meanByYear;
+    }
+
+    /**
+     * Returns the mean score of the students in each school who took the exam, in order of school.
+     */
+    public Map<School, Double> getMeanBySchool() {
+        return meanBySchool;
+    }
+
+    /**
+     * Returns a one line summary of the statistics.
+     */
+    public String getSummary() {
+        return String.format("%s: %d scores, mean %.2f%%, median %.2f%%", examName, getCount(), getMean(),
+                getMedian());
+    }
+
+    private static <K> Map<K, Double> getMeans(List<Sample> samples, Function<Sample, K> getCohort,
+            Comparator<K> cohortOrder) {
+        Map<K, double[]> totals = new TreeMap<>(cohortOrder);
+        for (Sample sample : samples) {
+            double[] total = totals.computeIfAbsent(getCohort.apply(sample), unused -> new double[2]);
+            total[0] += sample.score;
+            total[1]++;
+        }
+        Map<K, Double> means = new LinkedHashMap<>();
+        totals.forEach((cohort, total) -> means.put(cohort, total[0] / total[1]));
+        return means;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExamStatistics // instanceof handles nulls
+                && examName.equals(((ExamStatistics) other).examName)
+                && Arrays.equals(sortedScores, ((ExamStatistics) other).sortedScores)
+                && meanByYear.equals(((ExamStatistics) other).meanByYear)
+                && meanBySchool.equals(((ExamStatistics) other).meanBySchool));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(examName, Arrays.hashCode(sortedScores), meanByYear, meanBySchool);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(getSummary())
+                .append(String.format("\nPercentiles: 10th %.2f%%, 25th %.2f%%, 75th %.2f%%, 90th %.2f%%",
+                        getPercentile(10), getPercentile(25), getPercentile(75), getPercentile(90)))
+                .append("\nDistribution:");
+        int[] histogram = getHistogram();
+        int bandWidth = 100 / HISTOGRAM_BANDS;
+        for (int i = 0; i < HISTOGRAM_BANDS; i++) {
+            builder.append(String.format("\n  %d-%d%%: %d", i * bandWidth, (i + 1) * bandWidth, histogram[i]));
+        }
+        builder.append("\nBy year:");
+        meanByYear.forEach((year, mean) -> builder.append(String.format("\n  %s: %.2f%%", year, mean)));
+        builder.append("\nBy school:");
+        meanBySchool.forEach((school, mean) -> builder.append(String.format("\n  %s: %.2f%%", school, mean)));
+        return builder.toString();
+    }
+
+    /**
+     * The score of a student in an exam, with the cohorts of the student.
+     */
+    public static class Sample {
+        private final double score;
+        private final Year year;
+        private final School school;
+
+        /**
+         * Creates a sample of a score of {@code score} percent by a student in {@code year} at {@code school}.
+         */
+        public Sample(double score, Year year, School school) {
+            requireNonNull(year);
+            requireNonNull(school);
+            this.score = score;
+            this.year = year;
+            this.school = school;
+        }
+    }
+}
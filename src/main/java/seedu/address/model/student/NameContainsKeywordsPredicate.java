@@ -1,14 +1,14 @@
 package seedu.address.model.student;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
 import seedu.address.commons.util.StringUtil;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Student> {
+public class NameContainsKeywordsPredicate implements TokenIndexedPredicate {
     public final List<String> keywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
@@ -21,6 +21,21 @@ public class NameContainsKeywordsPredicate implements Predicate<Student> {
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(student.getName().fullName, keyword));
     }
 
+    @Override
+    public Set<StudentIdentity> getMatchingStudents(StudentTokenIndex index) {
+        return index.getStudentsWithAnyNameWord(keywords);
+    }
+
+    @Override
+    public int estimateMatches(StudentTokenIndex index) {
+        return index.estimateStudentsWithAnyNameWord(keywords);
+    }
+
+    @Override
+    public String toString() {
+        return "name has any of " + keywords;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
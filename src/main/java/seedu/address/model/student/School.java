@@ -3,6 +3,8 @@ package seedu.address.model.student;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Student's school in Reeve.
  * Guarantees: immutable; is valid as declared in {@link #isValidSchool(String)}
@@ -17,6 +19,7 @@ public class School {
      * First character cannot be empty string if not empty string becomes valid school.
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String school;
 
@@ -35,7 +38,7 @@ public class School {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidSchool(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
 
@@ -1,14 +1,14 @@
 package seedu.address.model.student;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
 import seedu.address.commons.util.StringUtil;
 
 /**
  * Tests that a {@code Student}'s {@code School} matches any of the keywords given.
  */
-public class SchoolContainsKeywordsPredicate implements Predicate<Student> {
+public class SchoolContainsKeywordsPredicate implements TokenIndexedPredicate {
     public final List<String> keywords;
 
     public SchoolContainsKeywordsPredicate(List<String> keywords) {
@@ -25,6 +25,21 @@ public class SchoolContainsKeywordsPredicate implements Predicate<Student> {
                 .allMatch(keyword -> StringUtil.containsIgnoreCase(student.getSchool().school, keyword));
     }
 
+    @Override
+    public Set<StudentIdentity> getMatchingStudents(StudentTokenIndex index) {
+        return index.getStudentsWithAllSchoolSubstrings(keywords);
+    }
+
+    @Override
+    public int estimateMatches(StudentTokenIndex index) {
+        return index.estimateStudentsWithAllSchoolSubstrings(keywords);
+    }
+
+    @Override
+    public String toString() {
+        return "school contains all of " + keywords;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -29,6 +29,7 @@ public class Student {
     private final Year year;
     private final Admin admin;
     private final Academic academic;
+    private final StudentIdentity identity;
 
     /**
      *  alternate constructor where admin and academic details need not be changed
@@ -40,6 +41,7 @@ public class Student {
         this.phone = phone;
         this.school = school;
         this.year = year;
+        this.identity = new StudentIdentity(name, phone, school, year);
         this.admin = admin;
         this.academic = academic;
     }
@@ -55,6 +57,7 @@ public class Student {
         this.phone = phone;
         this.school = school;
         this.year = year;
+        this.identity = new StudentIdentity(name, phone, school, year);
         this.admin = new Admin(venue, time, fee, date, details);
         this.academic = new Academic(questions, attendances, exams);
     }
@@ -69,6 +72,7 @@ public class Student {
         this.phone = phone;
         this.school = school;
         this.year = year;
+        this.identity = new StudentIdentity(name, phone, school, year);
         this.admin = admin;
         this.academic = new Academic(questions, attendances, exams);
     }
@@ -84,6 +88,7 @@ public class Student {
         this.phone = phone;
         this.school = school;
         this.year = year;
+        this.identity = new StudentIdentity(name, phone, school, year);
         this.admin = new Admin(venue, time, fee, date, details);
         this.academic = academic;
     }
@@ -104,9 +109,13 @@ public class Student {
         return year;
     }
 
+    public StudentIdentity getIdentity() {
+        return identity;
+    }
+
     /**
-     * Returns true if both student of the same name have at least one other identity field that is the same.
-     * This defines a weaker notion of equality between two students.
+     * Returns true if both students share the same name, phone, school and year, ignoring the case of name
+     * and school. This defines a weaker notion of equality between two students.
      */
     public boolean isSameStudent(Student otherStudent) {
         if (otherStudent == this) {
@@ -114,10 +123,7 @@ public class Student {
         }
 
         return otherStudent != null
-                && otherStudent.getName().toString().toLowerCase().equals(getName().toString().toLowerCase())
-                && otherStudent.getPhone().equals(getPhone())
-                && otherStudent.getSchool().toString().toLowerCase().equals(getSchool().toString().toLowerCase())
-                && otherStudent.getYear().equals(getYear());
+                && otherStudent.getIdentity().equals(getIdentity());
     }
 
     /**
@@ -229,6 +235,70 @@ public class Student {
         return academic.containsAttendance(attendance);
     }
 
+    /**
+     * Creates a new student object with a newly added attendance inserted in order of date in the attendance list.
+     * There must not already be an attendance on the same date in the list.
+     * This operation preserves the immutability of the Student class.
+     */
+    public Student addAttendance(Attendance attendance) {
+        return new Student(name, phone, school, year, admin, academic.addAttendance(attendance));
+    }
+
+    /**
+     * Creates a new student object with the specified attendance removed from the list.
+     * The attendance to delete must already be in the list.
+     * This operation preserves the immutability of the Student class.
+     */
+    public Student deleteAttendance(Attendance target) {
+        return new Student(name, phone, school, year, admin, academic.deleteAttendance(target));
+    }
+
+    //==============EXAM OPERATIONS==============//
+
+    /**
+     * Creates a new student object with a newly added exam inserted in order of date in the exams list.
+     * The newly added exam must not already be present in the list.
+     * This operation preserves the immutability of the Student class.
+     */
+    public Student addExam(Exam exam) {
+        return new Student(name, phone, school, year, admin, academic.addExam(exam));
+    }
+
+    /**
+     * Creates a new student object with the specified exam removed from the list.
+     * The exam to delete must already be in the list.
+     * This operation preserves the immutability of the Student class.
+     */
+    public Student deleteExam(Exam target) {
+        return new Student(name, phone, school, year, admin, academic.deleteExam(target));
+    }
+
+    //==============DETAIL OPERATIONS==============//
+
+    /**
+     * Creates a new student object with {@code detail} added at the end of the details list.
+     * This operation preserves the immutability of the Student class.
+     */
+    public Student addDetail(Detail detail) {
+        return new Student(name, phone, school, year, admin.addDetail(detail), academic);
+    }
+
+    /**
+     * Creates a new student object with the detail at {@code index} replaced by {@code detail}.
+     * This operation preserves the immutability of the Student class.
+     */
+    public Student setDetail(int index, Detail detail) {
+        return new Student(name, phone, school, year, admin.setDetail(index, detail), academic);
+    }
+
+    /**
+     * Creates a new student object with the detail at {@code index} removed.
+     * This operation preserves the immutability of the Student class.
+     */
+    public Student deleteDetail(int index) {
+        return new Student(name, phone, school, year, admin.deleteDetail(index), academic);
+    }
+
     //==============ADMIN ACCESSORS==============//
     public Admin getAdmin() {
         return admin;
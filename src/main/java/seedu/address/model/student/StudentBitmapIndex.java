@@ -0,0 +1,194 @@
+package seedu.address.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import seedu.address.model.student.admin.OverdueFeePredicate;
+
+/**
+ * Indexes students by school type, year, lesson day and overdue fees as bitmaps, so that the students in any
+ * combination of these categories can be counted or listed by intersecting bitmaps instead of testing every student.
+ *
+ * Each student is given a slot, which is its bit in every bitmap. The slots of removed students are reused by the
+ * next students added, so the bitmaps stay dense and take up about one bit per student for each category.
+ *
+ * Whether fees are overdue depends on the current date, so the students with fees to pay are also kept in order of
+ * their date of last payment. The students with overdue fees on any date are then a range of this order, which
+ * only grows as the date moves forward, so the bitmap of overdue students is rolled forward to a later date by
+ * adding the students in the range between the two dates.
+ */
+class StudentBitmapIndex {
+
+    private final Map<StudentIdentity, Integer> slots = new HashMap<>();
+    private final List<Student> studentsBySlot = new ArrayList<>();
+    private final BitSet occupiedSlots = new BitSet();
+    private final Map<SchoolType, BitSet> slotsBySchoolType = new EnumMap<>(SchoolType.class);
+    private final Map<Year, BitSet> slotsByYear = new HashMap<>();
+    private final Map<DayOfWeek, BitSet> slotsByLessonDay = new EnumMap<>(DayOfWeek.class);
+    private final NavigableMap<LocalDate, BitSet> slotsByLastPaid = new TreeMap<>(); // only students with fees
+
+    private BitSet overdueSlots; // null if not built for the current students
+    private LocalDate overdueDate;
+
+    /**
+     * Adds {@code student} to the index.
+     */
+    void add(Student student) {
+        requireNonNull(student);
+        int slot = occupiedSlots.nextClearBit(0);
+        slots.put(student.getIdentity(), slot);
+        if (slot == studentsBySlot.size()) {
+            studentsBySlot.add(student);
+        } else {
+            studentsBySlot.set(slot, student);
+        }
+
+        occupiedSlots.set(slot);
+        slotsBySchoolType.computeIfAbsent(student.getYear().schoolType, unused -> new BitSet()).set(slot);
+        slotsByYear.computeIfAbsent(student.getYear(), unused -> new BitSet()).set(slot);
+        slotsByLessonDay.computeIfAbsent(student.getClassTime().dayOfWeek, unused -> new BitSet()).set(slot);
+        if (hasFee(student)) {
+            slotsByLastPaid.computeIfAbsent(student.getPaymentDate().lastPaid, unused -> new BitSet()).set(slot);
+        }
+        if (overdueSlots != null) {
+            overdueSlots.set(slot, OverdueFeePredicate.isOverdue(student, overdueDate));
+        }
+    }
+
+    /**
+     * Removes {@code student} from the index.
+     * The student must have been added to the index.
+     */
+    void remove(Student student) {
+        requireNonNull(student);
+        Integer slot = slots.remove(student.getIdentity());
+        assert slot != null;
+
+        Student indexedStudent = studentsBySlot.set(slot, null);
+        occupiedSlots.clear(slot);
+        slotsBySchoolType.get(indexedStudent.getYear().schoolType).clear(slot);
+        slotsByYear.get(indexedStudent.getYear()).clear(slot);
+        slotsByLessonDay.get(indexedStudent.getClassTime().dayOfWeek).clear(slot);
+        if (hasFee(indexedStudent)) {
+            LocalDate lastPaid = indexedStudent.getPaymentDate().lastPaid;
+            BitSet lastPaidSlots = slotsByLastPaid.get(lastPaid);
+            lastPaidSlots.clear(slot);
+            if (lastPaidSlots.isEmpty()) {
+                slotsByLastPaid.remove(lastPaid);
+            }
+        }
+        if (overdueSlots != null) {
+            overdueSlots.clear(slot);
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code students}.
+     */
+    void setAll(Collection<Student> students) {
+        slots.clear();
+        studentsBySlot.clear();
+        occupiedSlots.clear();
+        slotsBySchoolType.clear();
+        slotsByYear.clear();
+        slotsByLessonDay.clear();
+        slotsByLastPaid.clear();
+        overdueSlots = null;
+        students.forEach(this::add);
+    }
+
+    /**
+     * Returns the slots of the students that {@code filter} matches on {@code currentDate}.
+     */
+    BitSet getMatchingSlots(CategoryFilter filter, LocalDate currentDate) {
+        requireNonNull(filter);
+        requireNonNull(currentDate);
+        BitSet matches = (BitSet) occupiedSlots.clone();
+        filter.getSchoolType().ifPresent(schoolType -> matches.and(getSlots(slotsBySchoolType, schoolType)));
+        filter.getYear().ifPresent(year -> matches.and(getSlots(slotsByYear, year)));
+        filter.getLessonDay().ifPresent(day -> matches.and(getSlots(slotsByLessonDay, day)));
+        if (filter.isOverdue()) {
+            matches.and(getOverdueSlots(currentDate));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the students whose fees are overdue on one of {@code previousDate} and {@code currentDate}, but not
+     * on the other.
+     */
+    List<Student> getStudentsWithOverdueChanged(LocalDate previousDate, LocalDate currentDate) {
+        requireNonNull(previousDate);
+        requireNonNull(currentDate);
+        LocalDate previousThreshold = getOverdueThreshold(previousDate);
+        LocalDate currentThreshold = getOverdueThreshold(currentDate);
+        boolean isForward = previousThreshold.isBefore(currentThreshold);
+        BitSet changedSlots = getSlotsPaidBetween(isForward ? previousThreshold : currentThreshold,
+                isForward ? currentThreshold : previousThreshold);
+
+        List<Student> changedStudents = new ArrayList<>();
+        for (int slot = changedSlots.nextSetBit(0); slot >= 0; slot = changedSlots.nextSetBit(slot + 1)) {
+            changedStudents.add(studentsBySlot.get(slot));
+        }
+        return changedStudents;
+    }
+
+    /**
+     * Returns true if {@code student} is in {@code matchingSlots}.
+     */
+    boolean isInSlots(Student student, BitSet matchingSlots) {
+        Integer slot = slots.get(student.getIdentity());
+        return slot != null && matchingSlots.get(slot);
+    }
+
+    private BitSet getOverdueSlots(LocalDate currentDate) {
+        if (overdueSlots != null && !currentDate.isBefore(overdueDate)) {
+            overdueSlots.or(getSlotsPaidBetween(getOverdueThreshold(overdueDate), getOverdueThreshold(currentDate)));
+        } else {
+            overdueSlots = new BitSet();
+            slotsByLastPaid.headMap(getOverdueThreshold(currentDate), false).values().forEach(overdueSlots::or);
+        }
+        overdueDate = currentDate;
+        return overdueSlots;
+    }
+
+    /**
+     * Returns the slots of the students with fees to pay who last paid on or after {@code from} and before
+     * {@code to}.
+     */
+    private BitSet getSlotsPaidBetween(LocalDate from, LocalDate to) {
+        BitSet slots = new BitSet();
+        if (from.isBefore(to)) {
+            slotsByLastPaid.subMap(from, true, to, false).values().forEach(slots::or);
+        }
+        return slots;
+    }
+
+    /**
+     * Returns the date before which the last payment of a student with fees to pay is overdue on {@code date}.
+     *
+     * @see OverdueFeePredicate#isOverdue(Student, LocalDate)
+     */
+    private static LocalDate getOverdueThreshold(LocalDate date) {
+        return date.minusMonths(1);
+    }
+
+    private static boolean hasFee(Student student) {
+        return student.getAdmin().getFee().amount > 0;
+    }
+
+    private static <K> BitSet getSlots(Map<K, BitSet> slotsByCategory, K category) {
+        return slotsByCategory.getOrDefault(category, new BitSet());
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.model.student;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+/**
+ * Represents the normalized identity fields of a {@code Student} in Reeve.
+ * Two students are considered the same student if and only if their identities are equal.
+ * Guarantees: immutable; name and school are stored in lower case so that comparisons are case insensitive.
+ *
+ * @see Student#isSameStudent(Student)
+ */
+public final class StudentIdentity {
+
+    private final String name;
+    private final String phone;
+    private final String school;
+    private final SchoolType schoolType;
+    private final int level;
+    private final int hashCode;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public StudentIdentity(Name name, Phone phone, School school, Year year) {
+        requireAllNonNull(name, phone, school, year);
+        this.name = name.fullName.toLowerCase();
+        this.phone = phone.value;
+        this.school = school.school.toLowerCase();
+        this.schoolType = year.schoolType;
+        this.level = year.level;
+        this.hashCode = Objects.hash(this.name, this.phone, this.school, schoolType, level);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof StudentIdentity)) {
+            return false;
+        }
+
+        StudentIdentity otherIdentity = (StudentIdentity) other;
+        return hashCode == otherIdentity.hashCode
+                && level == otherIdentity.level
+                && schoolType == otherIdentity.schoolType
+                && phone.equals(otherIdentity.phone)
+                && name.equals(otherIdentity.name)
+                && school.equals(otherIdentity.school);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s, %s, %s, %s %d", name, phone, school, schoolType, level);
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.address.model.student;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Tests that a {@code Student} matches all of a list of criteria, looking up the criteria that can be answered by
+ * the index of a {@code UniqueStudentList} instead of testing them on every student.
+ *
+ * The indexed criteria are ordered by the estimated number of students they match, and their matching students are
+ * intersected starting from the most selective criterion, stopping as soon as no candidates are left. The other
+ * criteria are only tested on the candidates that remain. The plan is made again whenever the list changes, and
+ * {@link #explain()} describes the plan that was last run.
+ */
+public class StudentQueryPlan implements Predicate<Student> {
+
+    private final List<TokenIndexedPredicate> indexedCriteria = new ArrayList<>();
+    private final List<Predicate<Student>> residualCriteria = new ArrayList<>();
+    private final UniqueStudentList students;
+
+    private boolean isPlanned = false;
+    private long plannedVersion;
+    private Set<StudentIdentity> candidates; // null if every student is a candidate
+    private String explanation;
+
+    /**
+     * Creates a plan that tests {@code criteria} against the students in {@code students}.
+     */
+    StudentQueryPlan(List<? extends Predicate<Student>> criteria, UniqueStudentList students) {
+        requireAllNonNull(criteria, students);
+        for (Predicate<Student> criterion : criteria) {
+            requireNonNull(criterion);
+            if (criterion instanceof TokenIndexedPredicate) {
+                indexedCriteria.add((TokenIndexedPredicate) criterion);
+            } else {
+                residualCriteria.add(criterion);
+            }
+        }
+        this.students = students;
+    }
+
+    @Override
+    public boolean test(Student student) {
+        planIfChanged();
+        if (candidates != null && !candidates.contains(student.getIdentity())) {
+            return false;
+        }
+        for (Predicate<Student> criterion : residualCriteria) {
+            if (!criterion.test(student)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a description of the steps of the plan for the current students, with the estimated and actual
+     * number of students at each step.
+     */
+    public String explain() {
+        planIfChanged();
+        return explanation;
+    }
+
+    private void planIfChanged() {
+        if (isPlanned && plannedVersion == students.getVersion()) {
+            return;
+        }
+
+        StudentTokenIndex index = students.getTokenIndex();
+        Map<TokenIndexedPredicate, Integer> estimates = new HashMap<>();
+        for (TokenIndexedPredicate criterion : indexedCriteria) {
+            estimates.put(criterion, criterion.estimateMatches(index));
+        }
+        List<TokenIndexedPredicate> orderedCriteria = new ArrayList<>(indexedCriteria);
+        orderedCriteria.sort(Comparator.comparing(estimates::get));
+
+        StringBuilder builder = new StringBuilder("Query plan:");
+        int step = 1;
+        candidates = null;
+        for (TokenIndexedPredicate criterion : orderedCriteria) {
+            builder.append(String.format("\n%d. index lookup: %s (estimated %d)",
+                    step++, criterion, estimates.get(criterion)));
+            if (candidates != null && candidates.isEmpty()) {
+                builder.append(", skipped");
+                continue;
+            }
+
+            Set<StudentIdentity> matches = criterion.getMatchingStudents(index);
+            if (candidates == null) {
+                candidates = matches;
+            } else {
+                candidates.retainAll(matches);
+            }
+            builder.append(String.format(", %d candidates", candidates.size()));
+        }
+        for (Predicate<Student> criterion : residualCriteria) {
+            builder.append(String.format("\n%d. filter candidates: %s", step++, criterion));
+        }
+        if (step == 1) {
+            builder.append("\n1. all students");
+        }
+
+        explanation = builder.toString();
+        plannedVersion = students.getVersion();
+        isPlanned = true;
+    }
+}
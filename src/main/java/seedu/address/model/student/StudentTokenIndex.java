@@ -0,0 +1,182 @@
+package seedu.address.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Indexes students by the words in their names and schools, and by their years, so that students can be searched
+ * for without testing every student.
+ *
+ * Name words are indexed in lower case, for whole word matches. Every suffix of every school word is indexed in
+ * lower case, so that the school words containing a keyword are exactly those with a suffix starting with the
+ * keyword, which can be found as a range of the sorted suffixes. The number of students a search matches can be
+ * estimated from the sizes of the postings it would read, without reading them.
+ */
+public class StudentTokenIndex {
+
+    private final Map<String, Set<StudentIdentity>> studentsByNameWord = new HashMap<>();
+    private final NavigableMap<String, Set<StudentIdentity>> studentsBySchoolSuffix = new TreeMap<>();
+    private final Map<Year, Set<StudentIdentity>> studentsByYear = new HashMap<>();
+
+    /**
+     * Adds {@code student} to the index.
+     */
+    void add(Student student) {
+        requireNonNull(student);
+        StudentIdentity identity = student.getIdentity();
+        for (String word : toWords(student.getName().fullName)) {
+            studentsByNameWord.computeIfAbsent(word, unused -> new HashSet<>()).add(identity);
+        }
+        for (String word : toWords(student.getSchool().school)) {
+            for (int i = 0; i < word.length(); i++) {
+                studentsBySchoolSuffix.computeIfAbsent(word.substring(i), unused -> new HashSet<>()).add(identity);
+            }
+        }
+        studentsByYear.computeIfAbsent(student.getYear(), unused -> new HashSet<>()).add(identity);
+    }
+
+    /**
+     * Removes {@code student} from the index.
+     * The student must have been added to the index.
+     */
+    void remove(Student student) {
+        requireNonNull(student);
+        StudentIdentity identity = student.getIdentity();
+        for (String word : toWords(student.getName().fullName)) {
+            removeFrom(studentsByNameWord, word, identity);
+        }
+        for (String word : toWords(student.getSchool().school)) {
+            for (int i = 0; i < word.length(); i++) {
+                removeFrom(studentsBySchoolSuffix, word.substring(i), identity);
+            }
+        }
+        removeFrom(studentsByYear, student.getYear(), identity);
+    }
+
+    /**
+     * Replaces the contents of the index with {@code students}.
+     */
+    void setAll(Collection<Student> students) {
+        studentsByNameWord.clear();
+        studentsBySchoolSuffix.clear();
+        studentsByYear.clear();
+        students.forEach(this::add);
+    }
+
+    /**
+     * Returns the identities of the students with a name word equal to any of {@code keywords}, ignoring case.
+     */
+    public Set<StudentIdentity> getStudentsWithAnyNameWord(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<StudentIdentity> matches = new HashSet<>();
+        for (String keyword : keywords) {
+            matches.addAll(studentsByNameWord.getOrDefault(keyword.trim().toLowerCase(), Collections.emptySet()));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the identities of the students whose school has a word containing each of {@code keywords},
+     * ignoring case. No students are returned if there are no keywords.
+     */
+    public Set<StudentIdentity> getStudentsWithAllSchoolSubstrings(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<StudentIdentity> matches = null;
+        for (String keyword : keywords) {
+            Set<StudentIdentity> keywordMatches = getStudentsWithSchoolSubstring(keyword.trim().toLowerCase());
+            if (matches == null) {
+                matches = keywordMatches;
+            } else {
+                matches.retainAll(keywordMatches);
+            }
+            if (matches.isEmpty()) {
+                break;
+            }
+        }
+        return matches == null ? new HashSet<>() : matches;
+    }
+
+    /**
+     * Returns the identities of the students in {@code year}.
+     */
+    public Set<StudentIdentity> getStudentsInYear(Year year) {
+        requireNonNull(year);
+        return new HashSet<>(studentsByYear.getOrDefault(year, Collections.emptySet()));
+    }
+
+    /**
+     * Returns an upper bound of the number of students with a name word equal to any of {@code keywords}.
+     */
+    public int estimateStudentsWithAnyNameWord(Collection<String> keywords) {
+        requireNonNull(keywords);
+        int estimate = 0;
+        for (String keyword : keywords) {
+            estimate += studentsByNameWord.getOrDefault(keyword.trim().toLowerCase(), Collections.emptySet()).size();
+        }
+        return estimate;
+    }
+
+    /**
+     * Returns an upper bound of the number of students whose school has a word containing each of
+     * {@code keywords}, which is the estimate for the most selective keyword.
+     */
+    public int estimateStudentsWithAllSchoolSubstrings(Collection<String> keywords) {
+        requireNonNull(keywords);
+        int estimate = keywords.isEmpty() ? 0 : Integer.MAX_VALUE;
+        for (String keyword : keywords) {
+            String substring = keyword.trim().toLowerCase();
+            int keywordEstimate = 0;
+            if (!substring.isEmpty()) {
+                for (Set<StudentIdentity> students : getSchoolSuffixesStartingWith(substring).values()) {
+                    keywordEstimate += students.size();
+                }
+            }
+            estimate = Math.min(estimate, keywordEstimate);
+        }
+        return estimate;
+    }
+
+    /**
+     * Returns the number of students in {@code year}.
+     */
+    public int estimateStudentsInYear(Year year) {
+        requireNonNull(year);
+        return studentsByYear.getOrDefault(year, Collections.emptySet()).size();
+    }
+
+    private Set<StudentIdentity> getStudentsWithSchoolSubstring(String substring) {
+        Set<StudentIdentity> matches = new HashSet<>();
+        if (substring.isEmpty()) {
+            return matches;
+        }
+        for (Set<StudentIdentity> students : getSchoolSuffixesStartingWith(substring).values()) {
+            matches.addAll(students);
+        }
+        return matches;
+    }
+
+    private NavigableMap<String, Set<StudentIdentity>> getSchoolSuffixesStartingWith(String prefix) {
+        return studentsBySchoolSuffix.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    private static <K> void removeFrom(Map<K, Set<StudentIdentity>> index, K key, StudentIdentity identity) {
+        Set<StudentIdentity> students = index.get(key);
+        if (students != null && students.remove(identity) && students.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private static List<String> toWords(String text) {
+        String trimmed = text.trim().toLowerCase();
+        return trimmed.isEmpty() ? List.of() : List.of(trimmed.split("\\s+"));
+    }
+}
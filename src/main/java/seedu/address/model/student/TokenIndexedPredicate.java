@@ -0,0 +1,22 @@
+package seedu.address.model.student;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A {@code Predicate<Student>} whose matching students can be looked up in a {@code StudentTokenIndex},
+ * instead of testing every student.
+ */
+public interface TokenIndexedPredicate extends Predicate<Student> {
+
+    /**
+     * Returns the identities of the indexed students that this predicate matches.
+     */
+    Set<StudentIdentity> getMatchingStudents(StudentTokenIndex index);
+
+    /**
+     * Returns an upper bound of the number of indexed students that this predicate matches, which is cheaper to
+     * compute than the students themselves.
+     */
+    int estimateMatches(StudentTokenIndex index);
+}
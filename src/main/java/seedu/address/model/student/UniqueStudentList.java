@@ -3,8 +3,15 @@ package seedu.address.model.student;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,21 +26,37 @@ import seedu.address.model.student.exceptions.StudentNotFoundException;
  * as to ensure that the person with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * An index from each student's {@code StudentIdentity} to its position in the list is kept beside the observable
+ * list, so that identity checks, additions and replacements do not need to scan the whole list. Students are also
+ * indexed by class time so that clashing lessons can be found quickly, and by the words of their names and schools
+ * and years so that they can be searched for quickly. Bitmaps of the students in each school type, year, lesson day
+ * and overdue fee status are kept so that students in these categories can be counted and listed quickly. Whether
+ * fees are overdue is decided as of the current date of the list, which is moved forward by
+ * {@link #setCurrentDate(LocalDate)}. The statistics of each exam taken by the students are cached until a change to
+ * the list affects that exam.
  *
  * @see Student#isSameStudent(Student)
+ * @see StudentQueryPlan
  */
 public class UniqueStudentList implements Iterable<Student> {
 
     private final ObservableList<Student> internalList = FXCollections.observableArrayList();
     private final ObservableList<Student> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<StudentIdentity, Integer> identityIndex = new HashMap<>();
+    private final ClassTimeIndex classTimeIndex = new ClassTimeIndex();
+    private final StudentTokenIndex tokenIndex = new StudentTokenIndex();
+    private final StudentBitmapIndex bitmapIndex = new StudentBitmapIndex();
+    private final ExamAnalytics examAnalytics = new ExamAnalytics();
+    private long version = 0;
+    private LocalDate currentDate = LocalDate.now();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Student toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameStudent);
+        return identityIndex.containsKey(toCheck.getIdentity());
     }
 
     /**
@@ -45,9 +68,38 @@ public class UniqueStudentList implements Iterable<Student> {
         if (contains(toAdd)) {
             throw new DuplicateStudentException();
         }
+        identityIndex.put(toAdd.getIdentity(), internalList.size());
+        classTimeIndex.add(toAdd);
+        tokenIndex.add(toAdd);
+        bitmapIndex.add(toAdd);
+        examAnalytics.addOrRemove(toAdd);
+        version++;
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds {@code students} to the end of the list, in order, as a single change to the observable list.
+     * None of the students may already exist in the list, and {@code students} must not contain duplicate students.
+     */
+    public void addAll(List<Student> students) {
+        requireAllNonNull(students);
+        Map<StudentIdentity, Integer> addedIndex = buildIdentityIndex(students);
+        if (addedIndex == null || students.stream().anyMatch(this::contains)) {
+            throw new DuplicateStudentException();
+        }
+
+        int size = internalList.size();
+        addedIndex.forEach((identity, index) -> identityIndex.put(identity, size + index));
+        for (Student student : students) {
+            classTimeIndex.add(student);
+            tokenIndex.add(student);
+            bitmapIndex.add(student);
+            examAnalytics.addOrRemove(student);
+        }
+        version++;
+        internalList.addAll(students);
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -56,7 +108,7 @@ public class UniqueStudentList implements Iterable<Student> {
     public void setStudent(Student target, Student editedStudent) {
         requireAllNonNull(target, editedStudent);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new StudentNotFoundException();
         }
@@ -65,6 +117,16 @@ public class UniqueStudentList implements Iterable<Student> {
             throw new DuplicateStudentException();
         }
 
+        identityIndex.remove(target.getIdentity());
+        identityIndex.put(editedStudent.getIdentity(), index);
+        classTimeIndex.remove(target);
+        classTimeIndex.add(editedStudent);
+        tokenIndex.remove(target);
+        tokenIndex.add(editedStudent);
+        bitmapIndex.remove(target);
+        bitmapIndex.add(editedStudent);
+        examAnalytics.replace(target, editedStudent);
+        version++;
         internalList.set(index, editedStudent);
     }
 
@@ -74,13 +136,32 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public void remove(Student toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new StudentNotFoundException();
         }
+
+        identityIndex.remove(toRemove.getIdentity());
+        classTimeIndex.remove(internalList.get(index));
+        tokenIndex.remove(internalList.get(index));
+        bitmapIndex.remove(internalList.get(index));
+        examAnalytics.addOrRemove(internalList.get(index));
+        version++;
+        internalList.remove(index);
+        for (int i = index; i < internalList.size(); i++) {
+            identityIndex.put(internalList.get(i).getIdentity(), i);
+        }
     }
 
     public void setStudents(UniqueStudentList replacement) {
         requireNonNull(replacement);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
+        classTimeIndex.setAll(replacement.internalList);
+        tokenIndex.setAll(replacement.internalList);
+        bitmapIndex.setAll(replacement.internalList);
+        examAnalytics.clear();
+        version++;
         internalList.setAll(replacement.internalList);
     }
 
@@ -90,10 +171,18 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public void setStudents(List<Student> students) {
         requireAllNonNull(students);
-        if (!studentsAreUnique(students)) {
+        Map<StudentIdentity, Integer> replacementIndex = buildIdentityIndex(students);
+        if (replacementIndex == null) {
             throw new DuplicateStudentException();
         }
 
+        identityIndex.clear();
+        identityIndex.putAll(replacementIndex);
+        classTimeIndex.setAll(students);
+        tokenIndex.setAll(students);
+        bitmapIndex.setAll(students);
+        examAnalytics.clear();
+        version++;
         internalList.setAll(students);
     }
 
@@ -101,7 +190,106 @@ public class UniqueStudentList implements Iterable<Student> {
      * Returns true if the student to be added has a class time that clashes with the other students.
      */
     public boolean hasClashingClassTimeWith(Student test) {
-        return internalList.stream().anyMatch(test::hasClashingClassTimeWith);
+        return !getClashingStudents(test).isEmpty();
+    }
+
+    /**
+     * Returns the students whose class time clashes with that of {@code test}, ordered by lesson start time.
+     */
+    public List<Student> getClashingStudents(Student test) {
+        requireNonNull(test);
+        return classTimeIndex.getClashingStudents(test.getClassTime());
+    }
+
+    /**
+     * Returns a predicate that tests that a student in the list matches all of {@code criteria}, which looks up the
+     * criteria that are {@code TokenIndexedPredicate}s in the index of the list.
+     */
+    public StudentQueryPlan planQuery(List<? extends Predicate<Student>> criteria) {
+        return new StudentQueryPlan(criteria, this);
+    }
+
+    /**
+     * Returns the number of students in the list in all of the categories of {@code filter}.
+     */
+    public int countMatching(CategoryFilter filter) {
+        return bitmapIndex.getMatchingSlots(filter, currentDate).cardinality();
+    }
+
+    /**
+     * Returns a predicate that tests that a student in the list is in all of the categories of {@code filter}.
+     * The students in the categories are looked up once each time the list changes, instead of for every student.
+     */
+    public Predicate<Student> getCategoryPredicate(CategoryFilter filter) {
+        requireNonNull(filter);
+        return new Predicate<>() {
+            private BitSet matchingSlots;
+            private long matchedVersion;
+            private LocalDate matchedDate;
+
+            @Override
+            public boolean test(Student student) {
+                if (matchingSlots == null || matchedVersion != version || !currentDate.equals(matchedDate)) {
+                    matchingSlots = bitmapIndex.getMatchingSlots(filter, currentDate);
+                    matchedVersion = version;
+                    matchedDate = currentDate;
+                }
+                return bitmapIndex.isInSlots(student, matchingSlots);
+            }
+
+            @Override
+            public String toString() {
+                return filter.toString();
+            }
+        };
+    }
+
+    /**
+     * Returns the statistics of the exam named {@code examName} taken by the students in the list, if any of them
+     * took it.
+     */
+    public Optional<ExamStatistics> getExamStatistics(String examName) {
+        return examAnalytics.getStatistics(examName, internalList);
+    }
+
+    /**
+     * Returns the statistics of every exam taken by the students in the list, in order of exam name.
+     */
+    public List<ExamStatistics> getAllExamStatistics() {
+        List<ExamStatistics> statistics = examAnalytics.getAllStatistics(internalList);
+        statistics.sort(Comparator.comparing(ExamStatistics::getExamName));
+        return statistics;
+    }
+
+    /**
+     * Sets the date on which the list decides whether fees are overdue to {@code date}.
+     * The students whose fees are overdue on only one of the previous and the new date are replaced by themselves
+     * in the observable list, so that lists and predicates depending on whether fees are overdue are updated for
+     * these students only. The students themselves are unchanged, so this does not count as a modification.
+     */
+    public void setCurrentDate(LocalDate date) {
+        requireNonNull(date);
+        List<Student> changedStudents = bitmapIndex.getStudentsWithOverdueChanged(currentDate, date);
+        currentDate = date;
+        for (Student student : changedStudents) {
+            int index = identityIndex.get(student.getIdentity());
+            internalList.set(index, internalList.get(index));
+        }
+    }
+
+    public LocalDate getCurrentDate() {
+        return currentDate;
+    }
+
+    StudentTokenIndex getTokenIndex() {
+        return tokenIndex;
+    }
+
+    /**
+     * Returns the number of modifications made to this list so far.
+     */
+    public long getVersion() {
+        return version;
     }
 
     /**
@@ -129,16 +317,27 @@ public class UniqueStudentList implements Iterable<Student> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position of the student that is equal to {@code student} in the list, or -1 if there is none.
      */
-    private boolean studentsAreUnique(List<Student> students) {
-        for (int i = 0; i < students.size() - 1; i++) {
-            for (int j = i + 1; j < students.size(); j++) {
-                if (students.get(i).isSameStudent(students.get(j))) {
-                    return false;
-                }
+    private int indexOf(Student student) {
+        Integer index = identityIndex.get(student.getIdentity());
+        if (index == null || !internalList.get(index).equals(student)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Returns an index from identity to position for {@code students},
+     * or null if {@code students} does not contain only unique students.
+     */
+    private static Map<StudentIdentity, Integer> buildIdentityIndex(List<Student> students) {
+        Map<StudentIdentity, Integer> index = new HashMap<>(students.size() * 2);
+        for (int i = 0; i < students.size(); i++) {
+            if (index.putIfAbsent(students.get(i).getIdentity(), i) != null) {
+                return null;
             }
         }
-        return true;
+        return index;
     }
 }
@@ -3,6 +3,7 @@ package seedu.address.model.student;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Objects;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -16,6 +17,7 @@ public class Year {
 
     public static final String VALIDATION_REGEX = "((secondary|sec|s|Secondary|Sec|S)\\s*([1-5])|"
         + "(primary|pri|p|Primary|Pri|P)\\s*([1-6])|(jc|Jc|j|J|JC)\\s*([1-2]))\\s*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     /**
      * Used for separation of year into school type and level.
@@ -56,7 +58,7 @@ public class Year {
      * Returns true if a given string is a valid year.
      */
     public static boolean isValidYear(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -71,4 +73,9 @@ public class Year {
                 && schoolType.equals(((Year) other).schoolType)) // state check
                 && level.equals(((Year) other).level);
     }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(schoolType, level);
+    }
 }
@@ -1,11 +1,11 @@
 package seedu.address.model.student;
 
-import java.util.function.Predicate;
+import java.util.Set;
 
 /**
  * Tests that a {@code Student}'s {@code Year} matches the given year.
  */
-public class YearMatchPredicate implements Predicate<Student> {
+public class YearMatchPredicate implements TokenIndexedPredicate {
 
     // Attributes
     public final Year year;
@@ -20,6 +20,21 @@ public class YearMatchPredicate implements Predicate<Student> {
         return this.year.equals(student.getYear());
     }
 
+    @Override
+    public Set<StudentIdentity> getMatchingStudents(StudentTokenIndex index) {
+        return index.getStudentsInYear(year);
+    }
+
+    @Override
+    public int estimateMatches(StudentTokenIndex index) {
+        return index.estimateStudentsInYear(year);
+    }
+
+    @Override
+    public String toString() {
+        return "year is " + year;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
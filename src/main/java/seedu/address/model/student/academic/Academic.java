@@ -3,23 +3,36 @@ package seedu.address.model.student.academic;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.student.academic.exam.Exam;
 import seedu.address.model.student.academic.question.Question;
 
 /**
  * Represents all academic details of a Student in Reeve.
  * Consists of questions, exams and attendance.
+ * The details may be loaded lazily, in which case they are only loaded the first time they are accessed.
+ * The details are kept in {@code PersistentList}s, so an academic with one detail added, changed or removed shares
+ * almost all of its details with the original, and the lists returned by the accessors are read-only.
+ * Attendance and exams are kept in order of date, with exams on the same date in the order they were added, so
+ * they can be looked up by date or listed for a range of dates in O(log n) time, and iterated in date order.
  */
 public class Academic {
 
-    private final List<Question> questions = new ArrayList<>();
-    private final List<Attendance> attendance = new ArrayList<>();
-    private final List<Exam> exams = new ArrayList<>();
+    private PersistentList<Question> questions = PersistentList.empty();
+    private PersistentList<Attendance> attendance = PersistentList.empty();
+    private PersistentList<Exam> exams = PersistentList.empty();
+
+    /** Loads the details into the lists above, or null once they have been loaded. */
+    private volatile Loader loader;
 
     /**
      * Builds an Academic object.
@@ -27,27 +40,110 @@ public class Academic {
      */
     public Academic(List<Question> questions, List<Attendance> attendance, List<Exam> exams) {
         requireAllNonNull(questions, attendance, exams);
-        this.questions.addAll(questions);
-        this.attendance.addAll(attendance);
-        this.exams.addAll(exams);
+        this.questions = PersistentList.copyOf(questions);
+        this.attendance = sortByDate(attendance, Attendance::getLessonDate);
+        this.exams = sortByDate(exams, Exam::getDate);
+    }
+
+    /**
+     * Builds an Academic object from lists of attendance and exams that are already in order of date, so that an
+     * academic with one detail changed is built without going through the other details.
+     */
+    private Academic(PersistentList<Question> questions, PersistentList<Attendance> attendance,
+            PersistentList<Exam> exams) {
+        this.questions = questions;
+        this.attendance = attendance;
+        this.exams = exams;
     }
 
-    private Academic(Academic copy) {
-        this.questions.addAll(copy.questions);
-        this.attendance.addAll(copy.attendance);
-        this.exams.addAll(copy.exams);
+    private Academic(Loader loader) {
+        this.loader = loader;
+    }
+
+    /**
+     * Returns an {@code Academic} whose details are only loaded by {@code loader} when they are first accessed.
+     */
+    public static Academic lazy(Loader loader) {
+        requireNonNull(loader);
+        return new Academic(loader);
+    }
+
+    /**
+     * Returns true if the details of this academic are in memory.
+     */
+    public boolean isLoaded() {
+        return loader == null;
+    }
+
+    /**
+     * Returns an academic with the same details as this academic, that are in memory.
+     * If the details of this academic are not loaded yet, they are loaded into a new academic and are not kept by
+     * this academic, so that reading the details once, such as to save them, does not keep them in memory.
+     */
+    public Academic withDetailsLoaded() {
+        Loader currentLoader = loader;
+        return currentLoader == null ? this : currentLoader.load();
+    }
+
+    private void loadDetails() {
+        if (loader == null) {
+            return;
+        }
+        synchronized (this) {
+            if (loader != null) {
+                Academic loaded = loader.load();
+                loaded.loadDetails();
+                questions = loaded.questions;
+                attendance = loaded.attendance;
+                exams = loaded.exams;
+                loader = null;
+            }
+        }
     }
 
     public List<Question> getQuestions() {
-        return new ArrayList<>(questions);
+        loadDetails();
+        return questions;
     }
 
     public List<Attendance> getAttendance() {
-        return new ArrayList<>(attendance);
+        loadDetails();
+        return attendance;
     }
 
     public List<Exam> getExams() {
-        return new ArrayList<>(exams);
+        loadDetails();
+        return exams;
+    }
+
+    /**
+     * Returns the attendance on {@code date}, if there is one.
+     */
+    public Optional<Attendance> getAttendanceOn(LocalDate date) {
+        requireNonNull(date);
+        loadDetails();
+        int index = attendance.indexOfFirst(record -> !record.getLessonDate().isBefore(date));
+        return index < attendance.size() && attendance.get(index).getLessonDate().equals(date)
+                ? Optional.of(attendance.get(index))
+                : Optional.empty();
+    }
+
+    /**
+     * Returns the attendance from {@code from} to {@code to}, both inclusive, in order of date.
+     */
+    public List<Attendance> getAttendanceBetween(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        loadDetails();
+        return getBetween(attendance, Attendance::getLessonDate, from, to);
+    }
+
+    /**
+     * Returns the exams from {@code from} to {@code to}, both inclusive, in order of date.
+     */
+    public List<Exam> getExamsBetween(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        loadDetails();
+        return getBetween(exams, Exam::getDate, from, to);
     }
 
     //@@author VaishakAnand
@@ -56,6 +152,7 @@ public class Academic {
      * @return formatted questions.
      */
     public String getFormattedQuestions() {
+        loadDetails();
         String result = "";
         int index = 1;
         for (Question question : questions) {
@@ -70,6 +167,7 @@ public class Academic {
      * @return formatted exams.
      */
     public String getFormattedAttendance() {
+        loadDetails();
         String result = "";
         int index = 1;
         for (Attendance singleAttendance : attendance) {
@@ -86,6 +184,7 @@ public class Academic {
      * @return formatted exams.
      */
     public String getFormattedExams() {
+        loadDetails();
         String result = "";
         int index = 1;
         for (Exam exam : exams) {
@@ -98,6 +197,7 @@ public class Academic {
 
     @Override
     public int hashCode() {
+        loadDetails();
         return Objects.hash(attendance);
     }
 
@@ -119,6 +219,7 @@ public class Academic {
 
     @Override
     public String toString() {
+        loadDetails();
         final StringBuilder builder = new StringBuilder();
 
         if (!questions.isEmpty()) {
@@ -154,6 +255,7 @@ public class Academic {
      * Returns true if there is an existing {@code Question} in the question list that has the same question.
      */
     public boolean containsQuestion(Question question) {
+        loadDetails();
         return questions.stream().anyMatch(question::isSameQuestion);
     }
 
@@ -163,12 +265,11 @@ public class Academic {
      * This operation preserves the immutability of the academic class.
      */
     public Academic addQuestion(Question question) {
+        loadDetails();
         assert !containsQuestion(question);
         requireNonNull(question);
 
-        Academic replacement = new Academic(this);
-        replacement.questions.add(question);
-        return replacement;
+        return new Academic(questions.plus(question), attendance, exams);
     }
 
     /**
@@ -177,13 +278,11 @@ public class Academic {
      * This operation preserves the immutability of the Academic class.
      */
     public Academic setQuestion(Question target, Question newQuestion) {
+        loadDetails();
         assert questions.contains(target) && !questions.contains(newQuestion);
         requireAllNonNull(target, newQuestion);
 
-        Academic replacement = new Academic(this);
-        int location = replacement.questions.indexOf(target);
-        replacement.questions.set(location, newQuestion);
-        return replacement;
+        return new Academic(questions.with(questions.indexOf(target), newQuestion), attendance, exams);
     }
 
     /**
@@ -192,12 +291,11 @@ public class Academic {
      * This operation preserves the immutability of the Academic class.
      */
     public Academic deleteQuestion(Question target) {
+        loadDetails();
         assert questions.contains(target);
         requireNonNull(target);
 
-        Academic replacement = new Academic(this);
-        replacement.questions.remove(target);
-        return replacement;
+        return new Academic(questions.without(target), attendance, exams);
     }
 
     //==============ATTENDANCE OPERATIONS==============//
@@ -206,7 +304,107 @@ public class Academic {
      * Returns true if there is an existing {@code Attendance} in the attendance list that shares the same date.
      */
     public boolean containsAttendance(Attendance other) {
-        return attendance.stream().anyMatch(other::isSameAttendance);
+        loadDetails();
+        return getAttendanceOn(other.getLessonDate()).isPresent();
+    }
+
+    /**
+     * Creates a new academic object with a newly added attendance inserted in order of date in the attendance list.
+     * There must not already be an attendance on the same date in the list.
+     * This operation preserves the immutability of the Academic class.
+     */
+    public Academic addAttendance(Attendance toAdd) {
+        loadDetails();
+        assert !containsAttendance(toAdd);
+        requireNonNull(toAdd);
+
+        int index = attendance.indexOfFirst(record -> record.getLessonDate().isAfter(toAdd.getLessonDate()));
+        return new Academic(questions, attendance.plus(index, toAdd), exams);
+    }
+
+    /**
+     * Creates a new academic object with the specified attendance removed from the list.
+     * The attendance to delete must already be in the list.
+     * This operation preserves the immutability of the Academic class.
+     */
+    public Academic deleteAttendance(Attendance target) {
+        loadDetails();
+        assert getAttendanceOn(target.getLessonDate()).equals(Optional.of(target));
+        requireNonNull(target);
+
+        int index = attendance.indexOfFirst(record -> !record.getLessonDate().isBefore(target.getLessonDate()));
+        return new Academic(questions, attendance.minus(index), exams);
+    }
+
+    //==============EXAM OPERATIONS==============//
+
+    /**
+     * Creates a new academic object with a newly added exam inserted in order of date in the exams list, after any
+     * exams on the same date.
+     * The newly added exam must not already be present in the list.
+     * This operation preserves the immutability of the Academic class.
+     */
+    public Academic addExam(Exam toAdd) {
+        loadDetails();
+        assert !exams.contains(toAdd);
+        requireNonNull(toAdd);
+
+        int index = exams.indexOfFirst(exam -> exam.getDate().isAfter(toAdd.getDate()));
+        return new Academic(questions, attendance, exams.plus(index, toAdd));
+    }
+
+    /**
+     * Creates a new academic object with the specified exam removed from the list.
+     * The exam to delete must already be in the list.
+     * This operation preserves the immutability of the Academic class.
+     */
+    public Academic deleteExam(Exam target) {
+        loadDetails();
+        assert exams.contains(target);
+        requireNonNull(target);
+
+        int index = exams.indexOfFirst(exam -> !exam.getDate().isBefore(target.getDate()));
+        while (!exams.get(index).equals(target)) {
+            index++;
+        }
+        return new Academic(questions, attendance, exams.minus(index));
+    }
+
+    /**
+     * Returns the elements of {@code list}, which are dated by {@code getDate} and come from outside this class, in
+     * order of date.
+     * Elements with the same date are kept in the same order, and lists that are already in order are not sorted.
+     */
+    private static <T> PersistentList<T> sortByDate(List<T> list, Function<T, LocalDate> getDate) {
+        Comparator<T> dateOrder = Comparator.comparing(getDate);
+        T previous = null;
+        for (T element : list) {
+            if (previous != null && dateOrder.compare(previous, element) > 0) {
+                List<T> sorted = new ArrayList<>(list);
+                sorted.sort(dateOrder);
+                return PersistentList.copyOf(sorted);
+            }
+            previous = element;
+        }
+        return PersistentList.copyOf(list);
+    }
+
+    private static <T> List<T> getBetween(PersistentList<T> list, Function<T, LocalDate> getDate,
+            LocalDate from, LocalDate to) {
+        int fromIndex = list.indexOfFirst(element -> !getDate.apply(element).isBefore(from));
+        int toIndex = list.indexOfFirst(element -> getDate.apply(element).isAfter(to));
+        return list.subList(fromIndex, Math.max(fromIndex, toIndex));
+    }
+
+    /**
+     * Loads the details of an {@code Academic} that is loaded lazily.
+     */
+    @FunctionalInterface
+    public interface Loader {
+        /**
+         * Returns an {@code Academic} holding the loaded details.
+         */
+        Academic load();
     }
 
 }
@@ -3,10 +3,13 @@ package seedu.address.model.student.academic;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 public class Feedback {
 
     public static final String MESSAGE_CONSTRAINTS = "Feedback should be alphanumeric";
     public static final String VALIDATION_REGEX = "^[\\s]*[a-zA-Z0-9][a-zA-Z0-9\\s]*$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     private String feedback;
 
@@ -25,7 +28,7 @@ public class Feedback {
      * Returns true if a given string is a valid feedback.
      */
     public static boolean isValidFeedback(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
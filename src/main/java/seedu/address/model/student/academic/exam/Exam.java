@@ -7,6 +7,7 @@ import static seedu.address.commons.util.DateUtil.print;
 
 import java.time.LocalDate;
 import java.util.Objects;
+import java.util.regex.Pattern;
 
 /**
  * Represents an Exam in Reeve that can be assigned to a {@code Student}.
@@ -21,6 +22,7 @@ public class Exam {
      * First character cannot be empty string if not empty string becomes valid school.
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     private final String examName;
     private final LocalDate examDate;
@@ -43,7 +45,7 @@ public class Exam {
     }
 
     public static boolean isValidExamName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     public String getName() {
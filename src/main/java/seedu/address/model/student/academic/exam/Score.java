@@ -31,6 +31,17 @@ public class Score {
         examScore = marksObtained + "/" + totalMarks;
     }
 
+    /**
+     * Constructs a {@code Score} of {@code marksObtained} out of {@code totalMarks}, which are rounded to two decimal
+     * places as when they are given as a string.
+     */
+    public Score(double marksObtained, double totalMarks) {
+        checkArgument(marksObtained >= 0 && marksObtained <= totalMarks, MESSAGE_CONSTRAINTS);
+        this.marksObtained = Math.round(marksObtained * 100.0) / 100.0;
+        this.totalMarks = Math.round(totalMarks * 100.0) / 100.0;
+        examScore = this.marksObtained + "/" + this.totalMarks;
+    }
+
     /**
      * Returns true if a given string is a valid score.
      */
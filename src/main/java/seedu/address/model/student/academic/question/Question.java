@@ -3,6 +3,8 @@ package seedu.address.model.student.academic.question;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a question a Student has for a tutor in Reeve.
  */
@@ -12,6 +14,7 @@ public abstract class Question {
             "Questions should at least contain a non-whitespace character";
 
     public static final String VALIDATION_REGEX = "[^\\s].*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String question;
 
@@ -29,7 +32,7 @@ public abstract class Question {
      * Returns true if the given String is valid.
      */
     public static boolean isValidQuestion(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     /**
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.util.Objects;
+import java.util.regex.Pattern;
 
 /**
  * Represents a student's question in Reeve that the tutor has resolved.
@@ -12,6 +13,7 @@ public class SolvedQuestion extends Question {
 
     public static final String MESSAGE_SOLUTION_CONSTRAINTS =
             "Solutions should at least contain a non-whitespace character";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     private static final String STATUS = "(\u2713)";
 
@@ -31,7 +33,7 @@ public class SolvedQuestion extends Question {
      * Returns true if the given String is valid.
      */
     public static boolean isValidSolution(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     /**
@@ -1,16 +1,20 @@
 package seedu.address.model.student.admin;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
+import seedu.address.commons.util.PersistentList;
+
 /**
  * Represents all administrative details of a Student in Reeve.
  * Consists of the lesson venue, time, monthly fees, last paid date and additional notes.
  * Guarantees: details are present and non-null, all fields are validated and immutable.
+ * The additional details are kept in a {@code PersistentList}, so they are shared with the admin objects created by
+ * changing them, and the list returned by {@link #getDetails()} is read-only.
  */
 public class Admin {
 
@@ -18,7 +22,7 @@ public class Admin {
     private final ClassTime classTime;
     private final Fee fee;
     private final PaymentDate paymentDate;
-    private final List<Detail> details = new ArrayList<>();
+    private final PersistentList<Detail> details;
 
     /**
      * venue, time, fee, date and details are not null.
@@ -30,7 +34,7 @@ public class Admin {
         this.classTime = time;
         this.fee = fee;
         this.paymentDate = date;
-        this.details.addAll(details);
+        this.details = PersistentList.copyOf(details);
     }
 
     public ClassVenue getClassVenue() {
@@ -50,7 +54,30 @@ public class Admin {
     }
 
     public List<Detail> getDetails() {
-        return new ArrayList<>(details);
+        return details;
+    }
+
+    /**
+     * Creates a new admin object with {@code detail} added at the end of the details list.
+     */
+    public Admin addDetail(Detail detail) {
+        requireNonNull(detail);
+        return new Admin(classVenue, classTime, fee, paymentDate, details.plus(detail));
+    }
+
+    /**
+     * Creates a new admin object with the detail at {@code index} of the details list replaced by {@code detail}.
+     */
+    public Admin setDetail(int index, Detail detail) {
+        requireNonNull(detail);
+        return new Admin(classVenue, classTime, fee, paymentDate, details.with(index, detail));
+    }
+
+    /**
+     * Creates a new admin object with the detail at {@code index} of the details list removed.
+     */
+    public Admin deleteDetail(int index) {
+        return new Admin(classVenue, classTime, fee, paymentDate, details.minus(index));
     }
 
     /**
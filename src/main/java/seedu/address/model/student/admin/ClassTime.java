@@ -9,6 +9,7 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.TextStyle;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.regex.Pattern;
 
 /**
  * Represents a ClassTime in Reeve.
@@ -28,6 +29,7 @@ public class ClassTime implements Comparable<ClassTime> {
      */
     public static final String TIME_VALIDATION = "([01]?[0-9]|2[0-3])[0-5][0-9]";
     public static final String VALIDATION_REGEX = "([1-7])[\\s]" + TIME_VALIDATION + "-" + TIME_VALIDATION;
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
     public static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HHm");
     public static final DateTimeFormatter OUTPUT = DateTimeFormatter.ofPattern("HHmm");
 
@@ -54,7 +56,7 @@ public class ClassTime implements Comparable<ClassTime> {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidClassTime(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     private static DayOfWeek extractDay(String input) {
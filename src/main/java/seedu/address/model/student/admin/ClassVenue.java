@@ -3,6 +3,8 @@ package seedu.address.model.student.admin;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Student's class venue in Reeve.
  * Guarantees: immutable; is valid as declared in {@link #isValidClassVenue(String)}
@@ -16,6 +18,7 @@ public class ClassVenue {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String venue;
 
@@ -34,7 +37,7 @@ public class ClassVenue {
      * Returns true if a given string is a valid classVenue.
      */
     public static boolean isValidClassVenue(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.address.model.student.admin;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a detail in Reeve.
  * Guarantees: immutable; detail is valid as declared in {@link #isValidDetail(String)}
@@ -11,6 +13,7 @@ public class Detail {
 
     public static final String MESSAGE_CONSTRAINTS = "Details should be alphanumeric";
     public static final String VALIDATION_REGEX = "^[\\s]*[a-zA-Z0-9][a-zA-Z0-9\\s]*$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String detail;
 
@@ -29,7 +32,7 @@ public class Detail {
      * Returns true if a given string is a valid detail.
      */
     public static boolean isValidDetail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
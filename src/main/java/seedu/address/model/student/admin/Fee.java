@@ -3,6 +3,8 @@ package seedu.address.model.student.admin;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Student's monthly tuition fees.
  * Guarantees: immutable; is valid as declared in
@@ -13,6 +15,7 @@ public class Fee {
             "Fees should strictly contain only digits up to 2 decimal points, and be in SGD";
 
     public static final String VALIDATION_REGEX = "[0-9]+((\\.[0-9]{1,2})?)";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public static final String FREE_OF_CHARGE = "0";
 
@@ -31,7 +34,7 @@ public class Fee {
      * Returns true if the given string is in the correct format.
      */
     public static boolean isValidFee(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     /**
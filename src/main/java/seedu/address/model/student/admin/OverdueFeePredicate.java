@@ -24,6 +24,14 @@ public class OverdueFeePredicate implements Predicate<Student> {
      */
     @Override
     public boolean test(Student student) {
+        return isOverdue(student, currentDate);
+    }
+
+    /**
+     * Returns true if the student's date of last payment is more than one month before {@code currentDate}, and
+     * the student has a fee to pay.
+     */
+    public static boolean isOverdue(Student student, LocalDate currentDate) {
         return student.getPaymentDate().lastPaid.isBefore(currentDate.minusMonths(1))
                 && student.getAdmin().getFee().amount > 0;
     }
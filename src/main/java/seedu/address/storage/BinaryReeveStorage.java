@@ -0,0 +1,354 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyReeve;
+import seedu.address.model.Reeve;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.academic.Academic;
+import seedu.address.model.student.academic.Attendance;
+import seedu.address.model.student.academic.Feedback;
+import seedu.address.model.student.academic.exam.Exam;
+import seedu.address.model.student.academic.exam.Score;
+import seedu.address.model.student.academic.question.Question;
+import seedu.address.model.student.academic.question.SolvedQuestion;
+import seedu.address.model.student.academic.question.UnsolvedQuestion;
+
+/**
+ * A class to access AddressBook data stored as a compact binary snapshot on the hard disk.
+ *
+ * Each student is stored as its values in a fixed order, without field names, and is read straight back into the
+ * model without going through a json tree. Dates are stored as epoch days, scores as their marks, and the statuses
+ * of questions and attendance as a byte each, so the academic records do not have to be parsed from text. Every
+ * other value is stored as a length-prefixed UTF-8 string, in the same form as in the json file. The file consists
+ * of:
+ * <ul>
+ *     <li>a header with {@link #MAGIC} and {@link #SCHEMA_VERSION},</li>
+ *     <li>the students, as a count followed by length-prefixed records,</li>
+ *     <li>a CRC32 checksum of the students.</li>
+ * </ul>
+ * All counts and lengths are written as variable-length integers. The file is written and read one student at a
+ * time, so only one student record is held in memory as bytes. The previous version of the file is kept as a backup
+ * whenever it is saved.
+ */
+public class BinaryReeveStorage implements ReeveStorage {
+
+    /** The file extension of binary snapshots. */
+    public static final String FILE_EXTENSION = ".bin";
+
+    static final int MAGIC = 0x52455645; // "REVE"
+    static final int SCHEMA_VERSION = 3;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryReeveStorage.class);
+
+    private static final int FLAG_FALSE = 0;
+    private static final int FLAG_TRUE = 1;
+
+    private Path filePath;
+
+    public BinaryReeveStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyReeve> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyReeve> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            return Optional.of(readReeve(in, Files.size(filePath)));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyReeve addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyReeve)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyReeve addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeToFileAtomically(filePath, fileOut -> {
+            DataOutputStream out = new DataOutputStream(fileOut);
+            out.writeInt(MAGIC);
+            out.writeInt(SCHEMA_VERSION);
+
+            CheckedOutputStream checkedOut = new CheckedOutputStream(fileOut, new CRC32());
+            DataOutputStream studentsOut = new DataOutputStream(checkedOut);
+            ByteArrayOutputStream record = new ByteArrayOutputStream();
+            DataOutputStream recordOut = new DataOutputStream(record);
+            writeVarInt(studentsOut, addressBook.getStudentList().size());
+            for (Student student : addressBook.getStudentList()) {
+                record.reset();
+                writeStudent(recordOut, student);
+                writeVarInt(studentsOut, record.size());
+                record.writeTo(studentsOut);
+            }
+
+            out.writeLong(checkedOut.getChecksum().getValue());
+        }, true);
+    }
+
+    /**
+     * Reads a {@code Reeve} from {@code in}, converting each student as it is read.
+     *
+     * @param maxLength the length of the file, which no count or length in a valid file can exceed.
+     * @throws IOException if the data is not in the correct format or is corrupted.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    private static Reeve readReeve(DataInputStream in, long maxLength) throws IOException, IllegalValueException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a Reeve binary data file");
+        }
+        int schemaVersion = in.readInt();
+        if (schemaVersion != SCHEMA_VERSION) {
+            throw new IOException("Unsupported schema version: " + schemaVersion);
+        }
+
+        CheckedInputStream checkedIn = new CheckedInputStream(in, new CRC32());
+        DataInputStream studentsIn = new DataInputStream(checkedIn);
+        Reeve reeve = new Reeve();
+        int studentCount = readLength(studentsIn, maxLength);
+        for (int i = 0; i < studentCount; i++) {
+            byte[] record = new byte[readLength(studentsIn, maxLength)];
+            studentsIn.readFully(record);
+            ByteArrayInputStream recordBytes = new ByteArrayInputStream(record);
+            Student student = readStudent(new DataInputStream(recordBytes));
+            if (recordBytes.available() != 0) {
+                throw new IOException("Student record has unexpected trailing data");
+            }
+
+            if (reeve.hasStudent(student)) {
+                throw new IllegalValueException(JsonSerializableReeve.MESSAGE_DUPLICATE_STUDENT);
+            }
+            reeve.addStudent(student);
+        }
+
+        long checksum = checkedIn.getChecksum().getValue();
+        if (in.readLong() != checksum) {
+            throw new IOException("Checksum mismatch, the file is corrupted");
+        }
+        if (in.read() != -1) {
+            throw new IOException("Unexpected data after the checksum");
+        }
+        return reeve;
+    }
+
+    private static void writeStudent(DataOutput out, Student student) throws IOException {
+        writeString(out, student.getName().fullName);
+        writeString(out, student.getPhone().value);
+        writeString(out, student.getSchool().school);
+        writeString(out, student.getYear().toString());
+
+        JsonAdaptedAdmin admin = new JsonAdaptedAdmin(student);
+        writeString(out, admin.getClassVenue());
+        writeString(out, admin.getClassTime());
+        writeString(out, admin.getFee());
+        writeString(out, admin.getPaymentDate());
+        writeVarInt(out, admin.getAdditionalDetails().size());
+        for (JsonAdaptedDetail detail : admin.getAdditionalDetails()) {
+            writeString(out, detail.getDetail());
+        }
+
+        // details that are not loaded yet are only loaded temporarily, so saving does not keep them in memory
+        Academic academic = student.getAcademic().withDetailsLoaded();
+        writeVarInt(out, academic.getQuestions().size());
+        for (Question question : academic.getQuestions()) {
+            writeFlag(out, question.isResolved());
+            writeString(out, question.question);
+            if (question.isResolved()) {
+                writeString(out, ((SolvedQuestion) question).solution);
+            }
+        }
+        writeVarInt(out, academic.getAttendance().size());
+        for (Attendance attendance : academic.getAttendance()) {
+            out.writeLong(attendance.getLessonDate().toEpochDay());
+            writeFlag(out, attendance.isStudentPresent());
+            writeString(out, attendance.getFeedback().map(Feedback::toString).orElse(""));
+        }
+        writeVarInt(out, academic.getExams().size());
+        for (Exam exam : academic.getExams()) {
+            writeString(out, exam.getName());
+            out.writeLong(exam.getDate().toEpochDay());
+            out.writeDouble(exam.getScore().marksObtained);
+            out.writeDouble(exam.getScore().totalMarks);
+        }
+    }
+
+    /**
+     * Reads a student written by {@link #writeStudent}.
+     * The identity and admin details are read into their json adapters and checked in the same way as in a json
+     * file. The academic records, which take up most of the file, are built straight from their stored values, with
+     * dates and scores stored as numbers so that they are not parsed from text again. Their values are still checked
+     * by the model classes.
+     *
+     * @throws IOException if the data is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    private static Student readStudent(DataInputStream in) throws IOException, IllegalValueException {
+        String name = readString(in);
+        String phone = readString(in);
+        String school = readString(in);
+        String year = readString(in);
+
+        String classVenue = readString(in);
+        String classTime = readString(in);
+        String fee = readString(in);
+        String paymentDate = readString(in);
+        int detailCount = readLength(in, in.available());
+        List<JsonAdaptedDetail> details = new ArrayList<>(detailCount);
+        for (int i = 0; i < detailCount; i++) {
+            details.add(new JsonAdaptedDetail(readString(in)));
+        }
+        JsonAdaptedAdmin admin = new JsonAdaptedAdmin(classVenue, classTime, fee, paymentDate, details);
+
+        try {
+            int questionCount = readLength(in, in.available());
+            List<Question> questions = new ArrayList<>(questionCount);
+            for (int i = 0; i < questionCount; i++) {
+                boolean isResolved = readFlag(in);
+                String question = readString(in);
+                questions.add(isResolved
+                        ? new SolvedQuestion(question, readString(in))
+                        : new UnsolvedQuestion(question));
+            }
+            int attendanceCount = readLength(in, in.available());
+            List<Attendance> attendanceList = new ArrayList<>(attendanceCount);
+            for (int i = 0; i < attendanceCount; i++) {
+                LocalDate date = LocalDate.ofEpochDay(in.readLong());
+                boolean isPresent = readFlag(in);
+                String feedback = readString(in);
+                attendanceList.add(feedback.isEmpty()
+                        ? new Attendance(date, isPresent)
+                        : new Attendance(date, isPresent, new Feedback(feedback)));
+            }
+            int examCount = readLength(in, in.available());
+            List<Exam> exams = new ArrayList<>(examCount);
+            for (int i = 0; i < examCount; i++) {
+                String examName = readString(in);
+                LocalDate date = LocalDate.ofEpochDay(in.readLong());
+                Score score = new Score(in.readDouble(), in.readDouble());
+                exams.add(new Exam(examName, date, score));
+            }
+            Academic academic = new Academic(questions, attendanceList, exams);
+
+            return new JsonAdaptedStudent(name, phone, school, year, admin, null).toModelType(academic);
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new IllegalValueException("Invalid academic details: " + e.getMessage(), e);
+        }
+    }
+
+    private static void writeString(DataOutput out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a length-prefixed string, whose length is bounded by the length of the record that contains it.
+     */
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[readLength(in, in.available())];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeFlag(DataOutput out, boolean flag) throws IOException {
+        out.writeByte(flag ? FLAG_TRUE : FLAG_FALSE);
+    }
+
+    private static boolean readFlag(DataInput in) throws IOException {
+        int flag = in.readUnsignedByte();
+        if (flag != FLAG_FALSE && flag != FLAG_TRUE) {
+            throw new IOException("Invalid flag: " + flag);
+        }
+        return flag == FLAG_TRUE;
+    }
+
+    /**
+     * Reads a count or length, which must not exceed {@code maxLength}, so that corrupted data cannot cause
+     * huge allocations.
+     */
+    private static int readLength(DataInput in, long maxLength) throws IOException {
+        int length = readVarInt(in);
+        if (length < 0 || length > maxLength) {
+            throw new IOException("Invalid length: " + length);
+        }
+        return length;
+    }
+
+    private static void writeVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length integer");
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.student.Student;
+
+/**
+ * Exports the records of students to a CSV file that can be imported by {@link CsvImporter}.
+ * The rows are written as they are converted, so the rows of all students are never held in memory at once, and the
+ * file is replaced atomically, so a failed export leaves any previous file intact.
+ */
+public class CsvExporter {
+
+    private static final Logger logger = LogsCenter.getLogger(CsvExporter.class);
+
+    private final Path file;
+    private final CsvRecordType type;
+
+    /**
+     * Creates a CsvExporter that writes records of {@code type} to {@code file}.
+     */
+    public CsvExporter(Path file, CsvRecordType type) {
+        requireAllNonNull(file, type);
+        this.file = file;
+        this.type = type;
+    }
+
+    /**
+     * Writes the records of {@code students} to the file, in order of the students.
+     *
+     * @return the number of rows written, not counting the header.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public int exportRecords(Iterable<Student> students) throws IOException {
+        requireNonNull(students);
+        int[] rowCount = new int[1];
+        FileUtil.writeToFileAtomically(file, out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writer.write(CsvUtil.toRecord(type.getHeader()));
+            writer.write(System.lineSeparator());
+            for (Student student : students) {
+                for (List<String> row : type.toRows(student)) {
+                    writer.write(CsvUtil.toRecord(row));
+                    writer.write(System.lineSeparator());
+                    rowCount[0]++;
+                }
+            }
+            writer.flush();
+        }, false);
+        logger.info(String.format("Exported %d rows of %s to %s", rowCount[0], type.getName(), file));
+        return rowCount[0];
+    }
+}
@@ -0,0 +1,266 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CsvUtil;
+
+/**
+ * Imports the records of a CSV file, streaming its rows through a bounded pipeline.
+ *
+ * The rows are read in batches, and each batch is converted and validated on the common fork/join pool while the
+ * next batches are read. The records of the batches are then handed to a {@link RecordConsumer} on the importing
+ * thread, in the order of the rows, so the consumer needs no synchronization. At most
+ * {@link #MAX_PENDING_BATCHES} batches are held at once, so the memory used does not grow with the size of the file.
+ * Rows that are invalid, or rejected by the consumer, are written to a report file beside the imported file, with
+ * their line numbers and errors, so that they can be fixed and imported again. A quoted field may span at most
+ * {@link #MAX_LINES_PER_ROW} lines, so a stray quote is reported on its own line instead of joining the rest of the
+ * file into one row.
+ */
+public class CsvImporter {
+
+    /** The number of rows validated together by a worker thread. */
+    public static final int BATCH_SIZE = 512;
+    /** The maximum number of batches read but not yet handed to the consumer. */
+    public static final int MAX_PENDING_BATCHES = 2 * Runtime.getRuntime().availableProcessors();
+    /** The maximum number of lines that a row with quoted fields may span. */
+    public static final int MAX_LINES_PER_ROW = 100;
+
+    public static final String REPORT_FILE_SUFFIX = "-errors.csv";
+    /** The columns of the report before the columns of the imported file. */
+    public static final List<String> REPORT_COLUMNS = List.of("line", "error");
+
+    private static final Logger logger = LogsCenter.getLogger(CsvImporter.class);
+
+    private final Path file;
+    private final CsvRecordType type;
+
+    /**
+     * Creates a CsvImporter for the records of {@code type} in {@code file}.
+     */
+    public CsvImporter(Path file, CsvRecordType type) {
+        requireAllNonNull(file, type);
+        this.file = file;
+        this.type = type;
+    }
+
+    /**
+     * Returns the file that the rows that could not be imported are written to.
+     */
+    public Path getReportFile() {
+        String fileName = file.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return file.resolveSibling(baseName + REPORT_FILE_SUFFIX);
+    }
+
+    /**
+     * Hands the records of the file to {@code consumer}, in the order of their rows.
+     * Any previous report of the file is replaced, or deleted if every row is imported.
+     *
+     * @return the number of rows that could not be imported.
+     * @throws DataConversionException if the first row of the file is not the header of the type of records.
+     * @throws IOException if there was any problem reading the file or writing the report.
+     */
+    public int importRecords(RecordConsumer consumer) throws DataConversionException, IOException {
+        requireNonNull(consumer);
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+                Report report = new Report(getReportFile(), type.getHeader())) {
+            readHeader(reader);
+
+            Deque<CompletableFuture<List<Row>>> pendingBatches = new ArrayDeque<>();
+            Deque<String> unreadLines = new ArrayDeque<>(); // lines read ahead that start the following rows
+            List<Row> batch = new ArrayList<>(BATCH_SIZE);
+            int lineNumber = 1;
+            String line;
+            while ((line = readLine(reader, unreadLines)) != null) {
+                lineNumber++;
+                Row row = new Row(lineNumber, line);
+                if (CsvUtil.isRecordIncomplete(line)) {
+                    row = readQuotedRow(row, reader, unreadLines);
+                    lineNumber += row.lineCount - 1;
+                }
+                if (row.text.isBlank()) {
+                    continue;
+                }
+
+                batch.add(row);
+                if (batch.size() == BATCH_SIZE) {
+                    pendingBatches.add(validate(batch));
+                    batch = new ArrayList<>(BATCH_SIZE);
+                }
+                if (pendingBatches.size() == MAX_PENDING_BATCHES) {
+                    commit(pendingBatches.remove().join(), consumer, report);
+                }
+            }
+            pendingBatches.add(validate(batch));
+            while (!pendingBatches.isEmpty()) {
+                commit(pendingBatches.remove().join(), consumer, report);
+            }
+
+            logger.info(String.format("Imported %s from %s with %d rejected rows", type.getName(), file,
+                    report.rejectedRowCount));
+            return report.rejectedRowCount;
+        }
+    }
+
+    private static String readLine(BufferedReader reader, Deque<String> unreadLines) throws IOException {
+        return unreadLines.isEmpty() ? reader.readLine() : unreadLines.remove();
+    }
+
+    /**
+     * Reads the lines that continue the quoted field left open by the first line of {@code row}, up to
+     * {@link #MAX_LINES_PER_ROW} lines in all. If the field is not closed by then, the quote is taken to be stray, so
+     * {@code row} is returned to be reported as unterminated on its own, and the lines after it are left in
+     * {@code unreadLines} to be read as rows again.
+     */
+    private static Row readQuotedRow(Row row, BufferedReader reader, Deque<String> unreadLines) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add(row.text);
+        boolean isQuoted = true;
+        String line;
+        while (isQuoted && lines.size() < MAX_LINES_PER_ROW && (line = readLine(reader, unreadLines)) != null) {
+            lines.add(line);
+            // the quotes of each line are only counted once, as a field is still open after an odd number of them
+            isQuoted ^= CsvUtil.isRecordIncomplete(line);
+        }
+        if (isQuoted) {
+            for (int i = lines.size() - 1; i > 0; i--) {
+                unreadLines.push(lines.get(i));
+            }
+            return row;
+        }
+        return new Row(row.lineNumber, String.join("\n", lines), lines.size());
+    }
+
+    private void readHeader(BufferedReader reader) throws DataConversionException, IOException {
+        String headerLine = reader.readLine();
+        try {
+            if (headerLine != null && type.isHeader(CsvUtil.parseRecord(headerLine))) {
+                return;
+            }
+        } catch (IllegalValueException ive) {
+            // reported as an invalid header below
+        }
+        throw new DataConversionException(new IllegalValueException(String.format(
+                CsvRecordType.MESSAGE_INVALID_HEADER, type.getName(), CsvUtil.toRecord(type.getHeader()))));
+    }
+
+    /**
+     * Starts converting the rows of {@code batch} into records on the common fork/join pool.
+     */
+    private CompletableFuture<List<Row>> validate(List<Row> batch) {
+        return CompletableFuture.supplyAsync(() -> {
+            for (Row row : batch) {
+                try {
+                    row.fields = CsvUtil.parseRecord(row.text);
+                    row.record = type.parse(row.fields);
+                } catch (IllegalValueException ive) {
+                    row.error = ive.getMessage();
+                }
+            }
+            return batch;
+        });
+    }
+
+    private void commit(List<Row> batch, RecordConsumer consumer, Report report) throws IOException {
+        for (Row row : batch) {
+            if (row.error == null) {
+                try {
+                    consumer.accept(row.record);
+                    continue;
+                } catch (IllegalValueException ive) {
+                    row.error = ive.getMessage();
+                }
+            }
+            report.add(row);
+        }
+    }
+
+    /**
+     * Receives the records of a CSV file.
+     */
+    @FunctionalInterface
+    public interface RecordConsumer {
+        /**
+         * Accepts {@code record}, or rejects it by throwing an {@code IllegalValueException} with the reason.
+         */
+        void accept(CsvRecord record) throws IllegalValueException;
+    }
+
+    /**
+     * A row of the file, which may span several lines, with the result of its conversion.
+     */
+    private static class Row {
+        private final int lineNumber;
+        private final String text;
+        private final int lineCount;
+        private List<String> fields; // null if the row is not a valid CSV record
+        private CsvRecord record;
+        private String error;
+
+        Row(int lineNumber, String text) {
+            this(lineNumber, text, 1);
+        }
+
+        Row(int lineNumber, String text, int lineCount) {
+            this.lineNumber = lineNumber;
+            this.text = text;
+            this.lineCount = lineCount;
+        }
+    }
+
+    /**
+     * The report of the rows that could not be imported. The report file is only created for the first such row.
+     */
+    private static class Report implements AutoCloseable {
+        private final Path reportFile;
+        private final List<String> header;
+        private BufferedWriter writer;
+        private int rejectedRowCount = 0;
+
+        Report(Path reportFile, List<String> importedHeader) {
+            this.reportFile = reportFile;
+            this.header = new ArrayList<>(REPORT_COLUMNS);
+            header.addAll(importedHeader);
+        }
+
+        void add(Row row) throws IOException {
+            if (writer == null) {
+                writer = Files.newBufferedWriter(reportFile, StandardCharsets.UTF_8);
+                writer.write(CsvUtil.toRecord(header));
+                writer.newLine();
+            }
+            List<String> fields = new ArrayList<>(List.of(String.valueOf(row.lineNumber), row.error));
+            fields.addAll(row.fields == null ? List.of(row.text) : row.fields);
+            writer.write(CsvUtil.toRecord(fields));
+            writer.newLine();
+            rejectedRowCount++;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (writer != null) {
+                writer.close();
+            } else {
+                Files.deleteIfExists(reportFile);
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Optional;
+
+import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentIdentity;
+import seedu.address.model.student.academic.Attendance;
+import seedu.address.model.student.academic.exam.Exam;
+
+/**
+ * A row of a CSV file of {@link CsvRecordType records}, converted into the model's objects.
+ * The row is either a student, or an attendance or exam record of the student with the given identity.
+ */
+public class CsvRecord {
+
+    private final StudentIdentity identity;
+    private final Student student;
+    private final Attendance attendance;
+    private final Exam exam;
+
+    private CsvRecord(StudentIdentity identity, Student student, Attendance attendance, Exam exam) {
+        this.identity = identity;
+        this.student = student;
+        this.attendance = attendance;
+        this.exam = exam;
+    }
+
+    /**
+     * Returns a record of {@code student}.
+     */
+    public static CsvRecord of(Student student) {
+        requireNonNull(student);
+        return new CsvRecord(student.getIdentity(), student, null, null);
+    }
+
+    /**
+     * Returns a record of {@code attendance} of the student with {@code identity}.
+     */
+    public static CsvRecord of(StudentIdentity identity, Attendance attendance) {
+        requireAllNonNull(identity, attendance);
+        return new CsvRecord(identity, null, attendance, null);
+    }
+
+    /**
+     * Returns a record of {@code exam} taken by the student with {@code identity}.
+     */
+    public static CsvRecord of(StudentIdentity identity, Exam exam) {
+        requireAllNonNull(identity, exam);
+        return new CsvRecord(identity, null, null, exam);
+    }
+
+    public StudentIdentity getIdentity() {
+        return identity;
+    }
+
+    public Optional<Student> getStudent() {
+        return Optional.ofNullable(student);
+    }
+
+    public Optional<Attendance> getAttendance() {
+        return Optional.ofNullable(attendance);
+    }
+
+    public Optional<Exam> getExam() {
+        return Optional.ofNullable(exam);
+    }
+}
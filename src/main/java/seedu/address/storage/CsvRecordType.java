@@ -0,0 +1,197 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.academic.Academic;
+import seedu.address.model.student.academic.Attendance;
+import seedu.address.model.student.academic.exam.Exam;
+
+/**
+ * The kinds of records that can be imported from and exported to CSV files.
+ * Every file starts with a header row naming its columns, and the first four columns of every row are the identity
+ * fields of a student. The fields are converted by the same Jackson-friendly classes that the data file uses, so
+ * they are written and validated exactly as they are in the data file.
+ */
+public enum CsvRecordType {
+    /** Students with their admin details, and any number of additional details in the last columns. */
+    STUDENTS("students", "classVenue", "classTime", "fee", "paymentDate", "details") {
+        @Override
+        CsvRecord toRecord(List<String> fields) throws IllegalValueException {
+            List<JsonAdaptedDetail> details = fields.subList(getHeader().size() - 1, fields.size()).stream()
+                    .filter(detail -> !detail.isEmpty())
+                    .map(JsonAdaptedDetail::new)
+                    .collect(Collectors.toList());
+            JsonAdaptedAdmin admin = new JsonAdaptedAdmin(fields.get(4), fields.get(5), fields.get(6),
+                    fields.get(7), details);
+            JsonAdaptedAcademic academic = new JsonAdaptedAcademic(null, null, null);
+            return CsvRecord.of(toAdaptedStudent(fields, admin, academic).toModelType());
+        }
+
+        @Override
+        List<List<String>> toRows(Student student) {
+            JsonAdaptedAdmin admin = new JsonAdaptedAdmin(student);
+            List<String> row = getIdentityFields(student);
+            row.add(admin.getClassVenue());
+            row.add(admin.getClassTime());
+            row.add(admin.getFee());
+            row.add(admin.getPaymentDate());
+            admin.getAdditionalDetails().forEach(detail -> row.add(detail.getDetail()));
+            return List.of(row);
+        }
+
+        @Override
+        boolean hasValidColumnCount(int columnCount) {
+            // the details column may be left out, or repeated for every additional detail
+            return columnCount >= getHeader().size() - 1;
+        }
+    },
+    /** The attendance records of students. */
+    ATTENDANCE("attendance", "date", "attendanceStatus", "feedback") {
+        @Override
+        CsvRecord toRecord(List<String> fields) throws IllegalValueException {
+            JsonAdaptedAttendance attendance = new JsonAdaptedAttendance(fields.get(4), fields.get(5), fields.get(6));
+            return CsvRecord.of(toAdaptedStudent(fields, null, null).toModelIdentity(), attendance.toModelType());
+        }
+
+        @Override
+        List<List<String>> toRows(Student student) {
+            List<List<String>> rows = new ArrayList<>();
+            for (Attendance modelAttendance : getLoadedAcademic(student).getAttendance()) {
+                JsonAdaptedAttendance attendance = new JsonAdaptedAttendance(modelAttendance);
+                List<String> row = getIdentityFields(student);
+                row.add(attendance.getDate());
+                row.add(attendance.getAttendanceStatus());
+                row.add(attendance.getFeedback());
+                rows.add(row);
+            }
+            return rows;
+        }
+    },
+    /** The exams taken by students. */
+    EXAMS("exams", "examName", "examDate", "score") {
+        @Override
+        CsvRecord toRecord(List<String> fields) throws IllegalValueException {
+            JsonAdaptedExam exam = new JsonAdaptedExam(fields.get(4), fields.get(5), fields.get(6));
+            return CsvRecord.of(toAdaptedStudent(fields, null, null).toModelIdentity(), exam.toModelType());
+        }
+
+        @Override
+        List<List<String>> toRows(Student student) {
+            List<List<String>> rows = new ArrayList<>();
+            for (Exam modelExam : getLoadedAcademic(student).getExams()) {
+                JsonAdaptedExam exam = new JsonAdaptedExam(modelExam);
+                List<String> row = getIdentityFields(student);
+                row.add(exam.getExamName());
+                row.add(exam.getExamDate());
+                row.add(exam.getScore());
+                rows.add(row);
+            }
+            return rows;
+        }
+    };
+
+    public static final String MESSAGE_INVALID_HEADER = "The first row of a CSV file of %1$s must be: %2$s";
+    public static final String MESSAGE_INVALID_COLUMN_COUNT = "Expected the columns %1$s but found %2$d columns";
+
+    private final String name;
+    private final List<String> header;
+
+    CsvRecordType(String name, String... columns) {
+        this.name = name;
+        List<String> header = new ArrayList<>(List.of("name", "phone", "school", "year"));
+        header.addAll(List.of(columns));
+        this.header = List.copyOf(header);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the names of the columns of a CSV file of this type, which make up its first row.
+     */
+    public List<String> getHeader() {
+        return header;
+    }
+
+    /**
+     * Returns the type named {@code name}, ignoring case, if there is one.
+     */
+    public static Optional<CsvRecordType> fromName(String name) {
+        requireNonNull(name);
+        for (CsvRecordType type : values()) {
+            if (type.name.equalsIgnoreCase(name)) {
+                return Optional.of(type);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Converts the fields of a row of a CSV file of this type into a record.
+     *
+     * @throws IllegalValueException if the row does not have the columns of this type, or any field is invalid.
+     */
+    CsvRecord parse(List<String> fields) throws IllegalValueException {
+        if (!hasValidColumnCount(fields.size())) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_COLUMN_COUNT, String.join(", ", header),
+                    fields.size()));
+        }
+        return toRecord(fields);
+    }
+
+    /**
+     * Returns true if {@code columnNames} are the names of the columns of a CSV file of this type, ignoring case.
+     */
+    boolean isHeader(List<String> columnNames) {
+        if (!hasValidColumnCount(columnNames.size())) {
+            return false;
+        }
+        for (int i = 0; i < columnNames.size(); i++) {
+            // any columns after the last are repetitions of it
+            String expectedName = header.get(Math.min(i, header.size() - 1));
+            if (!columnNames.get(i).trim().equalsIgnoreCase(expectedName)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Converts the fields of a row with a valid number of columns into a record.
+     */
+    abstract CsvRecord toRecord(List<String> fields) throws IllegalValueException;
+
+    /**
+     * Returns the rows of a CSV file of this type that hold the details of {@code student}.
+     */
+    abstract List<List<String>> toRows(Student student);
+
+    boolean hasValidColumnCount(int columnCount) {
+        return columnCount == header.size();
+    }
+
+    private static JsonAdaptedStudent toAdaptedStudent(List<String> fields, JsonAdaptedAdmin admin,
+            JsonAdaptedAcademic academic) {
+        return new JsonAdaptedStudent(fields.get(0), fields.get(1), fields.get(2), fields.get(3), admin, academic);
+    }
+
+    /**
+     * Returns the academic details of {@code student}, without keeping them in memory if they are not loaded yet.
+     */
+    private static Academic getLoadedAcademic(Student student) {
+        return student.getAcademic().withDetailsLoaded();
+    }
+
+    private static List<String> getIdentityFields(Student student) {
+        return new ArrayList<>(List.of(student.getName().fullName, student.getPhone().value,
+                student.getSchool().school, student.getYear().toString()));
+    }
+}
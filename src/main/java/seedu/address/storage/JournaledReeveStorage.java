@@ -0,0 +1,155 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyReeve;
+import seedu.address.model.Reeve;
+import seedu.address.model.student.Student;
+
+/**
+ * A {@code ReeveStorage} that journals the changes to the students in a file next to the data file, instead of
+ * rewriting the whole data file on every save. The data file is written by another {@code ReeveStorage}, and is
+ * only rewritten when the journal is compacted.
+ *
+ * @see ListJournal
+ */
+public class JournaledReeveStorage implements ReeveStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledReeveStorage.class);
+
+    private final ReeveStorage snapshotStorage;
+    private final ListJournal<Student> journal;
+
+    public JournaledReeveStorage(ReeveStorage snapshotStorage) {
+        this(snapshotStorage, ListJournal.DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledReeveStorage} that compacts the journal into {@code snapshotStorage} once the
+     * journal is larger than {@code compactionThreshold} bytes.
+     */
+    public JournaledReeveStorage(ReeveStorage snapshotStorage, long compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+        this.journal = new ListJournal<>(snapshotStorage.getAddressBookFilePath(), new StudentCodec(),
+                this::writeSnapshot, compactionThreshold);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    /**
+     * Returns the data in the data file with the changes in the journal applied to it.
+     * Returns {@code Optional.empty()} if the data file is not found.
+     */
+    @Override
+    public Optional<ReadOnlyReeve> readAddressBook() throws DataConversionException, IOException {
+        Optional<ReadOnlyReeve> snapshot = snapshotStorage.readAddressBook();
+        if (!snapshot.isPresent()) {
+            journal.reset();
+            return Optional.empty();
+        }
+
+        try {
+            Reeve reeve = new Reeve();
+            for (Student student : journal.replay(snapshot.get().getStudentList())) {
+                if (reeve.hasStudent(student)) {
+                    throw new IllegalValueException(JsonSerializableReeve.MESSAGE_DUPLICATE_STUDENT);
+                }
+                reeve.addStudent(student);
+            }
+            return Optional.of(reeve);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journal.getJournalPath() + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journal.getJournalPath() + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public Optional<ReadOnlyReeve> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        if (filePath.equals(getAddressBookFilePath())) {
+            return readAddressBook();
+        }
+        return snapshotStorage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyReeve addressBook) throws IOException {
+        requireNonNull(addressBook);
+        journal.save(addressBook.getStudentList());
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyReeve addressBook, Path filePath) throws IOException {
+        if (filePath.equals(getAddressBookFilePath())) {
+            saveAddressBook(addressBook);
+            return;
+        }
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Writes the changes in the journal, if there is one, into the data file and deletes the journal, so that the
+     * data file can be used on its own. A journal that does not match the data file is moved aside instead.
+     *
+     * @throws DataConversionException if the data file or the journal is not in the correct format, in which case
+     *     the journal is kept.
+     */
+    public void mergeJournal() throws DataConversionException, IOException {
+        if (!Files.exists(journal.getJournalPath())) {
+            return;
+        }
+
+        Optional<ReadOnlyReeve> reeve = readAddressBook();
+        if (reeve.isPresent()) {
+            snapshotStorage.saveAddressBook(reeve.get());
+            journal.delete();
+        }
+    }
+
+    /**
+     * Waits for any compaction of the journal running in the background to complete.
+     */
+    public void awaitCompaction() throws IOException {
+        journal.awaitCompaction();
+    }
+
+    private void writeSnapshot(List<Student> students, Path filePath) throws IOException {
+        Reeve reeve = new Reeve();
+        reeve.setStudents(students);
+        snapshotStorage.saveAddressBook(reeve, filePath);
+    }
+
+    /**
+     * Converts students to and from their json form in the journal.
+     */
+    private static class StudentCodec implements ListJournal.ElementCodec<Student> {
+        @Override
+        public Object toJsonAdapted(Student student) {
+            return new JsonAdaptedStudent(student);
+        }
+
+        @Override
+        public Student fromJson(JsonNode node) throws IOException, IllegalValueException {
+            return JsonUtil.treeToValue(node, JsonAdaptedStudent.class).toModelType();
+        }
+    }
+}
@@ -42,13 +42,15 @@ public class JsonAdaptedAcademic {
      * Converts a given {@code Academic} into this class for Jackson use.
      */
     public JsonAdaptedAcademic(Student source) {
-        questions.addAll(source.getQuestions().stream()
+        // details that are not loaded yet are only loaded temporarily, so saving does not keep them in memory
+        Academic academic = source.getAcademic().withDetailsLoaded();
+        questions.addAll(academic.getQuestions().stream()
                 .map(JsonAdaptedQuestion::new)
                 .collect(Collectors.toList()));
-        attendanceList.addAll(source.getAttendance().stream()
+        attendanceList.addAll(academic.getAttendance().stream()
                 .map(JsonAdaptedAttendance::new)
                 .collect(Collectors.toList()));
-        exams.addAll(source.getExams().stream()
+        exams.addAll(academic.getExams().stream()
                 .map(JsonAdaptedExam::new)
                 .collect(Collectors.toList()));
     }
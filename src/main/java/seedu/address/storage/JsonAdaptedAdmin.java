@@ -61,6 +61,26 @@ public class JsonAdaptedAdmin {
                 .collect(Collectors.toList()));
     }
 
+    String getClassVenue() {
+        return classVenue;
+    }
+
+    String getClassTime() {
+        return classTime;
+    }
+
+    String getFee() {
+        return fee;
+    }
+
+    String getPaymentDate() {
+        return paymentDate;
+    }
+
+    List<JsonAdaptedDetail> getAdditionalDetails() {
+        return additionalDetails;
+    }
+
     /**
      * Converts this Jackson-friendly adapted admin object into the model's {@code Admin} object.
      *
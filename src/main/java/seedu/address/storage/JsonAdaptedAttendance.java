@@ -44,6 +44,18 @@ public class JsonAdaptedAttendance {
         this.feedback = source.getFeedback().map(Feedback::toString).orElse("");
     }
 
+    String getDate() {
+        return date;
+    }
+
+    String getAttendanceStatus() {
+        return attendanceStatus;
+    }
+
+    String getFeedback() {
+        return feedback;
+    }
+
     /**
      * Converts this Jackson-friendly adapted attendance object into the model's {@code Attendance} object.
      *
@@ -43,6 +43,18 @@ public class JsonAdaptedExam {
         this.score = source.getScore().toString();
     }
 
+    String getExamName() {
+        return examName;
+    }
+
+    String getExamDate() {
+        return examDate;
+    }
+
+    String getScore() {
+        return score;
+    }
+
     /**
      * Converts this Jackson-friendly adapted exam object into the model's {@code Exam} object.
      *
@@ -8,6 +8,7 @@ import seedu.address.model.student.Name;
 import seedu.address.model.student.Phone;
 import seedu.address.model.student.School;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentIdentity;
 import seedu.address.model.student.Year;
 import seedu.address.model.student.academic.Academic;
 import seedu.address.model.student.admin.Admin;
@@ -74,6 +75,27 @@ class JsonAdaptedStudent {
         return new Student(modelName, modelPhone, modelSchool, modelYear, modelAdmin, modelAcademic);
     }
 
+    /**
+     * Converts this Jackson-friendly adapted person object into the model's {@code Person} object, with the given
+     * {@code academic} instead of the academic details of this object, which need not be present.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     */
+    public Student toModelType(Academic academic) throws IllegalValueException {
+        return new Student(getModelName(), getModelPhone(), getModelSchool(), getModelYear(), getModelAdmin(),
+                academic);
+    }
+
+    /**
+     * Converts the identity fields of this Jackson-friendly adapted person object into the model's
+     * {@code StudentIdentity} object. The admin and academic details need not be present.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the identity fields.
+     */
+    public StudentIdentity toModelIdentity() throws IllegalValueException {
+        return new StudentIdentity(getModelName(), getModelPhone(), getModelSchool(), getModelYear());
+    }
+
     private Name getModelName() throws IllegalValueException {
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
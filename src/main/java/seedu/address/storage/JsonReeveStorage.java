@@ -3,28 +3,68 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyReeve;
+import seedu.address.model.Reeve;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.academic.Academic;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file is read and written one student at a time, so that only the model's copy of the data is held in memory.
+ * The file has the same format as {@link JsonSerializableReeve}, and the previous version of the file is kept as a
+ * backup whenever it is saved.
+ *
+ * The academic details of the students, which take up most of the file, can optionally be loaded lazily. The file
+ * is then memory-mapped while it is read, and the json bytes of the academic details of each student are copied out
+ * of the mapping and only converted when they are first accessed. Only the syntax and shape of the academic details
+ * are checked when the file is read, so details with invalid values are reported when they are first accessed.
+ * Files of 2 GiB or more cannot be mapped, and cannot be read this way.
  */
 public class JsonReeveStorage implements ReeveStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonReeveStorage.class);
 
+    private static final String STUDENTS_FIELD = "students";
+    private static final String ACADEMIC_FIELD = "academic";
+
     private Path filePath;
+    private final boolean isAcademicLoadedLazily;
 
     public JsonReeveStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonReeveStorage} for the file at {@code filePath}.
+     *
+     * @param isAcademicLoadedLazily if true, the academic details of students are only loaded when first accessed.
+     */
+    public JsonReeveStorage(Path filePath, boolean isAcademicLoadedLazily) {
         this.filePath = filePath;
+        this.isAcademicLoadedLazily = isAcademicLoadedLazily;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,14 +85,16 @@ public class JsonReeveStorage implements ReeveStorage {
     public Optional<ReadOnlyReeve> readAddressBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableReeve> jsonReeve = JsonUtil.readJsonFile(
-                filePath, JsonSerializableReeve.class);
-        if (!jsonReeve.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonReeve.get().toModelType());
+            return Optional.of(isAcademicLoadedLazily ? readReeveMapped(filePath) : readReeve(filePath));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -73,8 +115,169 @@ public class JsonReeveStorage implements ReeveStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableReeve(addressBook), filePath);
+        FileUtil.writeToFileAtomically(filePath, out -> writeReeve(addressBook, out), true);
+    }
+
+    private static void writeReeve(ReadOnlyReeve addressBook, OutputStream out) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(STUDENTS_FIELD);
+            for (Student student : addressBook.getStudentList()) {
+                JsonUtil.writeValue(generator, new JsonAdaptedStudent(student));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    private static Reeve readReeve(Path filePath) throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return readReeve(parser, null);
+        }
+    }
+
+    /**
+     * Reads the file at {@code filePath} through a memory mapping, keeping the academic details of each student
+     * as a copy of their bytes in the file, to be loaded lazily.
+     */
+    private static Reeve readReeveMapped(Path filePath) throws IOException, IllegalValueException {
+        ByteBuffer mappedFile;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("The file is too large to be memory-mapped: " + channel.size() + " bytes");
+            }
+            mappedFile = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        try (JsonParser parser = JsonUtil.createParser(new ByteBufferBackedInputStream(mappedFile.duplicate()))) {
+            return readReeve(parser, mappedFile);
+        }
+    }
+
+    /**
+     * Reads the students from {@code parser} into a new {@code Reeve}, converting each student as it is read.
+     * Fields other than the list of students are ignored.
+     *
+     * @param mappedFile the contents of the file read by {@code parser} if the academic details of the students are
+     *     to be loaded lazily, or null if they are to be loaded now.
+     * @throws IOException if the data is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    private static Reeve readReeve(JsonParser parser, ByteBuffer mappedFile) throws IOException, IllegalValueException {
+        Reeve reeve = new Reeve();
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected the data to be a json object");
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (!STUDENTS_FIELD.equals(fieldName) || valueToken == JsonToken.VALUE_NULL) {
+                parser.skipChildren();
+                continue;
+            }
+            if (valueToken != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected the students to be a json array");
+            }
+
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+                    throw new JsonParseException(parser, "Expected each student to be a json object");
+                }
+                Student student = mappedFile == null
+                        ? parser.readValueAs(JsonAdaptedStudent.class).toModelType()
+                        : readStudentWithLazyAcademic(parser, mappedFile);
+                if (reeve.hasStudent(student)) {
+                    throw new IllegalValueException(JsonSerializableReeve.MESSAGE_DUPLICATE_STUDENT);
+                }
+                reeve.addStudent(student);
+            }
+        }
+        return reeve;
+    }
+
+    /**
+     * Reads the student starting at the current token of {@code parser}, skipping over its academic details and
+     * copying them from {@code mappedFile} to be converted when they are first accessed.
+     */
+    private static Student readStudentWithLazyAcademic(JsonParser parser, ByteBuffer mappedFile)
+            throws IOException, IllegalValueException {
+        ObjectNode studentNode = JsonNodeFactory.instance.objectNode();
+        byte[] academicJson = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (ACADEMIC_FIELD.equals(fieldName) && valueToken == JsonToken.START_OBJECT) {
+                long start = parser.getTokenLocation().getByteOffset();
+                skipAcademic(parser);
+                long end = parser.getCurrentLocation().getByteOffset();
+                if (start < 0 || end < start || end > mappedFile.limit()) {
+                    throw new JsonParseException(parser, "Unable to locate the academic details in the file");
+                }
+                academicJson = new byte[(int) (end - start)];
+                ByteBuffer academicBytes = mappedFile.duplicate();
+                academicBytes.position((int) start);
+                academicBytes.get(academicJson);
+            } else {
+                JsonNode value = parser.readValueAsTree();
+                studentNode.set(fieldName, value);
+            }
+        }
+
+        JsonAdaptedStudent adaptedStudent = JsonUtil.treeToValue(studentNode, JsonAdaptedStudent.class);
+        if (academicJson == null) {
+            // reports the missing academic details in the same way as when they are loaded eagerly
+            return adaptedStudent.toModelType();
+        }
+        return adaptedStudent.toModelType(Academic.lazy(new LazyAcademicLoader(academicJson)));
+    }
+
+    /**
+     * Skips over the academic details starting at the current token of {@code parser}, checking that each of their
+     * fields is null or a list of json objects without converting them.
+     *
+     * @throws IOException if the academic details are not in the correct format.
+     */
+    private static void skipAcademic(JsonParser parser) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            JsonToken valueToken = parser.nextToken();
+            if (valueToken == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            if (valueToken != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected each academic detail to be a json array");
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+                    throw new JsonParseException(parser, "Expected each academic record to be a json object");
+                }
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private static Academic readAcademic(byte[] academicJson) throws IOException, IllegalValueException {
+        return JsonUtil.fromJsonBytes(academicJson, JsonAdaptedAcademic.class).toModelType();
+    }
+
+    /**
+     * Loads academic details from their json form, whose shape was checked when the file was read.
+     */
+    private static class LazyAcademicLoader implements Academic.Loader {
+        private final byte[] academicJson;
+
+        LazyAcademicLoader(byte[] academicJson) {
+            this.academicJson = academicJson;
+        }
+
+        @Override
+        public Academic load() {
+            try {
+                return readAcademic(academicJson);
+            } catch (IOException | IllegalValueException e) {
+                // never substitute empty details, which would be saved over the student's real details
+                throw new IllegalStateException("The academic details of a student are invalid: " + e.getMessage(), e);
+            }
+        }
     }
 
 }
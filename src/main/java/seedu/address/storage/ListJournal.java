@@ -0,0 +1,498 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An append-only journal of the changes made to a list of immutable elements since it was last written in full
+ * to a snapshot file.
+ *
+ * Each save compares the list with the list last saved, by reference, and appends a single entry replacing the
+ * changed range of elements, so adding, editing or deleting an element writes only that element. Once the journal
+ * grows past a size threshold, it is compacted in the background by writing a new snapshot and dropping the entries
+ * that the snapshot includes.
+ *
+ * Entries are numbered, and the journal starts with a header of checkpoints, each holding the checksum of a
+ * snapshot file and the last entry included in it. On reading, only the entries after the checkpoint matching the
+ * snapshot file are replayed, so the data is consistent even if the application stops in the middle of compaction.
+ * Every entry is forced to the disk before a save returns, and the snapshot and the journal are replaced through
+ * {@link FileUtil}, so they are forced to the disk too, and the previous snapshot is kept as a backup.
+ * A partially written last entry is ignored. A journal matching no checkpoint, for example because the snapshot
+ * file was edited by hand, is moved aside rather than replayed or overwritten.
+ *
+ * Saving and replaying must be done from a single thread.
+ *
+ * @param <T> the type of the elements of the list.
+ */
+public class ListJournal<T> {
+
+    /** The file extension of the journal, which is appended to the name of the snapshot file. */
+    public static final String FILE_EXTENSION = ".journal";
+
+    /** The size of the journal, in bytes, above which it is compacted. */
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 256 * 1024;
+
+    /**
+     * The extension appended to the name of a journal that does not match its snapshot file when it is moved aside.
+     */
+    public static final String UNMATCHED_FILE_EXTENSION = ".unmatched";
+    /**
+     * The extension appended to the name of the snapshot file for the new snapshot written by compaction, which
+     * replaces the snapshot file once the journal matches it. It differs from the extension of the temporary files
+     * of {@link FileUtil}, which the new snapshot may itself be written through.
+     */
+    public static final String COMPACTION_FILE_EXTENSION = ".compact";
+
+    private static final Logger logger = LogsCenter.getLogger(ListJournal.class);
+
+    private final Path snapshotPath;
+    private final Path journalPath;
+    private final ElementCodec<T> codec;
+    private final SnapshotWriter<T> snapshotWriter;
+    private final long compactionThreshold;
+
+    /** Guards the journal file and the fields below, which are shared with the compaction thread. */
+    private final Object journalLock = new Object();
+    private Checkpoint currentCheckpoint;
+    private List<EntryLine> entryLines = new ArrayList<>();
+    private volatile long journalSize;
+
+    private ExecutorService compactor;
+    private Future<?> pendingCompaction;
+    private List<T> savedElements;
+    private long lastSequence;
+
+    /**
+     * Creates a {@code ListJournal} for the snapshot file at {@code snapshotPath}.
+     *
+     * @param codec converts elements to and from entries of the journal.
+     * @param snapshotWriter writes the elements in full to a snapshot file.
+     * @param compactionThreshold the size of the journal, in bytes, above which it is compacted.
+     */
+    public ListJournal(Path snapshotPath, ElementCodec<T> codec, SnapshotWriter<T> snapshotWriter,
+                       long compactionThreshold) {
+        requireNonNull(snapshotPath);
+        requireNonNull(codec);
+        requireNonNull(snapshotWriter);
+        this.snapshotPath = snapshotPath;
+        this.journalPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + FILE_EXTENSION);
+        this.codec = codec;
+        this.snapshotWriter = snapshotWriter;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public Path getJournalPath() {
+        return journalPath;
+    }
+
+    /**
+     * Returns the elements read from the snapshot file with the changes in the journal applied to them.
+     * The returned elements are taken to be saved, so the next save only journals changes made to them.
+     *
+     * @param snapshotElements the elements read from the snapshot file.
+     * @throws IOException if the journal is corrupted.
+     * @throws IllegalValueException if there were any data constraints violated in the journal.
+     */
+    public List<T> replay(List<? extends T> snapshotElements) throws IOException, IllegalValueException {
+        requireNonNull(snapshotElements);
+        awaitCompaction();
+
+        List<T> elements = new ArrayList<>(snapshotElements);
+        synchronized (journalLock) {
+            currentCheckpoint = null;
+            entryLines = new ArrayList<>();
+            savedElements = null;
+            if (!Files.exists(journalPath)) {
+                logger.info("Journal file " + journalPath + " not found");
+                return elements;
+            }
+
+            List<String> lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+            journalSize = Files.size(journalPath);
+            if (lines.isEmpty()) {
+                logger.warning("Journal file " + journalPath + " is empty, ignoring it");
+                return elements;
+            }
+
+            currentCheckpoint = findCheckpoint(parseLine(lines.get(0)), checksumOf(snapshotPath));
+            if (currentCheckpoint == null) {
+                Path unmatchedJournalPath = setAside();
+                logger.warning("Journal file " + journalPath + " does not match " + snapshotPath
+                        + ", which may have been edited or restored from a backup. The journal was moved to "
+                        + unmatchedJournalPath + " and its changes are not applied");
+                return elements;
+            }
+
+            lastSequence = currentCheckpoint.sequence;
+            for (int i = 1; i < lines.size(); i++) {
+                JsonNode entry;
+                try {
+                    entry = parseLine(lines.get(i));
+                } catch (IOException e) {
+                    if (i < lines.size() - 1) {
+                        throw e;
+                    }
+                    logger.warning("Ignoring partially written last entry of " + journalPath);
+                    return elements;
+                }
+
+                long sequence = entry.path("sequence").asLong();
+                if (sequence <= currentCheckpoint.sequence) {
+                    continue;
+                }
+                if (sequence != lastSequence + 1) {
+                    throw new IOException("Journal entry " + sequence + " does not follow entry " + lastSequence);
+                }
+                applyEntry(entry, elements);
+                entryLines.add(new EntryLine(sequence, lines.get(i)));
+                lastSequence = sequence;
+            }
+        }
+
+        logger.fine("Replayed " + entryLines.size() + " journal entries from " + journalPath);
+        savedElements = new ArrayList<>(elements);
+        return elements;
+    }
+
+    /**
+     * Moves the journal to a file with the same name followed by a timestamp and {@link #UNMATCHED_FILE_EXTENSION},
+     * so that its changes are kept for the user to recover, and returns the path of that file.
+     */
+    private Path setAside() throws IOException {
+        Path unmatchedJournalPath = journalPath.resolveSibling(journalPath.getFileName() + "."
+                + System.currentTimeMillis() + UNMATCHED_FILE_EXTENSION);
+        Files.move(journalPath, unmatchedJournalPath);
+        journalSize = 0;
+        return unmatchedJournalPath;
+    }
+
+    /**
+     * Deletes the journal, once every change in it is included in the snapshot file.
+     */
+    public void delete() throws IOException {
+        awaitCompaction();
+        synchronized (journalLock) {
+            Files.deleteIfExists(journalPath);
+            currentCheckpoint = null;
+            entryLines = new ArrayList<>();
+            journalSize = 0;
+        }
+        savedElements = null;
+    }
+
+    /**
+     * Forgets the elements last saved, so that the next save writes a new snapshot.
+     */
+    public void reset() {
+        savedElements = null;
+    }
+
+    /**
+     * Saves {@code elements}, by appending the changes made since the last save to the journal.
+     * If there is no previous save or replay to compare with, a new snapshot is written instead.
+     *
+     * @throws IOException if there was any problem writing to the files.
+     */
+    public void save(List<? extends T> elements) throws IOException {
+        requireNonNull(elements);
+        if (savedElements == null) {
+            awaitCompaction();
+            compact(new ArrayList<>(elements), lastSequence);
+            savedElements = new ArrayList<>(elements);
+            return;
+        }
+
+        int oldSize = savedElements.size();
+        int newSize = elements.size();
+        int start = 0;
+        while (start < oldSize && start < newSize && savedElements.get(start) == elements.get(start)) {
+            start++;
+        }
+        int oldEnd = oldSize;
+        int newEnd = newSize;
+        while (oldEnd > start && newEnd > start && savedElements.get(oldEnd - 1) == elements.get(newEnd - 1)) {
+            oldEnd--;
+            newEnd--;
+        }
+        if (start == oldEnd && start == newEnd) {
+            return;
+        }
+
+        List<Object> insertedElements = new ArrayList<>(newEnd - start);
+        for (T element : elements.subList(start, newEnd)) {
+            insertedElements.add(codec.toJsonAdapted(element));
+        }
+        long sequence = lastSequence + 1;
+        String line = JsonUtil.toCompactJsonString(new Entry(sequence, start, oldEnd - start, insertedElements));
+        appendLine(new EntryLine(sequence, line));
+        lastSequence = sequence;
+        savedElements = new ArrayList<>(elements);
+
+        if (journalSize > compactionThreshold && (pendingCompaction == null || pendingCompaction.isDone())) {
+            List<T> elementsToCompact = savedElements;
+            pendingCompaction = getCompactor().submit(() -> compactInBackground(elementsToCompact, sequence));
+        }
+    }
+
+    /**
+     * Waits for any compaction running in the background to complete.
+     */
+    public void awaitCompaction() throws IOException {
+        if (pendingCompaction == null) {
+            return;
+        }
+        try {
+            pendingCompaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the journal to be compacted", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private void compactInBackground(List<T> elements, long sequence) {
+        try {
+            compact(elements, sequence);
+        } catch (IOException e) {
+            // the journal still holds every change, so compaction is simply retried after the next save
+            logger.warning("Failed to compact journal " + journalPath + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Writes {@code elements}, which include every journal entry up to {@code sequence}, as the new snapshot,
+     * and drops those entries from the journal.
+     */
+    private void compact(List<T> elements, long sequence) throws IOException {
+        Path tempSnapshotPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + COMPACTION_FILE_EXTENSION);
+        Files.deleteIfExists(tempSnapshotPath);
+        snapshotWriter.write(elements, tempSnapshotPath);
+        Checkpoint newCheckpoint = new Checkpoint(checksumOf(tempSnapshotPath), sequence);
+
+        // the journal must match both the old and the new snapshot until the new snapshot replaces the old one
+        synchronized (journalLock) {
+            List<Checkpoint> checkpoints = new ArrayList<>();
+            if (currentCheckpoint != null) {
+                checkpoints.add(currentCheckpoint);
+            }
+            checkpoints.add(newCheckpoint);
+            rewriteJournal(checkpoints, entryLines);
+        }
+
+        FileUtil.replaceFile(tempSnapshotPath, snapshotPath, true);
+
+        synchronized (journalLock) {
+            List<EntryLine> remainingLines = new ArrayList<>();
+            for (EntryLine entryLine : entryLines) {
+                if (entryLine.sequence > sequence) {
+                    remainingLines.add(entryLine);
+                }
+            }
+            rewriteJournal(Collections.singletonList(newCheckpoint), remainingLines);
+            currentCheckpoint = newCheckpoint;
+            entryLines = remainingLines;
+        }
+        logger.fine("Compacted journal " + journalPath + " into " + snapshotPath);
+    }
+
+    private void appendLine(EntryLine entryLine) throws IOException {
+        synchronized (journalLock) {
+            byte[] bytes = (entryLine.line + System.lineSeparator()).getBytes(StandardCharsets.UTF_8);
+            FileUtil.appendToFile(journalPath, bytes);
+            entryLines.add(entryLine);
+            journalSize += bytes.length;
+        }
+    }
+
+    /**
+     * Replaces the journal with one holding {@code checkpoints} and {@code lines}.
+     * Must be called while holding {@code journalLock}.
+     */
+    private void rewriteJournal(List<Checkpoint> checkpoints, List<EntryLine> lines) throws IOException {
+        FileUtil.writeToFileAtomically(journalPath, out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writer.write(JsonUtil.toCompactJsonString(new Header(checkpoints)));
+            writer.write(System.lineSeparator());
+            for (EntryLine entryLine : lines) {
+                writer.write(entryLine.line);
+                writer.write(System.lineSeparator());
+            }
+            writer.flush();
+        }, false);
+        journalSize = Files.size(journalPath);
+    }
+
+    private void applyEntry(JsonNode entry, List<T> elements) throws IOException, IllegalValueException {
+        int index = entry.path("index").asInt(-1);
+        int removed = entry.path("removed").asInt(-1);
+        JsonNode insertedElements = entry.path("elements");
+        if (index < 0 || removed < 0 || index + removed > elements.size() || !insertedElements.isArray()) {
+            throw new IOException("Invalid journal entry: " + entry);
+        }
+
+        List<T> changedRange = elements.subList(index, index + removed);
+        changedRange.clear();
+        for (JsonNode insertedElement : insertedElements) {
+            changedRange.add(codec.fromJson(insertedElement));
+        }
+    }
+
+    private ExecutorService getCompactor() {
+        if (compactor == null) {
+            compactor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "Reeve journal compactor");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return compactor;
+    }
+
+    /**
+     * Returns the checkpoint in {@code header} that matches the snapshot file with the given checksum,
+     * or null if there is none.
+     */
+    private static Checkpoint findCheckpoint(JsonNode header, Long snapshotChecksum) {
+        if (snapshotChecksum == null) {
+            return null;
+        }
+        for (JsonNode checkpoint : header.path("checkpoints")) {
+            if (checkpoint.path("checksum").asLong() == snapshotChecksum) {
+                return new Checkpoint(snapshotChecksum, checkpoint.path("sequence").asLong());
+            }
+        }
+        return null;
+    }
+
+    private static JsonNode parseLine(String line) throws IOException {
+        JsonNode node = JsonUtil.fromJsonString(line, JsonNode.class);
+        if (node == null || !node.isObject()) {
+            throw new IOException("Invalid journal line: " + line);
+        }
+        return node;
+    }
+
+    /**
+     * Returns the CRC32 checksum of the contents of {@code filePath}, or null if the file does not exist.
+     */
+    private static Long checksumOf(Path filePath) throws IOException {
+        if (!Files.exists(filePath)) {
+            return null;
+        }
+        CRC32 checksum = new CRC32();
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(filePath)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                checksum.update(buffer, 0, read);
+            }
+        }
+        return checksum.getValue();
+    }
+
+    /**
+     * Converts the elements of the list to and from objects that can be written to the journal.
+     */
+    public interface ElementCodec<T> {
+        /**
+         * Returns an object that Jackson can serialize to represent {@code element}.
+         */
+        Object toJsonAdapted(T element);
+
+        /**
+         * Converts a json tree written by {@link #toJsonAdapted} back into an element.
+         *
+         * @throws IOException if the tree is not in the correct format.
+         * @throws IllegalValueException if there were any data constraints violated.
+         */
+        T fromJson(JsonNode node) throws IOException, IllegalValueException;
+    }
+
+    /**
+     * Writes the elements of the list in full to a snapshot file.
+     */
+    @FunctionalInterface
+    public interface SnapshotWriter<T> {
+        void write(List<T> elements, Path filePath) throws IOException;
+    }
+
+    /**
+     * A snapshot file, identified by its checksum, that includes every journal entry up to {@code sequence}.
+     */
+    private static class Checkpoint {
+        private final long checksum;
+        private final long sequence;
+
+        Checkpoint(long checksum, long sequence) {
+            this.checksum = checksum;
+            this.sequence = sequence;
+        }
+    }
+
+    /**
+     * The first line of the journal.
+     */
+    private static class Header {
+        private final List<Checkpoint> checkpoints;
+
+        Header(List<Checkpoint> checkpoints) {
+            this.checkpoints = checkpoints;
+        }
+    }
+
+    /**
+     * A change replacing {@code removed} elements, starting at {@code index}, with {@code elements}.
+     */
+    private static class Entry {
+        private final long sequence;
+        private final int index;
+        private final int removed;
+        private final List<Object> elements;
+
+        Entry(long sequence, int index, int removed, List<Object> elements) {
+            this.sequence = sequence;
+            this.index = index;
+            this.removed = removed;
+            this.elements = elements;
+        }
+    }
+
+    /**
+     * An entry of the journal, as it is written in the file.
+     */
+    private static class EntryLine {
+        private final long sequence;
+        private final String line;
+
+        EntryLine(long sequence, String line) {
+            this.sequence = sequence;
+            this.line = line;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyReeve;
+
+/**
+ * The formats in which AddressBook data can be stored on the hard disk.
+ * The format of a data file is determined by its file extension.
+ */
+public enum ReeveFileFormat {
+    JSON(".json", JsonReeveStorage::new),
+    // binary snapshots are compact enough to always be loaded in full
+    BINARY(BinaryReeveStorage.FILE_EXTENSION, (filePath, isAcademicLoadedLazily) -> new BinaryReeveStorage(filePath));
+
+    private static final Logger logger = LogsCenter.getLogger(ReeveFileFormat.class);
+
+    private final String fileExtension;
+    private final BiFunction<Path, Boolean, ReeveStorage> storageFactory;
+
+    ReeveFileFormat(String fileExtension, BiFunction<Path, Boolean, ReeveStorage> storageFactory) {
+        this.fileExtension = fileExtension;
+        this.storageFactory = storageFactory;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Returns the format of the file at {@code filePath}.
+     * Files with an unknown extension are in {@link #JSON} format.
+     */
+    public static ReeveFileFormat of(Path filePath) {
+        requireNonNull(filePath);
+        Path fileName = filePath.getFileName();
+        if (fileName != null && fileName.toString().toLowerCase().endsWith(BINARY.fileExtension)) {
+            return BINARY;
+        }
+        return JSON;
+    }
+
+    /**
+     * Returns a {@code ReeveStorage} for the file at {@code filePath}, in the format given by its extension.
+     */
+    public static ReeveStorage createStorage(Path filePath) {
+        return createStorage(filePath, false);
+    }
+
+    /**
+     * Returns a {@code ReeveStorage} for the file at {@code filePath}, in the format given by its extension.
+     *
+     * @param isAcademicLoadedLazily if true, the academic details of students are only loaded when first accessed,
+     *     where the format supports it.
+     */
+    public static ReeveStorage createStorage(Path filePath, boolean isAcademicLoadedLazily) {
+        return of(filePath).storageFactory.apply(filePath, isAcademicLoadedLazily);
+    }
+
+    /**
+     * Converts the data in {@code sourcePath} into the format of {@code targetPath} and saves it there.
+     * No data is lost in the conversion, whichever formats the files are in, and any changes journaled for
+     * {@code sourcePath} are included.
+     *
+     * @return false if there is no data at {@code sourcePath}.
+     * @throws DataConversionException if the data in {@code sourcePath} is not in the expected format.
+     * @throws IOException if there was any problem reading or writing the files.
+     */
+    public static boolean convert(Path sourcePath, Path targetPath) throws DataConversionException, IOException {
+        requireNonNull(sourcePath);
+        requireNonNull(targetPath);
+
+        Optional<ReadOnlyReeve> data = new JournaledReeveStorage(createStorage(sourcePath)).readAddressBook();
+        if (!data.isPresent()) {
+            return false;
+        }
+        createStorage(targetPath).saveAddressBook(data.get());
+        logger.info("Converted " + sourcePath + " to " + targetPath);
+        return true;
+    }
+
+    /**
+     * If there is no data file at {@code filePath}, converts the data from a file with the same name in the other
+     * format, if there is one. This allows the format of the data file to be changed by changing its extension.
+     *
+     * @return true if the data was converted.
+     * @throws DataConversionException if the data in the other file is not in the expected format.
+     * @throws IOException if there was any problem reading or writing the files.
+     */
+    public static boolean convertFromOtherFormatIfMissing(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        Path fileName = filePath.getFileName();
+        if (Files.exists(filePath) || fileName == null) {
+            return false;
+        }
+
+        String name = fileName.toString();
+        ReeveFileFormat format = of(filePath);
+        String baseName = name.toLowerCase().endsWith(format.fileExtension)
+                ? name.substring(0, name.length() - format.fileExtension.length())
+                : name;
+        ReeveFileFormat otherFormat = format == JSON ? BINARY : JSON;
+        Path otherPath = filePath.resolveSibling(baseName + otherFormat.fileExtension);
+        return convert(otherPath, filePath);
+    }
+}
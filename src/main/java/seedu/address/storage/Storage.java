@@ -37,4 +37,10 @@ public interface Storage extends ReeveStorage, NotebookStorage, UserPrefsStorage
     @Override
     void saveNotebook(ReadOnlyNotebook notebook) throws IOException;
 
+    /**
+     * Blocks until every save requested so far has been written to the storage.
+     * @throws IOException if there was any problem writing to the storage.
+     */
+    void flush() throws IOException;
+
 }
@@ -15,6 +15,8 @@ import seedu.address.storage.notes.NotebookStorage;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * Remembers the version of the data last saved to the default files, so that saving data which has not changed
+ * since then does not rewrite the files.
  */
 public class StorageManager implements Storage {
 
@@ -23,6 +25,11 @@ public class StorageManager implements Storage {
     private NotebookStorage notebookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    private ReadOnlyReeve lastSavedReeve;
+    private long lastSavedReeveVersion;
+    private ReadOnlyNotebook lastSavedNotebook;
+    private long lastSavedNotebookVersion;
+
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
@@ -66,18 +73,26 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyReeve> readAddressBook(Path filePath) throws DataConversionException, IOException {
-        logger.fine("Attempting to read data from file: " + filePath);
+        logger.fine(() -> "Attempting to read data from file: " + filePath);
         return reeveStorage.readAddressBook(filePath);
     }
 
     @Override
     public void saveAddressBook(ReadOnlyReeve reeve) throws IOException {
+        long version = reeve.getVersion();
+        if (reeve == lastSavedReeve && version == lastSavedReeveVersion) {
+            logger.fine("Data is unchanged since the last save, skipping write to data file");
+            return;
+        }
+
         saveAddressBook(reeve, reeveStorage.getAddressBookFilePath());
+        lastSavedReeve = reeve;
+        lastSavedReeveVersion = version;
     }
 
     @Override
     public void saveAddressBook(ReadOnlyReeve reeve, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
+        logger.fine(() -> "Attempting to write to data file: " + filePath);
         reeveStorage.saveAddressBook(reeve, filePath);
     }
 
@@ -95,19 +110,32 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyNotebook> readNotebook(Path filePath) throws DataConversionException, IOException {
-        logger.fine("Attempting to read data from notebook file: " + filePath);
+        logger.fine(() -> "Attempting to read data from notebook file: " + filePath);
         return notebookStorage.readNotebook(filePath);
     }
 
     @Override
     public void saveNotebook(ReadOnlyNotebook notebook) throws IOException {
+        long version = notebook.getVersion();
+        if (notebook == lastSavedNotebook && version == lastSavedNotebookVersion) {
+            logger.fine("Notebook is unchanged since the last save, skipping write to notebook data file");
+            return;
+        }
+
         saveNotebook(notebook, notebookStorage.getNotebookFilePath());
+        lastSavedNotebook = notebook;
+        lastSavedNotebookVersion = version;
     }
 
     @Override
     public void saveNotebook(ReadOnlyNotebook notebook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to notebook data file: " + filePath);
+        logger.fine(() -> "Attempting to write to notebook data file: " + filePath);
         notebookStorage.saveNotebook(notebook, filePath);
     }
 
+    @Override
+    public void flush() {
+        // every save is written before it returns, so there is nothing pending
+    }
+
 }
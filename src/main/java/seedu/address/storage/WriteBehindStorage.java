@@ -0,0 +1,273 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyReeve;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.notes.ReadOnlyNotebook;
+import seedu.address.model.notes.note.Note;
+import seedu.address.model.student.Student;
+
+/**
+ * A {@code Storage} that writes Reeve and notebook data on a single background thread.
+ * Saving only takes a snapshot of the data, which is skipped if its version is unchanged since the last save.
+ * Snapshots that are waiting to be written are replaced by newer ones, so at most one write of each file is
+ * pending at any time. A failed background write is reported by the next save or {@link #flush()}.
+ */
+public class WriteBehindStorage implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorage.class);
+
+    private final Storage storage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Reeve storage writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicReference<ReadOnlyReeve> pendingReeve = new AtomicReference<>();
+    private final AtomicReference<ReadOnlyNotebook> pendingNotebook = new AtomicReference<>();
+    private final AtomicReference<IOException> writeFailure = new AtomicReference<>();
+
+    private ReadOnlyReeve lastSavedReeve;
+    private long lastSavedReeveVersion;
+    private ReadOnlyNotebook lastSavedNotebook;
+    private long lastSavedNotebookVersion;
+
+    /**
+     * Creates a {@code WriteBehindStorage} that writes to {@code storage} in the background.
+     */
+    public WriteBehindStorage(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyReeve> readAddressBook() throws DataConversionException, IOException {
+        flush();
+        return storage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyReeve> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        flush();
+        return storage.readAddressBook(filePath);
+    }
+
+    /**
+     * Schedules a background write of a snapshot of {@code reeve}, unless it is unchanged since the last save.
+     * @throws IOException if a previous background write failed.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyReeve reeve) throws IOException {
+        requireNonNull(reeve);
+        throwIfWriteFailed();
+
+        long version = reeve.getVersion();
+        if (reeve == lastSavedReeve && version == lastSavedReeveVersion) {
+            logger.fine("Reeve is unchanged, skipping save");
+            return;
+        }
+        lastSavedReeve = reeve;
+        lastSavedReeveVersion = version;
+
+        // students are immutable, so a copy of the list is a consistent snapshot
+        if (pendingReeve.getAndSet(new ReeveSnapshot(reeve)) == null) {
+            writer.execute(this::writePendingReeve);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyReeve reeve, Path filePath) throws IOException {
+        flush();
+        storage.saveAddressBook(reeve, filePath);
+    }
+
+    // ================ Notebook methods ==============================
+
+    @Override
+    public Path getNotebookFilePath() {
+        return storage.getNotebookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyNotebook> readNotebook() throws DataConversionException, IOException {
+        flush();
+        return storage.readNotebook();
+    }
+
+    @Override
+    public Optional<ReadOnlyNotebook> readNotebook(Path filePath) throws DataConversionException, IOException {
+        flush();
+        return storage.readNotebook(filePath);
+    }
+
+    /**
+     * Schedules a background write of a snapshot of {@code notebook}, unless it is unchanged since the last save.
+     * @throws IOException if a previous background write failed.
+     */
+    @Override
+    public void saveNotebook(ReadOnlyNotebook notebook) throws IOException {
+        requireNonNull(notebook);
+        throwIfWriteFailed();
+
+        long version = notebook.getVersion();
+        if (notebook == lastSavedNotebook && version == lastSavedNotebookVersion) {
+            logger.fine("Notebook is unchanged, skipping save");
+            return;
+        }
+        lastSavedNotebook = notebook;
+        lastSavedNotebookVersion = version;
+
+        if (pendingNotebook.getAndSet(new NotebookSnapshot(notebook)) == null) {
+            writer.execute(this::writePendingNotebook);
+        }
+    }
+
+    @Override
+    public void saveNotebook(ReadOnlyNotebook notebook, Path filePath) throws IOException {
+        flush();
+        storage.saveNotebook(notebook, filePath);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        try {
+            writer.submit(() -> {}).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for data to be saved", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+        throwIfWriteFailed();
+    }
+
+    private void writePendingReeve() {
+        ReadOnlyReeve reeve = pendingReeve.getAndSet(null);
+        if (reeve == null) {
+            return;
+        }
+
+        try {
+            storage.saveAddressBook(reeve);
+        } catch (IOException e) {
+            logger.warning("Failed to save Reeve in the background: " + StringUtil.getDetails(e));
+            writeFailure.compareAndSet(null, e);
+        }
+    }
+
+    private void writePendingNotebook() {
+        ReadOnlyNotebook notebook = pendingNotebook.getAndSet(null);
+        if (notebook == null) {
+            return;
+        }
+
+        try {
+            storage.saveNotebook(notebook);
+        } catch (IOException e) {
+            logger.warning("Failed to save notebook in the background: " + StringUtil.getDetails(e));
+            writeFailure.compareAndSet(null, e);
+        }
+    }
+
+    /**
+     * Throws the first failure of a background write since the last call, if any.
+     * The data is then written again by the next save, even if it is unchanged.
+     */
+    private void throwIfWriteFailed() throws IOException {
+        IOException failure = writeFailure.getAndSet(null);
+        if (failure != null) {
+            lastSavedReeve = null;
+            lastSavedNotebook = null;
+            throw failure;
+        }
+    }
+
+    /**
+     * An immutable copy of the students of a {@code ReadOnlyReeve}.
+     */
+    private static class ReeveSnapshot implements ReadOnlyReeve {
+        private final ObservableList<Student> students;
+        private final long version;
+
+        ReeveSnapshot(ReadOnlyReeve reeve) {
+            students = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(reeve.getStudentList()));
+            version = reeve.getVersion();
+        }
+
+        @Override
+        public ObservableList<Student> getStudentList() {
+            return students;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+    }
+
+    /**
+     * An immutable copy of the notes of a {@code ReadOnlyNotebook}.
+     */
+    private static class NotebookSnapshot implements ReadOnlyNotebook {
+        private final ObservableList<Note> notes;
+        private final long version;
+
+        NotebookSnapshot(ReadOnlyNotebook notebook) {
+            notes = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(notebook.getNotesList()));
+            version = notebook.getVersion();
+        }
+
+        @Override
+        public ObservableList<Note> getNotesList() {
+            return notes;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package seedu.address.storage.notes;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.notes.Notebook;
+import seedu.address.model.notes.ReadOnlyNotebook;
+import seedu.address.model.notes.note.Note;
+import seedu.address.storage.ListJournal;
+
+/**
+ * A {@code NotebookStorage} that journals the changes to the notes in a file next to the data file, instead of
+ * rewriting the whole data file on every save. The data file is written by another {@code NotebookStorage}, and is
+ * only rewritten when the journal is compacted.
+ *
+ * @see ListJournal
+ */
+public class JournaledNotebookStorage implements NotebookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledNotebookStorage.class);
+
+    private final NotebookStorage snapshotStorage;
+    private final ListJournal<Note> journal;
+
+    public JournaledNotebookStorage(NotebookStorage snapshotStorage) {
+        this(snapshotStorage, ListJournal.DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledNotebookStorage} that compacts the journal into {@code snapshotStorage} once the
+     * journal is larger than {@code compactionThreshold} bytes.
+     */
+    public JournaledNotebookStorage(NotebookStorage snapshotStorage, long compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+        this.journal = new ListJournal<>(snapshotStorage.getNotebookFilePath(), new NoteCodec(),
+                this::writeSnapshot, compactionThreshold);
+    }
+
+    @Override
+    public Path getNotebookFilePath() {
+        return snapshotStorage.getNotebookFilePath();
+    }
+
+    /**
+     * Returns the notes in the data file with the changes in the journal applied to them.
+     * Returns {@code Optional.empty()} if the data file is not found.
+     */
+    @Override
+    public Optional<ReadOnlyNotebook> readNotebook() throws DataConversionException, IOException {
+        Optional<ReadOnlyNotebook> snapshot = snapshotStorage.readNotebook();
+        if (!snapshot.isPresent()) {
+            journal.reset();
+            return Optional.empty();
+        }
+
+        try {
+            Notebook notebook = new Notebook();
+            for (Note note : journal.replay(snapshot.get().getNotesList())) {
+                if (notebook.hasNote(note)) {
+                    throw new IllegalValueException(JsonSerializableNotebook.MESSAGE_DUPLICATE_NOTE);
+                }
+                notebook.addNote(note);
+            }
+            return Optional.of(notebook);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journal.getJournalPath() + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journal.getJournalPath() + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public Optional<ReadOnlyNotebook> readNotebook(Path filePath) throws DataConversionException, IOException {
+        if (filePath.equals(getNotebookFilePath())) {
+            return readNotebook();
+        }
+        return snapshotStorage.readNotebook(filePath);
+    }
+
+    @Override
+    public void saveNotebook(ReadOnlyNotebook notebook) throws IOException {
+        requireNonNull(notebook);
+        journal.save(notebook.getNotesList());
+    }
+
+    @Override
+    public void saveNotebook(ReadOnlyNotebook notebook, Path filePath) throws IOException {
+        if (filePath.equals(getNotebookFilePath())) {
+            saveNotebook(notebook);
+            return;
+        }
+        snapshotStorage.saveNotebook(notebook, filePath);
+    }
+
+    /**
+     * Writes the changes in the journal, if there is one, into the data file and deletes the journal, so that the
+     * data file can be used on its own. A journal that does not match the data file is moved aside instead.
+     *
+     * @throws DataConversionException if the data file or the journal is not in the correct format, in which case
+     *     the journal is kept.
+     */
+    public void mergeJournal() throws DataConversionException, IOException {
+        if (!Files.exists(journal.getJournalPath())) {
+            return;
+        }
+
+        Optional<ReadOnlyNotebook> notebook = readNotebook();
+        if (notebook.isPresent()) {
+            snapshotStorage.saveNotebook(notebook.get());
+            journal.delete();
+        }
+    }
+
+    /**
+     * Waits for any compaction of the journal running in the background to complete.
+     */
+    public void awaitCompaction() throws IOException {
+        journal.awaitCompaction();
+    }
+
+    private void writeSnapshot(List<Note> notes, Path filePath) throws IOException {
+        Notebook notebook = new Notebook();
+        notebook.setNotes(notes);
+        snapshotStorage.saveNotebook(notebook, filePath);
+    }
+
+    /**
+     * Converts notes to and from their json form in the journal.
+     */
+    private static class NoteCodec implements ListJournal.ElementCodec<Note> {
+        @Override
+        public Object toJsonAdapted(Note note) {
+            return new JsonAdaptedNote(note);
+        }
+
+        @Override
+        public Note fromJson(JsonNode node) throws IOException, IllegalValueException {
+            return JsonUtil.treeToValue(node, JsonAdaptedNote.class).toModelType();
+        }
+    }
+}
@@ -10,7 +10,6 @@ import java.util.logging.Logger;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.notes.ReadOnlyNotebook;
 
@@ -73,8 +72,7 @@ public class JsonNotebookStorage implements NotebookStorage {
         requireNonNull(notebook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableNotebook(notebook), filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableNotebook(notebook), filePath, true);
     }
 
 }
@@ -1,8 +1,6 @@
 package seedu.address.ui;
 
 import java.time.format.DateTimeFormatter;
-import java.util.Comparator;
-import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.fxml.FXML;
@@ -67,14 +65,8 @@ public class ExamStatsWindow extends UiPart<Stage> {
     private void fillLineChart(Student student) {
         XYChart.Series<String, Number> series = new XYChart.Series<>();
         series.setName("Exam Score");
-        List<Exam> exams = student.getExams();
-        exams.sort(new Comparator<Exam>() {
-            @Override
-            public int compare(Exam exam1, Exam exam2) {
-                return exam1.getDate().compareTo(exam2.getDate());
-            }
-        });
-        for (Exam exam : exams) {
+        // exams are kept in order of date
+        for (Exam exam : student.getExams()) {
             series.getData().add(new XYChart.Data<>(exam.getDate().format(DateTimeFormatter.ofPattern("dd MMM yyyy")),
                     exam.getScore().getScorePercentage()));
         }
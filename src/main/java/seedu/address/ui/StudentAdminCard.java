@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import java.util.Objects;
+
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
@@ -21,7 +23,8 @@ public class StudentAdminCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Student student;
+    private Student student;
+    private int displayedIndex;
 
     @FXML
     private HBox cardPane;
@@ -47,11 +50,34 @@ public class StudentAdminCard extends UiPart<Region> {
     private Label details;
 
     /**
-     * Creates a {@code PersonCode} with the given {@code Person} and index to display.
+     * Creates a {@code StudentAdminCard} with no student, to be shown once {@link #setStudent} is called.
      */
-    public StudentAdminCard(Student student, int displayedIndex) {
+    public StudentAdminCard() {
         super(FXML);
+    }
+
+    /**
+     * Creates a {@code StudentAdminCard} with the given {@code Student} and index to display.
+     */
+    public StudentAdminCard(Student student, int displayedIndex) {
+        this();
+        setStudent(student, displayedIndex);
+    }
+
+    public Student getStudent() {
+        return student;
+    }
+
+    /**
+     * Shows {@code student} with the given index on this card, in place of the student shown before.
+     * The labels are not set again if the same student is shown with the same index.
+     */
+    public void setStudent(Student student, int displayedIndex) {
+        if (student == this.student && displayedIndex == this.displayedIndex) {
+            return;
+        }
         this.student = student;
+        this.displayedIndex = displayedIndex;
         id.setText(displayedIndex + ". ");
         name.setText(student.getName().fullName);
         phone.setText("Phone: " + student.getPhone().value);
@@ -79,6 +105,6 @@ public class StudentAdminCard extends UiPart<Region> {
         // state check
         StudentAdminCard card = (StudentAdminCard) other;
         return id.getText().equals(card.id.getText())
-                && student.equals(card.student);
+                && Objects.equals(student, card.student);
     }
 }
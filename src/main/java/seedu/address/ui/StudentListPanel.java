@@ -2,6 +2,10 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.WeakChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
@@ -16,7 +20,7 @@ import seedu.address.model.student.Student;
 public class StudentListPanel extends UiPart<Region> {
     private static final String FXML = "StudentListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(StudentListPanel.class);
-    private boolean state;
+    private final BooleanProperty isAdminShown = new SimpleBooleanProperty(true);
 
     @FXML
     private ListView<Student> personListView;
@@ -28,21 +32,33 @@ public class StudentListPanel extends UiPart<Region> {
         super(FXML);
         personListView.setItems(studentList);
         personListView.setCellFactory(listView -> new StudentListViewCell());
-        state = true;
     }
 
     /**
      * Toggles between StudentAdminCard and StudentAcademicCard.
+     * Every cell swaps the card it shows, so the cells are not created again.
      */
     public void toggleState() {
-        state = !state;
-        personListView.refresh(); //To show immediate result of toggle
+        isAdminShown.set(!isAdminShown.get());
     }
 
     /**
-     * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * Custom {@code ListCell} that displays the graphics of a {@code Student} using a {@code StudentAdminCard}
+     * or a {@code StudentAcademicCard}.
+     * Both cards are loaded once per cell, and are given the student of the cell whenever it changes.
+     * The cell listens to {@code isAdminShown} weakly, so cells discarded by the list view can be collected.
      */
     class StudentListViewCell extends ListCell<Student> {
+        private final StudentAdminCard adminCard = new StudentAdminCard();
+        private final StudentAcademicCard academicCard = new StudentAcademicCard();
+        // kept by the cell, as the weak listener does not keep it alive
+        private final ChangeListener<Boolean> cardToggleListener =
+                (observable, wasAdminShown, adminShown) -> showCard();
+
+        StudentListViewCell() {
+            isAdminShown.addListener(new WeakChangeListener<>(cardToggleListener));
+        }
+
         @Override
         protected void updateItem(Student student, boolean empty) {
             super.updateItem(student, empty);
@@ -51,11 +67,22 @@ public class StudentListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                if (state) {
-                    setGraphic(new StudentAdminCard(student, getIndex() + 1).getRoot());
-                } else {
-                    setGraphic(new StudentAcademicCard(student, getIndex() + 1).getRoot());
-                }
+                showCard();
+            }
+        }
+
+        private void showCard() {
+            Student student = getItem();
+            if (isEmpty() || student == null) {
+                return;
+            }
+
+            if (isAdminShown.get()) {
+                adminCard.setStudent(student, getIndex() + 1);
+                setGraphic(adminCard.getRoot());
+            } else {
+                academicCard.setStudent(student, getIndex() + 1);
+                setGraphic(academicCard.getRoot());
             }
         }
     }
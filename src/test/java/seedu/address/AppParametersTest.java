@@ -1,6 +1,7 @@
 package seedu.address;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Paths;
 import java.util.Collections;
@@ -37,6 +38,31 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_rawArguments_success() {
+        // no arguments -> GUI with the default config
+        assertEquals(expected, AppParameters.parse());
+
+        // headless with commands in the standard input
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setHeadless(true);
+        assertEquals(expected, AppParameters.parse("--config=config.json", AppParameters.HEADLESS_FLAG));
+
+        // headless with a file of commands
+        expected.setCommandFile(Paths.get("nightly.txt"));
+        assertEquals(expected, AppParameters.parse(AppParameters.HEADLESS_FLAG, "nightly.txt", "--config=config.json"));
+
+        // unnamed arguments are ignored without the headless flag
+        assertEquals(new AppParameters(), AppParameters.parse("nightly.txt", "--config=a\0"));
+    }
+
+    @Test
+    public void parse_invalidCommandFile_throwsIllegalArgumentException() {
+        String expectedMessage = String.format(AppParameters.MESSAGE_INVALID_COMMAND_FILE, "a\0");
+        assertThrows(IllegalArgumentException.class, expectedMessage, () ->
+                AppParameters.parse(AppParameters.HEADLESS_FLAG, "a\0"));
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
 
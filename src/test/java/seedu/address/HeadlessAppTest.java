@@ -0,0 +1,99 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.CLASS_TIME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.CLASS_VENUE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.FEE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PAYMENT_DATE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.SCHOOL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.YEAR_DESC_AMY;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyReeve;
+import seedu.address.storage.JsonReeveStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.notes.JsonNotebookStorage;
+
+public class HeadlessAppTest {
+    private static final String ADD_AMY_COMMAND = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+            + SCHOOL_DESC_AMY + YEAR_DESC_AMY + CLASS_VENUE_DESC_AMY + CLASS_TIME_DESC_AMY + FEE_DESC_AMY
+            + PAYMENT_DATE_DESC_AMY;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private Model model = new ModelManager();
+    private JsonReeveStorage reeveStorage;
+    private HeadlessApp headlessApp;
+
+    @BeforeEach
+    public void setUp() {
+        reeveStorage = new JsonReeveStorage(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        JsonNotebookStorage notebookStorage = new JsonNotebookStorage(temporaryFolder.resolve("notebook.json"));
+        StorageManager storage = new StorageManager(reeveStorage, userPrefsStorage, notebookStorage);
+        headlessApp = new HeadlessApp(new LogicManager(model, storage), new PrintStream(out, true),
+                new PrintStream(err, true));
+    }
+
+    @Test
+    public void run_validCommands_executedAndSaved() throws Exception {
+        int exitStatus = run("# add a student", "", ADD_AMY_COMMAND, "  " + ListCommand.COMMAND_WORD + "  ");
+
+        assertEquals(HeadlessApp.EXIT_SUCCESS, exitStatus);
+        assertEquals("", err.toString(StandardCharsets.UTF_8));
+        assertEquals(1, model.getReeve().getStudentList().size());
+        ReadOnlyReeve savedReeve = reeveStorage.readAddressBook().get();
+        assertEquals(model.getReeve().getStudentList(), savedReeve.getStudentList());
+    }
+
+    @Test
+    public void run_failedCommand_laterCommandsExecuted() throws Exception {
+        int exitStatus = run("unknown", ADD_AMY_COMMAND, ADD_AMY_COMMAND);
+
+        assertEquals(HeadlessApp.EXIT_COMMAND_FAILED, exitStatus);
+        assertEquals(String.format(HeadlessApp.MESSAGE_COMMAND_FAILED, 1, MESSAGE_UNKNOWN_COMMAND)
+                + System.lineSeparator()
+                + String.format(HeadlessApp.MESSAGE_COMMAND_FAILED, 3, AddCommand.MESSAGE_DUPLICATE_STUDENT)
+                + System.lineSeparator(), err.toString(StandardCharsets.UTF_8));
+        assertEquals(String.format(AddCommand.MESSAGE_SUCCESS, model.getReeve().getStudentList().get(0))
+                + System.lineSeparator(), out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void run_exitCommand_laterCommandsSkipped() throws Exception {
+        assertEquals(HeadlessApp.EXIT_SUCCESS, run(ExitCommand.COMMAND_WORD, ADD_AMY_COMMAND));
+        assertEquals(0, model.getReeve().getStudentList().size());
+    }
+
+    @Test
+    public void run_invalidArguments_notRun() {
+        assertEquals(HeadlessApp.EXIT_NOT_RUN, HeadlessApp.run(AppParameters.HEADLESS_FLAG, "a\0"));
+    }
+
+    private int run(String... lines) throws Exception {
+        return headlessApp.run(new BufferedReader(new StringReader(String.join("\n", lines))));
+    }
+}
@@ -0,0 +1,127 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.Test;
+
+public class AsyncLogHandlerTest {
+
+    @Test
+    public void publish_thenFlush_recordsWrittenInOrder() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 4, LogOverflowPolicy.BLOCK);
+        for (int i = 0; i < 100; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        handler.flush();
+
+        assertEquals(100, target.getMessages().size());
+        assertEquals("message 0", target.getMessages().get(0));
+        assertEquals("message 99", target.getMessages().get(99));
+        assertEquals(0, handler.getDroppedCount());
+        assertTrue(target.isFlushed);
+        handler.close();
+    }
+
+    @Test
+    public void publish_belowLevel_notWritten() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 4, LogOverflowPolicy.BLOCK);
+        handler.setLevel(Level.INFO);
+        handler.publish(new LogRecord(Level.FINE, "fine"));
+        handler.publish(new LogRecord(Level.INFO, "info"));
+        handler.flush();
+
+        assertEquals(List.of("info"), target.getMessages());
+        handler.close();
+    }
+
+    @Test
+    public void publish_fullBufferWithDropPolicy_recordsDroppedAndReported() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingHandler target = new RecordingHandler(release);
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 2, LogOverflowPolicy.DROP);
+
+        // the writer holds the first record until it is released, so at most 2 more records fit
+        for (int i = 0; i < 10; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        assertTrue(handler.getDroppedCount() >= 7);
+        long droppedCount = handler.getDroppedCount();
+        release.countDown();
+        handler.close();
+
+        List<String> messages = target.getMessages();
+        assertEquals(10 - droppedCount + 1, messages.size());
+        assertEquals(String.format(AsyncLogHandler.MESSAGE_RECORDS_DROPPED, droppedCount),
+                messages.get(messages.size() - 1));
+    }
+
+    @Test
+    public void close_recordsWrittenAndTargetClosed() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 4, LogOverflowPolicy.BLOCK);
+        handler.publish(new LogRecord(Level.INFO, "before close"));
+        handler.close();
+        handler.publish(new LogRecord(Level.INFO, "after close"));
+
+        assertEquals(List.of("before close"), target.getMessages());
+        assertTrue(target.isClosed);
+
+        // closing again does nothing
+        handler.close();
+    }
+
+    /**
+     * A handler that keeps the messages of the records it is given.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch release;
+        private volatile boolean isFlushed = false;
+        private volatile boolean isClosed = false;
+
+        RecordingHandler() {
+            this(new CountDownLatch(0));
+        }
+
+        RecordingHandler(CountDownLatch release) {
+            this.release = release;
+        }
+
+        List<String> getMessages() {
+            synchronized (messages) {
+                return new ArrayList<>(messages);
+            }
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            messages.add(record.getMessage());
+        }
+
+        @Override
+        public void flush() {
+            isFlushed = true;
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+    }
+}
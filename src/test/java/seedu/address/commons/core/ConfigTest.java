@@ -11,7 +11,12 @@ public class ConfigTest {
     @Test
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Preference file Location : preferences.json\n"
+                + "Durability mode : SYNC\n"
+                + "Journal enabled : true\n"
+                + "Lazy academic loading : false\n"
+                + "Metrics save interval in seconds : 0\n"
+                + "Log overflow policy : DROP";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
@@ -0,0 +1,81 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class DailyRolloverTest {
+
+    private static final ZoneId ZONE = ZoneOffset.ofHours(8);
+
+    @Test
+    public void getDelayUntilNextDay() {
+        assertEquals(Duration.ofMinutes(90),
+                DailyRollover.getDelayUntilNextDay(clockAt(LocalDateTime.of(2020, 6, 1, 22, 30))));
+        assertEquals(Duration.ofDays(1),
+                DailyRollover.getDelayUntilNextDay(clockAt(LocalDateTime.of(2020, 6, 1, 0, 0))));
+    }
+
+    @Test
+    public void rollOver_newDate_listenerNotifiedOnce() {
+        MutableClock clock = new MutableClock(LocalDateTime.of(2020, 6, 1, 23, 59));
+        List<LocalDate> dates = new ArrayList<>();
+        DailyRollover dailyRollover = new DailyRollover(dates::add, Runnable::run, clock);
+        dailyRollover.start();
+        dailyRollover.stop();
+
+        // same date
+        dailyRollover.rollOver();
+        assertEquals(List.of(), dates);
+
+        // next date
+        clock.setTime(LocalDateTime.of(2020, 6, 2, 0, 0));
+        dailyRollover.rollOver();
+        dailyRollover.rollOver();
+        assertEquals(List.of(LocalDate.of(2020, 6, 2)), dates);
+    }
+
+    private static Clock clockAt(LocalDateTime time) {
+        return Clock.fixed(time.atZone(ZONE).toInstant(), ZONE);
+    }
+
+    /**
+     * A clock that can be moved to any time.
+     */
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(LocalDateTime time) {
+            setTime(time);
+        }
+
+        void setTime(LocalDateTime time) {
+            instant = time.atZone(ZONE).toInstant();
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZONE;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class CsvUtilTest {
+
+    @Test
+    public void parseRecord_validRecord_returnsFields() throws Exception {
+        assertEquals(List.of(""), CsvUtil.parseRecord(""));
+        assertEquals(List.of("a", "", "b c"), CsvUtil.parseRecord("a,,b c"));
+        assertEquals(List.of("a", ""), CsvUtil.parseRecord("a,"));
+
+        // quoted fields may contain separators, quotes and line breaks
+        assertEquals(List.of("1, Jurong Ave", "say \"hi\"", "two\nlines"),
+                CsvUtil.parseRecord("\"1, Jurong Ave\",\"say \"\"hi\"\"\",\"two\nlines\""));
+        assertEquals(List.of("", "x"), CsvUtil.parseRecord("\"\",x"));
+    }
+
+    @Test
+    public void parseRecord_invalidQuotes_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, CsvUtil.MESSAGE_UNTERMINATED_QUOTE, () ->
+                CsvUtil.parseRecord("a,\"b"));
+        assertThrows(IllegalValueException.class, CsvUtil.MESSAGE_INVALID_QUOTE, () ->
+                CsvUtil.parseRecord("a,b\"c\""));
+        assertThrows(IllegalValueException.class, CsvUtil.MESSAGE_INVALID_QUOTE, () ->
+                CsvUtil.parseRecord("\"a\"b,c"));
+    }
+
+    @Test
+    public void toRecord_fieldsRoundTrip() throws Exception {
+        List<String> fields = List.of("plain", "", "1, Jurong Ave", "say \"hi\"", "two\nlines");
+        String record = CsvUtil.toRecord(fields);
+        assertEquals("plain,,\"1, Jurong Ave\",\"say \"\"hi\"\"\",\"two\nlines\"", record);
+        assertEquals(fields, CsvUtil.parseRecord(record));
+    }
+
+    @Test
+    public void isRecordIncomplete() {
+        assertFalse(CsvUtil.isRecordIncomplete("a,\"b, c\""));
+        assertTrue(CsvUtil.isRecordIncomplete("a,\"first line"));
+        assertFalse(CsvUtil.isRecordIncomplete("a,\"first line\nsecond \"\"line\"\"\""));
+    }
+}
@@ -1,13 +1,23 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +30,71 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_missingParentDirectory_fileWritten() throws Exception {
+        Path file = testFolder.resolve("parent").resolve("file.txt");
+        FileUtil.writeToFileAtomically(file, out -> out.write("content".getBytes("UTF-8")), false);
+        assertEquals("content", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeToFileAtomically_largeContent_fileWritten() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 100000; i++) {
+            content.append(i).append('\n');
+        }
+        FileUtil.writeToFile(file, content.toString());
+        assertEquals(content.toString(), FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeToFileAtomically_backupKept_previousContentBackedUp() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        Path backupFile = testFolder.resolve("file.txt" + FileUtil.BACKUP_FILE_EXTENSION);
+
+        FileUtil.writeToFileAtomically(file, out -> out.write('1'), true);
+        assertFalse(FileUtil.isFileExists(backupFile));
+
+        FileUtil.writeToFileAtomically(file, out -> out.write('2'), true);
+        FileUtil.writeToFileAtomically(file, out -> out.write('3'), true);
+        assertEquals("3", FileUtil.readFromFile(file));
+        assertEquals("2", FileUtil.readFromFile(backupFile));
+    }
+
+    @Test
+    public void writeToFileAtomically_writeFails_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "original");
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, out -> {
+            out.write("partial".getBytes("UTF-8"));
+            throw new IOException("Disk full");
+        }, true));
+        assertEquals("original", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void appendToFile_missingAndExistingFile_bytesAppended() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.appendToFile(file, "first".getBytes("UTF-8"));
+        FileUtil.appendToFile(file, "second".getBytes("UTF-8"));
+        assertEquals("firstsecond", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void replaceFile_backupKept_previousContentBackedUp() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        Path newFile = testFolder.resolve("new.txt");
+        FileUtil.writeToFile(file, "old");
+        FileUtil.writeToFile(newFile, "new");
+
+        FileUtil.replaceFile(newFile, file, true);
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertEquals("old", FileUtil.readFromFile(testFolder.resolve("file.txt" + FileUtil.BACKUP_FILE_EXTENSION)));
+        assertFalse(Files.exists(newFile));
+    }
 }
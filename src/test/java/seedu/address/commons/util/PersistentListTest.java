@@ -0,0 +1,98 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void copyOf_sameElementsAsCollection() {
+        assertEquals(List.of(), PersistentList.copyOf(List.of()));
+        assertEquals(List.of(1, 2, 3, 4, 5), PersistentList.copyOf(List.of(1, 2, 3, 4, 5)));
+        assertEquals(List.of(1, 2, 3, 4, 5).hashCode(), PersistentList.copyOf(List.of(1, 2, 3, 4, 5)).hashCode());
+
+        PersistentList<Integer> list = PersistentList.copyOf(List.of(1, 2));
+        assertSame(list, PersistentList.copyOf(list));
+    }
+
+    @Test
+    public void copyOf_nullElement_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentList.copyOf(Arrays.asList(1, null)));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        PersistentList<Integer> list = PersistentList.copyOf(List.of(1, 2));
+        assertThrows(UnsupportedOperationException.class, () -> list.add(3));
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, 3));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+    }
+
+    @Test
+    public void invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<Integer> list = PersistentList.copyOf(List.of(1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.with(-1, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.plus(3, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentList.empty().minus(0));
+    }
+
+    @Test
+    public void changes_sameAsArrayList_originalUnchanged() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 2000; i++) {
+            PersistentList<Integer> previous = list;
+            List<Integer> previousExpected = new ArrayList<>(expected);
+            int operation = expected.isEmpty() ? 0 : random.nextInt(4);
+            if (operation == 0) {
+                expected.add(i);
+                list = list.plus(i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                list = list.plus(index, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -i);
+                list = list.with(index, -i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                list = list.minus(index);
+            }
+            assertEquals(expected, list);
+            assertEquals(previousExpected, previous);
+        }
+        assertEquals(expected.get(expected.size() / 2), list.get(expected.size() / 2));
+    }
+
+    @Test
+    public void without() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a", "b", "a"));
+        assertEquals(List.of("b", "a"), list.without("a"));
+        assertSame(list, list.without("c"));
+    }
+
+    @Test
+    public void indexOfFirst_sortedList() {
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 100; i++) {
+            list = list.plus(i * 2);
+        }
+        for (int value = -1; value <= 200; value++) {
+            int threshold = value;
+            assertEquals(Math.max(0, (value + 1) / 2), list.indexOfFirst(element -> element >= threshold));
+        }
+        assertEquals(0, PersistentList.<Integer>empty().indexOfFirst(element -> element >= 0));
+    }
+}
@@ -1,9 +1,11 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDITIONAL_DETAILS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.ATTENDANCE_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.CLASS_TIME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.CLASS_VENUE_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.FEE_DESC_AMY;
@@ -16,16 +18,23 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalStudents.AMY;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.logic.commands.AddAttendanceCommand;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AttendanceCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -75,6 +84,42 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_validCommand_recordedInMetrics() throws Exception {
+        CommandMetrics metrics = new CommandMetrics();
+        Logic logicWithMetrics = new LogicManager(model, new StorageManager(
+                new JsonReeveStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonNotebookStorage(temporaryFolder.resolve("notebook.json"))), metrics);
+
+        logicWithMetrics.execute(ListCommand.COMMAND_WORD);
+        logicWithMetrics.execute("  " + ListCommand.COMMAND_WORD + " all");
+        assertThrows(CommandException.class, () -> logicWithMetrics.execute("delete 9"));
+
+        // failed commands are not recorded
+        assertEquals(List.of(ListCommand.COMMAND_WORD), List.copyOf(metrics.getStats().keySet()));
+        assertEquals(2, metrics.getStats().get(ListCommand.COMMAND_WORD).getCount());
+        assertTrue(logicWithMetrics.execute(StatsCommand.COMMAND_WORD).getFeedbackToUser()
+                .contains(String.format(StatsCommand.MESSAGE_COMMAND, ListCommand.COMMAND_WORD, 2)));
+    }
+
+    @Test
+    public void execute_runCommand_allCommandsApplied() throws Exception {
+        // the student added on the first line is appended to the displayed students as the first student
+        Path commandFile = temporaryFolder.resolve("commands.txt");
+        Files.write(commandFile, List.of(
+                AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + SCHOOL_DESC_AMY + YEAR_DESC_AMY
+                        + CLASS_VENUE_DESC_AMY + CLASS_TIME_DESC_AMY + FEE_DESC_AMY + PAYMENT_DATE_DESC_AMY,
+                AttendanceCommand.COMMAND_WORD + " " + AddAttendanceCommand.COMMAND_WORD + " 1"
+                        + ATTENDANCE_DESC_AMY));
+
+        CommandResult result = logic.execute(RunCommand.COMMAND_WORD + " " + commandFile);
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 2, commandFile), result.getFeedbackToUser());
+        assertEquals(1, model.getSortedStudentList().size());
+        assertEquals(1, model.getSortedStudentList().get(0).getAcademic().getAttendance().size());
+        assertTrue(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         // Setup LogicManager with JsonAddressBookIoExceptionThrowingStub
@@ -10,10 +10,10 @@ import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
 import static seedu.address.testutil.notes.TypicalNotes.getTypicalNotebook;
 
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
-import seedu.address.commons.core.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -54,13 +54,12 @@ public class AddCommandTest {
     @Test
     public void execute_clashingClassTime_throwsCommandException() {
         Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), getTypicalNotebook());
-        String clashTime = model.getSortedStudentList()
-                .get(INDEX_FIRST_PERSON.getZeroBased())
-                .getClassTime()
-                .convertClassTimeToUserInputString();
+        Student existingStudent = model.getSortedStudentList().get(INDEX_FIRST_PERSON.getZeroBased());
+        String clashTime = existingStudent.getClassTime().convertClassTimeToUserInputString();
         Student clashingStudent = new StudentBuilder(AMY).withClassTime(clashTime).build();
         AddCommand command = new AddCommand(clashingStudent);
-        assertThrows(CommandException.class, Messages.MESSAGE_CLASHING_LESSON, () -> command.execute(model));
+        assertThrows(CommandException.class, Command.getClashingLessonMessage(List.of(existingStudent)), ()
+            -> command.execute(model));
     }
 
     @Test
@@ -0,0 +1,61 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
+import static seedu.address.testutil.notes.TypicalNotes.getTypicalNotebook;
+
+import java.time.DayOfWeek;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.student.CategoryFilter;
+import seedu.address.model.student.SchoolType;
+import seedu.address.model.student.Year;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code CountCommand}.
+ */
+public class CountCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), getTypicalNotebook());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs(), getTypicalNotebook());
+
+    @Test
+    public void equals() {
+        CountCommand countFirstCommand = new CountCommand(new CategoryFilter(SchoolType.JC, null, false));
+        CountCommand countSecondCommand = new CountCommand(new CategoryFilter(SchoolType.SECONDARY, null, false));
+
+        // same object -> returns true
+        assertTrue(countFirstCommand.equals(countFirstCommand));
+
+        // same values -> returns true
+        assertTrue(countFirstCommand.equals(new CountCommand(new CategoryFilter(SchoolType.JC, null, false))));
+
+        // different types -> returns false
+        assertFalse(countFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(countFirstCommand.equals(null));
+
+        // different filter -> returns false
+        assertFalse(countFirstCommand.equals(countSecondCommand));
+    }
+
+    @Test
+    public void execute_noCategories_countsAllStudents() {
+        CategoryFilter filter = new CategoryFilter((Year) null, null, false);
+        String expectedMessage = String.format(CountCommand.MESSAGE_COUNT, 7, "all students");
+        assertCommandSuccess(new CountCommand(filter), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_categories_filteredListUnchanged() {
+        CategoryFilter filter = new CategoryFilter(SchoolType.SECONDARY, DayOfWeek.MONDAY, false);
+        String expectedMessage = String.format(CountCommand.MESSAGE_COUNT, 2, "Secondary, lessons on Monday");
+        assertCommandSuccess(new CountCommand(filter), model, expectedMessage, expectedModel);
+    }
+}
@@ -16,6 +16,7 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
 import static seedu.address.testutil.notes.TypicalNotes.getTypicalNotebook;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -146,7 +147,7 @@ public class DeleteQuestionCommandTest {
     }
 
     private Student deleteQuestion(Index index, Student toCopy) {
-        List<Question> questions = toCopy.getQuestions();
+        List<Question> questions = new ArrayList<>(toCopy.getQuestions());
         questions.remove(index.getZeroBased());
         return new Student(toCopy.getName(), toCopy.getPhone(), toCopy.getSchool(), toCopy.getYear(),
                 toCopy.getAdmin(), questions, toCopy.getExams(), toCopy.getAttendance());
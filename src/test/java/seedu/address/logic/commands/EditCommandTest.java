@@ -16,6 +16,8 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
 import static seedu.address.testutil.notes.TypicalNotes.getTypicalNotebook;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.Messages;
@@ -27,6 +29,7 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.Reeve;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.admin.ClassTime;
 import seedu.address.testutil.EditAdminDescriptorBuilder;
 import seedu.address.testutil.EditStudentDescriptorBuilder;
 import seedu.address.testutil.StudentBuilder;
@@ -164,15 +167,34 @@ public class EditCommandTest {
 
     @Test
     public void execute_clashingClassTimeUnfilteredList_failure() {
-        String clash = getClassTimeInputString();
-        assertEditClassTimeFailure(clash);
+        Student clashingStudent = model.getSortedStudentList().get(INDEX_SECOND_PERSON.getZeroBased());
+        assertEditClassTimeFailure(clashingStudent);
     }
 
     @Test
     public void execute_clashingClassTimeFilteredList_failure() {
-        String clash = getClassTimeInputString();
+        Student clashingStudent = model.getSortedStudentList().get(INDEX_SECOND_PERSON.getZeroBased());
         showPersonAtIndex(model, INDEX_FIRST_PERSON);
-        assertEditClassTimeFailure(clash);
+        assertEditClassTimeFailure(clashingStudent);
+    }
+
+    @Test
+    public void execute_classTimeOverlappingOwnLesson_success() {
+        Student studentToEdit = model.getSortedStudentList().get(INDEX_FIRST_PERSON.getZeroBased());
+        ClassTime classTime = studentToEdit.getClassTime();
+        String shiftedClassTime = new ClassTime(classTime.dayOfWeek.getValue() + " "
+                + classTime.startTime.plusMinutes(1).format(ClassTime.OUTPUT) + "-"
+                + classTime.endTime.format(ClassTime.OUTPUT)).convertClassTimeToUserInputString();
+        EditAdminDescriptor adminDescriptor = new EditAdminDescriptorBuilder().withTime(shiftedClassTime).build();
+        EditCommand command = new EditCommand(INDEX_FIRST_PERSON, new EditStudentDescriptorBuilder().build(),
+                adminDescriptor);
+        Student editedStudent = new StudentBuilder(studentToEdit).withClassTime(shiftedClassTime).build();
+
+        String expectedMessage = String.format(EditCommand.MESSAGE_EDIT_PERSON_SUCCESS, editedStudent);
+        Model expectedModel = new ModelManager(new Reeve(model.getReeve()), new UserPrefs(), getTypicalNotebook());
+        expectedModel.setStudent(studentToEdit, editedStudent);
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
     }
 
     @Test
@@ -207,18 +229,13 @@ public class EditCommandTest {
     /**
      * Tests that a class time clash error is thrown.
      */
-    private void assertEditClassTimeFailure(String classTimeInput) {
+    private void assertEditClassTimeFailure(Student clashingStudent) {
+        String classTimeInput = clashingStudent.getClassTime().convertClassTimeToUserInputString();
         EditStudentDescriptor descriptor = new EditStudentDescriptorBuilder().build();
         EditAdminDescriptor adminDescriptor = new EditAdminDescriptorBuilder().withTime(classTimeInput).build();
         EditCommand command = new EditCommand(INDEX_FIRST_PERSON, descriptor, adminDescriptor);
 
-        assertCommandFailure(command, model, Messages.MESSAGE_CLASHING_LESSON);
-    }
-
-    private String getClassTimeInputString() {
-        return model.getSortedStudentList().get(INDEX_SECOND_PERSON.getZeroBased())
-                .getClassTime()
-                .convertClassTimeToUserInputString();
+        assertCommandFailure(command, model, Command.getClashingLessonMessage(List.of(clashingStudent)));
     }
 
 }
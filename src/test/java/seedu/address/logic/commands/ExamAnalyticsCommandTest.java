@@ -0,0 +1,78 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.StudentBuilder.DEFAULT_EXAM_FYE;
+import static seedu.address.testutil.StudentBuilder.DEFAULT_EXAM_MYE;
+import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
+import static seedu.address.testutil.notes.TypicalNotes.getTypicalNotebook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.Reeve;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ExamAnalyticsCommand}.
+ */
+public class ExamAnalyticsCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), getTypicalNotebook());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs(), getTypicalNotebook());
+
+    @Test
+    public void execute_allExams_showsSummaryInOrderOfName() {
+        // six of the typical students took the default exams, and BENSON took CA1 and CA2
+        String expectedMessage = ExamAnalyticsCommand.MESSAGE_SUMMARY
+                + "\nCA1: 1 scores, mean 52.50%, median 52.50%"
+                + "\nCA2: 1 scores, mean 73.00%, median 73.00%"
+                + "\n" + DEFAULT_EXAM_FYE.getName() + ": 6 scores, mean 50.00%, median 50.00%"
+                + "\n" + DEFAULT_EXAM_MYE.getName() + ": 6 scores, mean 66.67%, median 66.67%";
+        assertCommandSuccess(new ExamAnalyticsCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_oneExam_showsStatistics() {
+        String expectedMessage = expectedModel.getExamStatistics("CA2").get().toString();
+        assertCommandSuccess(new ExamAnalyticsCommand("CA2"), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noExams_showsNoExams() {
+        Model emptyModel = new ModelManager(new Reeve(), new UserPrefs(), getTypicalNotebook());
+        assertCommandSuccess(new ExamAnalyticsCommand(), emptyModel, ExamAnalyticsCommand.MESSAGE_NO_EXAMS,
+                new ModelManager(new Reeve(), new UserPrefs(), getTypicalNotebook()));
+    }
+
+    @Test
+    public void execute_examNotTaken_throwsCommandException() {
+        assertCommandFailure(new ExamAnalyticsCommand("CA3"), model,
+                String.format(ExamAnalyticsCommand.MESSAGE_EXAM_NOT_FOUND, "CA3"));
+    }
+
+    @Test
+    public void equals() {
+        ExamAnalyticsCommand allExamsCommand = new ExamAnalyticsCommand();
+        ExamAnalyticsCommand oneExamCommand = new ExamAnalyticsCommand("CA1");
+
+        // same object -> returns true
+        assertTrue(oneExamCommand.equals(oneExamCommand));
+
+        // same values -> returns true
+        assertTrue(oneExamCommand.equals(new ExamAnalyticsCommand("CA1")));
+        assertTrue(allExamsCommand.equals(new ExamAnalyticsCommand()));
+
+        // different types -> returns false
+        assertFalse(oneExamCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(oneExamCommand.equals(null));
+
+        // different exam -> returns false
+        assertFalse(oneExamCommand.equals(new ExamAnalyticsCommand("CA2")));
+        assertFalse(oneExamCommand.equals(allExamsCommand));
+    }
+}
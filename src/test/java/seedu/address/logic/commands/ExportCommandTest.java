@@ -0,0 +1,101 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalStudents.getTypicalPersons;
+import static seedu.address.testutil.notes.TypicalNotes.getTypicalNotebook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.student.Student;
+import seedu.address.storage.CsvRecordType;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ExportCommand}.
+ */
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), getTypicalNotebook());
+
+    @Test
+    public void execute_exams_fileWritten() throws Exception {
+        Path file = testFolder.resolve("exams.csv");
+        int examCount = getTypicalPersons().stream().mapToInt(student -> student.getExams().size()).sum();
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs(), getTypicalNotebook());
+        assertCommandSuccess(new ExportCommand(CsvRecordType.EXAMS, file), model,
+                String.format(ExportCommand.MESSAGE_SUCCESS, examCount, "exams", file), expectedModel);
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(examCount + 1, lines.size());
+        assertEquals(CsvUtil.toRecord(CsvRecordType.EXAMS.getHeader()), lines.get(0));
+        assertTrue(lines.contains(CsvUtil.toRecord(List.of(BENSON.getName().fullName, BENSON.getPhone().value,
+                BENSON.getSchool().school, BENSON.getYear().toString(), "CA1", "2/3/2020", "21.0/40.0"))));
+    }
+
+    @Test
+    public void execute_students_oneRowPerStudent() throws Exception {
+        Path file = testFolder.resolve("students.csv");
+        new ExportCommand(CsvRecordType.STUDENTS, file).execute(model);
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(getTypicalPersons().size() + 1, lines.size());
+        for (int i = 0; i < getTypicalPersons().size(); i++) {
+            Student student = getTypicalPersons().get(i);
+            List<String> fields = CsvUtil.parseRecord(lines.get(i + 1));
+            assertEquals(student.getName().fullName, fields.get(0));
+            assertEquals(student.getClassVenue().toString(), fields.get(4));
+            assertEquals(student.getDetails().size(), fields.size() - 8);
+        }
+    }
+
+    @Test
+    public void execute_unwritableFile_throwsCommandException() throws Exception {
+        Path notDirectory = Files.createFile(testFolder.resolve("file"));
+        ExportCommand exportCommand = new ExportCommand(CsvRecordType.STUDENTS, notDirectory.resolve("students.csv"));
+        assertThrows(CommandException.class, () -> exportCommand.execute(model));
+    }
+
+    @Test
+    public void equals() {
+        Path file = testFolder.resolve("students.csv");
+        ExportCommand exportCommand = new ExportCommand(CsvRecordType.STUDENTS, file);
+
+        // same object -> returns true
+        assertTrue(exportCommand.equals(exportCommand));
+
+        // same values -> returns true
+        assertTrue(exportCommand.equals(new ExportCommand(CsvRecordType.STUDENTS, file)));
+
+        // different types -> returns false
+        assertFalse(exportCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(exportCommand.equals(null));
+
+        // different type of records -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(CsvRecordType.ATTENDANCE, file)));
+
+        // different file -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(CsvRecordType.STUDENTS, testFolder.resolve("other.csv"))));
+    }
+}
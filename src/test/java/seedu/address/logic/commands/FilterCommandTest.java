@@ -0,0 +1,85 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.CARL;
+import static seedu.address.testutil.TypicalStudents.DANIEL;
+import static seedu.address.testutil.TypicalStudents.ELLE;
+import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
+import static seedu.address.testutil.notes.TypicalNotes.getTypicalNotebook;
+
+import java.time.DayOfWeek;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.student.CategoryFilter;
+import seedu.address.model.student.SchoolType;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.Year;
+import seedu.address.testutil.StudentBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FilterCommand}.
+ */
+public class FilterCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), getTypicalNotebook());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs(), getTypicalNotebook());
+
+    @Test
+    public void equals() {
+        FilterCommand filterFirstCommand = new FilterCommand(new CategoryFilter(SchoolType.JC, null, false));
+        FilterCommand filterSecondCommand = new FilterCommand(new CategoryFilter(SchoolType.JC, null, true));
+
+        // same object -> returns true
+        assertTrue(filterFirstCommand.equals(filterFirstCommand));
+
+        // same values -> returns true
+        assertTrue(filterFirstCommand.equals(new FilterCommand(new CategoryFilter(SchoolType.JC, null, false))));
+
+        // different types -> returns false
+        assertFalse(filterFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(filterFirstCommand.equals(null));
+
+        // different filter -> returns false
+        assertFalse(filterFirstCommand.equals(filterSecondCommand));
+    }
+
+    @Test
+    public void execute_lessonDay_studentsFound() {
+        CategoryFilter filter = new CategoryFilter((Year) null, DayOfWeek.MONDAY, false);
+        String expectedMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 3);
+        expectedModel.updateFilteredStudentList(filter);
+        assertCommandSuccess(new FilterCommand(filter), model, expectedMessage, expectedModel);
+        assertEquals(List.of(CARL, DANIEL, ELLE), model.getSortedStudentList());
+    }
+
+    @Test
+    public void execute_yearAndLessonDay_studentFound() {
+        CategoryFilter filter = new CategoryFilter(new Year("Sec 2"), DayOfWeek.TUESDAY, false);
+        String expectedMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 1);
+        expectedModel.updateFilteredStudentList(filter);
+        assertCommandSuccess(new FilterCommand(filter), model, expectedMessage, expectedModel);
+        assertEquals(List.of(BENSON), model.getSortedStudentList());
+    }
+
+    @Test
+    public void execute_editAfterFilter_filteredListUpdated() {
+        CategoryFilter filter = new CategoryFilter(SchoolType.JC, DayOfWeek.MONDAY, false);
+        new FilterCommand(filter).execute(model);
+        assertEquals(List.of(ELLE), model.getSortedStudentList());
+
+        Student editedCarl = new StudentBuilder(CARL).withYear("JC 1").build();
+        model.setStudent(CARL, editedCarl);
+        assertEquals(List.of(editedCarl, ELLE), model.getSortedStudentList());
+    }
+}
@@ -29,6 +29,7 @@ import seedu.address.model.student.Student;
 import seedu.address.model.student.Year;
 import seedu.address.model.student.YearMatchPredicate;
 import seedu.address.testutil.FindStudentDescriptorBuilder;
+import seedu.address.testutil.StudentBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -67,6 +68,9 @@ public class FindCommandTest {
 
         // different person -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // different explain flag -> returns false
+        assertFalse(findFirstCommand.equals(new FindCommand(firstDescriptor, true)));
     }
 
     @Test
@@ -134,6 +138,41 @@ public class FindCommandTest {
         assertEquals(new ArrayList<>(), model.getSortedStudentList());
     }
 
+    @Test
+    public void execute_explained_queryPlanShown() throws ParseException {
+        NameContainsKeywordsPredicate namePredicate = prepareNamePredicate("Kurz Elle Kunz");
+        YearMatchPredicate yearMatchPredicate = prepareYearPredicate("Sec 2");
+        FindCommand.FindStudentDescriptor descriptor = new FindStudentDescriptorBuilder()
+                .withNamePredicate(namePredicate).withYearPredicate(yearMatchPredicate).build();
+        expectedModel.updateFilteredStudentList(namePredicate.and(yearMatchPredicate));
+
+        String expectedMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 1) + "\n"
+                + "Query plan:\n"
+                + "1. index lookup: " + yearMatchPredicate + " (estimated 2), 2 candidates\n"
+                + "2. index lookup: " + namePredicate + " (estimated 3), 1 candidates";
+        assertCommandSuccess(new FindCommand(descriptor, true), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(FIONA), model.getSortedStudentList());
+    }
+
+    @Test
+    public void execute_studentEditedAfterFind_filteredListUpdated() {
+        NameContainsKeywordsPredicate predicate = prepareNamePredicate("Kurz Elle Kunz");
+        FindCommand command = new FindCommand(new FindStudentDescriptorBuilder()
+                .withNamePredicate(predicate).build());
+        command.execute(model);
+
+        Student editedCarl = new StudentBuilder(CARL).withName("Carl Kunz").build();
+        model.setStudent(CARL, editedCarl);
+        assertEquals(Arrays.asList(editedCarl, ELLE, FIONA), model.getSortedStudentList());
+
+        Student editedElle = new StudentBuilder(ELLE).withName("Elle Tan").build();
+        model.setStudent(ELLE, editedElle);
+        assertEquals(Arrays.asList(editedCarl, editedElle, FIONA), model.getSortedStudentList());
+
+        model.setStudent(editedElle, new StudentBuilder(ELLE).withName("Ella Tan").build());
+        assertEquals(Arrays.asList(editedCarl, FIONA), model.getSortedStudentList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
@@ -0,0 +1,193 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.AMY;
+import static seedu.address.testutil.TypicalStudents.HOON;
+import static seedu.address.testutil.TypicalStudents.IDA;
+import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalStudents.getTypicalPersons;
+import static seedu.address.testutil.notes.TypicalNotes.getTypicalNotebook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.Reeve;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.academic.exam.Exam;
+import seedu.address.model.student.academic.exam.Score;
+import seedu.address.storage.CsvExporter;
+import seedu.address.storage.CsvImporter;
+import seedu.address.storage.CsvRecordType;
+import seedu.address.testutil.StudentBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ImportCommand}.
+ */
+public class ImportCommandTest {
+    private static final Exam QUIZ = new Exam("Quiz", StudentBuilder.DEFAULT_EXAM_FYE.getDate(), new Score("8/10"));
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), getTypicalNotebook());
+
+    @Test
+    public void execute_exportedRecords_studentsRestored() throws Exception {
+        Model emptyModel = new ModelManager(new Reeve(), new UserPrefs(), getTypicalNotebook());
+        int attendanceCount = 0;
+        int examCount = 0;
+        for (Student student : getTypicalPersons()) {
+            attendanceCount += student.getAttendance().size();
+            examCount += student.getExams().size();
+        }
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, getTypicalPersons().size(), "students",
+                export(CsvRecordType.STUDENTS)),
+                new ImportCommand(CsvRecordType.STUDENTS, export(CsvRecordType.STUDENTS)).execute(emptyModel)
+                        .getFeedbackToUser());
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, attendanceCount, "attendance",
+                export(CsvRecordType.ATTENDANCE)),
+                new ImportCommand(CsvRecordType.ATTENDANCE, export(CsvRecordType.ATTENDANCE)).execute(emptyModel)
+                        .getFeedbackToUser());
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, examCount, "exams", export(CsvRecordType.EXAMS)),
+                new ImportCommand(CsvRecordType.EXAMS, export(CsvRecordType.EXAMS)).execute(emptyModel)
+                        .getFeedbackToUser());
+
+        // every detail but the questions of the students is restored
+        List<Student> importedStudents = emptyModel.getReeve().getStudentList();
+        assertEquals(getTypicalPersons().size(), importedStudents.size());
+        for (int i = 0; i < importedStudents.size(); i++) {
+            Student expected = getTypicalPersons().get(i);
+            Student imported = importedStudents.get(i);
+            assertTrue(expected.isSameStudent(imported));
+            assertEquals(expected.getAdmin(), imported.getAdmin());
+            assertEquals(expected.getAttendance(), imported.getAttendance());
+            assertEquals(expected.getExams(), imported.getExams());
+        }
+    }
+
+    @Test
+    public void execute_duplicateStudents_rejectedRowsReported() throws Exception {
+        List<Student> students = new ArrayList<>(getTypicalPersons());
+        students.add(HOON);
+        Path file = testFolder.resolve("students.csv");
+        new CsvExporter(file, CsvRecordType.STUDENTS).exportRecords(students);
+        Path reportFile = new CsvImporter(file, CsvRecordType.STUDENTS).getReportFile();
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs(), getTypicalNotebook());
+        expectedModel.addStudent(new StudentBuilder(HOON).withQuestions().withExams().withAttendances().build());
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, 1, "students", file)
+                + String.format(ImportCommand.MESSAGE_ROWS_REJECTED, getTypicalPersons().size(), reportFile);
+        assertCommandSuccess(new ImportCommand(CsvRecordType.STUDENTS, file), model, expectedMessage, expectedModel);
+
+        List<String> report = Files.readAllLines(reportFile, StandardCharsets.UTF_8);
+        assertEquals(getTypicalPersons().size() + 1, report.size());
+        assertEquals(List.of("2", ImportCommand.MESSAGE_DUPLICATE_STUDENT),
+                CsvUtil.parseRecord(report.get(1)).subList(0, 2));
+    }
+
+    @Test
+    public void execute_clashingLessons_rejectedRowsReported() throws Exception {
+        // IDA has the same lesson as HOON, and the other student has a lesson clashing with that of ALICE
+        Student clashingWithAlice = new StudentBuilder(IDA).withName("Ida Tan")
+                .withClassTime("5 1600-1800").build();
+        Path file = testFolder.resolve("students.csv");
+        new CsvExporter(file, CsvRecordType.STUDENTS).exportRecords(List.of(HOON, IDA, clashingWithAlice));
+        Path reportFile = new CsvImporter(file, CsvRecordType.STUDENTS).getReportFile();
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs(), getTypicalNotebook());
+        expectedModel.addStudent(new StudentBuilder(HOON).withQuestions().withExams().withAttendances().build());
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, 1, "students", file)
+                + String.format(ImportCommand.MESSAGE_ROWS_REJECTED, 2, reportFile);
+        assertCommandSuccess(new ImportCommand(CsvRecordType.STUDENTS, file), model, expectedMessage, expectedModel);
+
+        String report = Files.readString(reportFile, StandardCharsets.UTF_8);
+        assertTrue(report.contains(CsvUtil.toRecord(List.of("3", Command.getClashingLessonMessage(List.of(HOON))))));
+        assertTrue(report.contains(CsvUtil.toRecord(List.of("4", Command.getClashingLessonMessage(List.of(ALICE))))));
+    }
+
+    @Test
+    public void execute_exams_addedToExistingStudents() throws Exception {
+        Student aliceWithQuiz = new StudentBuilder(ALICE).withExams(QUIZ).build();
+        Path file = testFolder.resolve("exams.csv");
+        new CsvExporter(file, CsvRecordType.EXAMS).exportRecords(List.of(aliceWithQuiz, ALICE, AMY));
+        Path reportFile = new CsvImporter(file, CsvRecordType.EXAMS).getReportFile();
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs(), getTypicalNotebook());
+        expectedModel.setStudent(ALICE, ALICE.addExam(QUIZ));
+        int rejectedRowCount = ALICE.getExams().size() + AMY.getExams().size();
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, 1, "exams", file)
+                + String.format(ImportCommand.MESSAGE_ROWS_REJECTED, rejectedRowCount, reportFile);
+        assertCommandSuccess(new ImportCommand(CsvRecordType.EXAMS, file), model, expectedMessage, expectedModel);
+
+        List<String> report = Files.readAllLines(reportFile, StandardCharsets.UTF_8);
+        assertEquals(ImportCommand.MESSAGE_DUPLICATE_EXAM, CsvUtil.parseRecord(report.get(1)).get(1));
+        assertEquals(ImportCommand.MESSAGE_STUDENT_NOT_FOUND,
+                CsvUtil.parseRecord(report.get(report.size() - 1)).get(1));
+    }
+
+    @Test
+    public void execute_invalidHeader_failure() throws Exception {
+        Path file = testFolder.resolve("students.csv");
+        new CsvExporter(file, CsvRecordType.EXAMS).exportRecords(getTypicalPersons());
+        String expectedMessage = String.format(ImportCommand.MESSAGE_FILE_NOT_READ, file,
+                String.format(CsvRecordType.MESSAGE_INVALID_HEADER, "students",
+                        CsvUtil.toRecord(CsvRecordType.STUDENTS.getHeader())));
+        assertCommandFailure(new ImportCommand(CsvRecordType.STUDENTS, file), model, expectedMessage);
+    }
+
+    @Test
+    public void execute_missingFile_failure() {
+        Path file = testFolder.resolve("missing.csv");
+        String expectedMessage = String.format(ImportCommand.MESSAGE_FILE_NOT_READ, file,
+                "java.nio.file.NoSuchFileException: " + file);
+        assertCommandFailure(new ImportCommand(CsvRecordType.STUDENTS, file), model, expectedMessage);
+    }
+
+    @Test
+    public void equals() {
+        Path file = testFolder.resolve("students.csv");
+        ImportCommand importCommand = new ImportCommand(CsvRecordType.STUDENTS, file);
+
+        // same object -> returns true
+        assertTrue(importCommand.equals(importCommand));
+
+        // same values -> returns true
+        assertTrue(importCommand.equals(new ImportCommand(CsvRecordType.STUDENTS, file)));
+
+        // different types -> returns false
+        assertFalse(importCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(importCommand.equals(null));
+
+        // different type of records -> returns false
+        assertFalse(importCommand.equals(new ImportCommand(CsvRecordType.EXAMS, file)));
+
+        // different file -> returns false
+        assertFalse(importCommand.equals(new ImportCommand(CsvRecordType.STUDENTS, testFolder.resolve("other.csv"))));
+    }
+
+    private Path export(CsvRecordType type) throws Exception {
+        Path file = testFolder.resolve(type.getName() + ".csv");
+        if (!Files.exists(file)) {
+            new CsvExporter(file, type).exportRecords(getTypicalPersons());
+        }
+        return file;
+    }
+}
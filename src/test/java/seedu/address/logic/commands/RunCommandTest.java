@@ -0,0 +1,146 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
+import static seedu.address.testutil.notes.TypicalNotes.getTypicalNotebook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.Reeve;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.academic.exam.Exam;
+import seedu.address.model.student.academic.exam.Score;
+import seedu.address.testutil.StudentBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code RunCommand}.
+ */
+public class RunCommandTest {
+    private static final Path FILE = Paths.get("commands.txt");
+    private static final Exam QUIZ = new Exam("Quiz", StudentBuilder.DEFAULT_EXAM_FYE.getDate(), new Score("8/10"));
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), getTypicalNotebook());
+
+    @Test
+    public void execute_indexesReferToStudentsBeforeRun_success() {
+        // the second student is still BENSON after the first student is deleted
+        RunCommand command = new RunCommand(FILE, Map.of(
+                1, new DeleteCommand(INDEX_FIRST_PERSON),
+                3, new AddExamCommand(INDEX_SECOND_PERSON, QUIZ)));
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs(), getTypicalNotebook());
+        expectedModel.deleteStudent(ALICE);
+        expectedModel.setStudent(BENSON, BENSON.addExam(QUIZ));
+
+        assertCommandSuccess(command, model, String.format(RunCommand.MESSAGE_SUCCESS, 2, FILE), expectedModel);
+    }
+
+    @Test
+    public void execute_invalidIndex_changesRolledBack() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getSortedStudentList().size() + 1);
+        RunCommand command = new RunCommand(FILE, Map.of(
+                1, new DeleteCommand(INDEX_FIRST_PERSON),
+                2, new AddExamCommand(outOfBoundIndex, QUIZ)));
+
+        assertCommandFailure(command, model,
+                String.format(RunCommand.MESSAGE_COMMAND_FAILED, 2, MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX));
+    }
+
+    @Test
+    public void execute_studentDeletedByEarlierLine_changesRolledBack() {
+        List<Student> studentsBefore = new ArrayList<>(model.getSortedStudentList());
+        RunCommand command = new RunCommand(FILE, Map.of(
+                1, new DeleteCommand(INDEX_FIRST_PERSON),
+                2, new DeleteCommand(INDEX_FIRST_PERSON)));
+
+        assertCommandFailure(command, model,
+                String.format(RunCommand.MESSAGE_COMMAND_FAILED, 2, RunCommand.MESSAGE_STUDENT_DELETED));
+
+        // the displayed students follow Reeve again
+        model.deleteStudent(ALICE);
+        assertEquals(studentsBefore.subList(1, studentsBefore.size()), model.getSortedStudentList());
+    }
+
+    @Test
+    public void execute_runtimeExceptionThrown_changesRolledBack() {
+        RunCommand command = new RunCommand(FILE, Map.of(
+                1, new DeleteCommand(INDEX_FIRST_PERSON),
+                2, new ThrowingCommand(new IllegalStateException("Unexpected"))));
+
+        assertCommandFailure(command, model, String.format(RunCommand.MESSAGE_COMMAND_FAILED, 2, "Unexpected"));
+    }
+
+    @Test
+    public void execute_errorThrown_changesRolledBack() {
+        Reeve reeveBefore = new Reeve(model.getReeve());
+        RunCommand command = new RunCommand(FILE, Map.of(
+                1, new DeleteCommand(INDEX_FIRST_PERSON),
+                2, new ThrowingCommand(new AssertionError())));
+
+        assertThrows(AssertionError.class, () -> command.execute(model));
+        assertEquals(reeveBefore, model.getReeve());
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runCommand = new RunCommand(FILE, Map.of(1, new DeleteCommand(INDEX_FIRST_PERSON)));
+
+        // same object -> returns true
+        assertTrue(runCommand.equals(runCommand));
+
+        // same values -> returns true
+        assertTrue(runCommand.equals(new RunCommand(FILE, Map.of(1, new DeleteCommand(INDEX_FIRST_PERSON)))));
+
+        // different types -> returns false
+        assertFalse(runCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(runCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(runCommand.equals(new RunCommand(Paths.get("other.txt"),
+                Map.of(1, new DeleteCommand(INDEX_FIRST_PERSON)))));
+
+        // different line -> returns false
+        assertFalse(runCommand.equals(new RunCommand(FILE, Map.of(2, new DeleteCommand(INDEX_FIRST_PERSON)))));
+    }
+
+    /**
+     * A command that always throws the given exception or error.
+     */
+    private static class ThrowingCommand extends Command {
+        private final Throwable throwable;
+
+        ThrowingCommand(Throwable throwable) {
+            this.throwable = throwable;
+        }
+
+        @Override
+        public CommandResult execute(Model model) {
+            if (throwable instanceof Error) {
+                throw (Error) throwable;
+            }
+            throw (RuntimeException) throwable;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.metrics.CommandMetrics.Phase;
+import seedu.address.logic.metrics.CommandMetrics.Recording;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+
+    private final CommandMetrics metrics = new CommandMetrics();
+    private final Model model = new ModelManager();
+    private final Model expectedModel = new ModelManager();
+
+    @Test
+    public void execute_noCommands_noCommandsMessage() {
+        assertCommandSuccess(new StatsCommand(metrics), model, StatsCommand.MESSAGE_NO_COMMANDS, expectedModel);
+    }
+
+    @Test
+    public void execute_recordedCommands_phasesOfEachCommandShown() {
+        for (String commandWord : new String[] {"list", "find", "list"}) {
+            Recording recording = metrics.startRecording();
+            for (Phase phase : Phase.values()) {
+                recording.endPhase(phase);
+            }
+            metrics.record(commandWord, recording);
+        }
+
+        String[] lines = new StatsCommand(metrics).execute(model).getFeedbackToUser().split("\n");
+        assertEquals(3, lines.length);
+        assertEquals(StatsCommand.MESSAGE_HEADER, lines[0]);
+        assertTrue(lines[1].startsWith(String.format(StatsCommand.MESSAGE_COMMAND, "find", 1)));
+        assertTrue(lines[2].startsWith(String.format(StatsCommand.MESSAGE_COMMAND, "list", 2)));
+        for (Phase phase : Phase.values()) {
+            assertTrue(lines[2].contains(" " + phase.getName() + " "));
+        }
+        assertEquals(CommandMetrics.isAllocationRecorded(), lines[2].contains(" allocated "));
+    }
+
+    @Test
+    public void equals() {
+        StatsCommand statsCommand = new StatsCommand(metrics);
+
+        // same object -> returns true
+        assertTrue(statsCommand.equals(statsCommand));
+
+        // same metrics -> returns true
+        assertTrue(statsCommand.equals(new StatsCommand(metrics)));
+
+        // different types -> returns false
+        assertFalse(statsCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(statsCommand.equals(null));
+
+        // different metrics -> returns false
+        assertFalse(statsCommand.equals(new StatsCommand(new CommandMetrics())));
+    }
+}
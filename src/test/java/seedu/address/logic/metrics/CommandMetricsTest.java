@@ -0,0 +1,77 @@
+package seedu.address.logic.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.metrics.CommandMetrics.CommandStats;
+import seedu.address.logic.metrics.CommandMetrics.Phase;
+import seedu.address.logic.metrics.CommandMetrics.Recording;
+
+public class CommandMetricsTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final CommandMetrics metrics = new CommandMetrics();
+
+    @Test
+    public void record_phasesOfEachCommandWord_recorded() throws Exception {
+        record("list", 1);
+        record("list", 1);
+        record("add", 5);
+
+        assertEquals(List.of("add", "list"), List.copyOf(metrics.getStats().keySet()));
+        CommandStats listStats = metrics.getStats().get("list");
+        assertEquals(2, listStats.getCount());
+        for (Phase phase : Phase.values()) {
+            assertEquals(2, listStats.getLatency(phase).getTotalCount());
+        }
+        assertTrue(metrics.getStats().get("add").getLatency(Phase.EXECUTE).getMaxValue()
+                >= Duration.ofMillis(5).toNanos());
+        assertEquals(CommandMetrics.isAllocationRecorded(), listStats.getAllocatedBytes().isPresent());
+    }
+
+    @Test
+    public void save_recordedCommands_savedAsJson() throws Exception {
+        record("list", 1);
+        Path file = testFolder.resolve("metrics.json");
+        metrics.save(file);
+
+        JsonNode json = JsonUtil.fromJsonString(FileUtil.readFromFile(file), JsonNode.class);
+        JsonNode list = json.get("commands").get("list");
+        assertEquals(1, list.get("count").asInt());
+        JsonNode execute = list.get(Phase.EXECUTE.getName() + "Nanos");
+        assertTrue(execute.get("p50").asLong() <= execute.get("p99").asLong());
+        assertTrue(execute.get("p99").asLong() <= execute.get("max").asLong());
+    }
+
+    @Test
+    public void stop_startedSaving_savedOnStop() throws Exception {
+        Path file = testFolder.resolve("metrics.json");
+        metrics.startSaving(file, Duration.ofHours(1));
+        record("list", 0);
+        metrics.stop();
+        assertTrue(FileUtil.readFromFile(file).contains("list"));
+    }
+
+    private void record(String commandWord, long executeMillis) throws InterruptedException {
+        Recording recording = metrics.startRecording();
+        recording.endPhase(Phase.PARSE);
+        Thread.sleep(executeMillis);
+        recording.endPhase(Phase.EXECUTE);
+        recording.endPhase(Phase.SAVE_REEVE);
+        recording.endPhase(Phase.SAVE_NOTEBOOK);
+        metrics.record(commandWord, recording);
+    }
+}
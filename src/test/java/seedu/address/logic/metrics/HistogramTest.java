@@ -0,0 +1,56 @@
+package seedu.address.logic.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class HistogramTest {
+
+    @Test
+    public void getValueAtPercentile_noValues_returnsZero() {
+        Histogram histogram = new Histogram();
+        assertEquals(0, histogram.getTotalCount());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+    }
+
+    @Test
+    public void getValueAtPercentile_smallValues_exact() {
+        Histogram histogram = new Histogram();
+        for (int value = 1; value <= 100; value++) {
+            histogram.record(value);
+        }
+        assertEquals(100, histogram.getTotalCount());
+        assertEquals(1, histogram.getValueAtPercentile(0));
+        assertEquals(50, histogram.getValueAtPercentile(50));
+        assertEquals(63, histogram.getValueAtPercentile(63));
+        assertEquals(100, histogram.getValueAtPercentile(100));
+        assertEquals(100, histogram.getMaxValue());
+    }
+
+    @Test
+    public void getValueAtPercentile_largeValues_withinOneThirtySecond() {
+        Histogram histogram = new Histogram();
+        for (long value = 1_000_000; value <= 100_000_000; value += 1_000_000) {
+            histogram.record(value);
+        }
+        long median = histogram.getValueAtPercentile(50);
+        assertTrue(median >= 50_000_000 && median <= 50_000_000 + 50_000_000 / 32, "median was " + median);
+        long p99 = histogram.getValueAtPercentile(99);
+        assertTrue(p99 >= 99_000_000 && p99 <= 100_000_000, "p99 was " + p99);
+
+        // values too large for the histogram are counted in its last bucket
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, histogram.getMaxValue());
+        assertEquals(101, histogram.getTotalCount());
+    }
+
+    @Test
+    public void bucketIndexOf_everyBucketBoundary_consistent() {
+        for (int index = 0; index < Histogram.bucketIndexOf(1L << 39); index++) {
+            long highestValue = Histogram.highestValueInBucket(index);
+            assertEquals(index, Histogram.bucketIndexOf(highestValue));
+            assertEquals(index + 1, Histogram.bucketIndexOf(highestValue + 1));
+        }
+    }
+}
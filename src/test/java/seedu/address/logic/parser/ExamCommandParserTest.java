@@ -24,6 +24,7 @@ import org.junit.jupiter.api.Test;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.AddExamCommand;
 import seedu.address.logic.commands.DeleteExamCommand;
+import seedu.address.logic.commands.ExamAnalyticsCommand;
 import seedu.address.logic.commands.ExamCommand;
 import seedu.address.logic.commands.ExamStatsCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -145,6 +146,21 @@ public class ExamCommandParserTest {
         assertParseFailure(parser, missingIndexDesc, expectedMessage);
     }
 
+    @Test
+    public void parse_examAnalytics_success() {
+        assertParseSuccess(parser, ExamAnalyticsCommand.COMMAND_WORD, new ExamAnalyticsCommand());
+        assertParseSuccess(parser, ExamAnalyticsCommand.COMMAND_WORD + " " + PREFIX_EXAM_NAME + VALID_EXAM_NAME_AMY,
+                new ExamAnalyticsCommand(VALID_EXAM_NAME_AMY));
+    }
+
+    @Test
+    public void parse_examAnalyticsInvalidArgs_throwsParseException() {
+        assertParseFailure(parser, ExamAnalyticsCommand.COMMAND_WORD + " 1",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExamAnalyticsCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, ExamAnalyticsCommand.COMMAND_WORD + " " + PREFIX_EXAM_NAME + " ",
+                Exam.MESSAGE_CONSTRAINTS);
+    }
+
     @Test
     public void parseCommand_emptyInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
@@ -0,0 +1,41 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.storage.CsvRecordType;
+
+public class ExportCommandParserTest {
+
+    private final ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsExportCommand() {
+        ExportCommand expectedCommand = new ExportCommand(CsvRecordType.EXAMS, Paths.get("backup/exams.csv"));
+        assertParseSuccess(parser, " exams backup/exams.csv", expectedCommand);
+
+        // type of records in any case, with extra whitespace
+        assertParseSuccess(parser, "  EXAMS   backup/exams.csv ", expectedCommand);
+
+        // file name with spaces
+        assertParseSuccess(parser, " attendance my records.csv",
+                new ExportCommand(CsvRecordType.ATTENDANCE, Paths.get("my records.csv")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "  ", expectedMessage);
+        assertParseFailure(parser, " exams", expectedMessage);
+        assertParseFailure(parser, " exams invalid\0file.csv", expectedMessage);
+
+        // unknown type of records
+        assertParseFailure(parser, " questions backup/exams.csv", ParserUtil.MESSAGE_INVALID_CSV_RECORD_TYPE);
+    }
+}
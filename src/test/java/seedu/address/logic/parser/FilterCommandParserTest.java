@@ -0,0 +1,60 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.DayOfWeek;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.CountCommand;
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.model.student.CategoryFilter;
+import seedu.address.model.student.SchoolType;
+import seedu.address.model.student.Year;
+
+public class FilterCommandParserTest {
+
+    private FilterCommandParser parser = new FilterCommandParser();
+
+    @Test
+    public void parse_invalidPreamble_throwsParseException() {
+        assertParseFailure(parser, "unpaid y/sec",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+        assertParseFailure(new CountCommandParser(), "unpaid",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, CountCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidValues_throwsParseException() {
+        assertParseFailure(parser, " y/university", FilterCommandParser.MESSAGE_INVALID_YEAR_OR_SCHOOL_TYPE);
+        assertParseFailure(parser, " y/Sec 7", FilterCommandParser.MESSAGE_INVALID_YEAR_OR_SCHOOL_TYPE);
+        assertParseFailure(parser, " t/8", ParserUtil.MESSAGE_INVALID_DAY);
+        assertParseFailure(parser, " t/someday", ParserUtil.MESSAGE_INVALID_DAY);
+    }
+
+    @Test
+    public void parse_validArgs_returnsFilterCommand() {
+        // no categories
+        assertParseSuccess(parser, "  ", new FilterCommand(new CategoryFilter((Year) null, null, false)));
+
+        // school type
+        assertParseSuccess(parser, " y/Pri",
+                new FilterCommand(new CategoryFilter(SchoolType.PRIMARY, null, false)));
+
+        // year and day
+        assertParseSuccess(parser, " y/sec 2 t/2",
+                new FilterCommand(new CategoryFilter(new Year("Sec 2"), DayOfWeek.TUESDAY, false)));
+
+        // overdue and day name
+        assertParseSuccess(parser, "overdue t/Saturday",
+                new FilterCommand(new CategoryFilter((Year) null, DayOfWeek.SATURDAY, true)));
+    }
+
+    @Test
+    public void parse_validArgs_returnsCountCommand() {
+        assertParseSuccess(new CountCommandParser(), "overdue y/jc t/sun",
+                new CountCommand(new CategoryFilter(SchoolType.JC, DayOfWeek.SUNDAY, true)));
+    }
+}
@@ -39,6 +39,19 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " n/ \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_explainPreamble_returnsExplainedFindCommand() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("Alice"));
+        FindCommand.FindStudentDescriptor descriptor =
+                new FindStudentDescriptorBuilder().withNamePredicate(predicate).build();
+        assertParseSuccess(parser, " explain n/Alice", new FindCommand(descriptor, true));
+
+        assertParseFailure(parser, " explain",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " describe n/Alice",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
     @Test
     public void parse_validArgsCompoundPredicates_returnsFindCommand() {
 
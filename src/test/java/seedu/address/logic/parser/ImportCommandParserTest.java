@@ -0,0 +1,41 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.storage.CsvRecordType;
+
+public class ImportCommandParserTest {
+
+    private final ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsImportCommand() {
+        ImportCommand expectedCommand = new ImportCommand(CsvRecordType.STUDENTS, Paths.get("legacy/students.csv"));
+        assertParseSuccess(parser, " students legacy/students.csv", expectedCommand);
+
+        // type of records in any case, with extra whitespace
+        assertParseSuccess(parser, "  STUDENTS   legacy/students.csv ", expectedCommand);
+
+        // file name with spaces
+        assertParseSuccess(parser, " attendance my records.csv",
+                new ImportCommand(CsvRecordType.ATTENDANCE, Paths.get("my records.csv")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "  ", expectedMessage);
+        assertParseFailure(parser, " students", expectedMessage);
+        assertParseFailure(parser, " students invalid\0file.csv", expectedMessage);
+
+        // unknown type of records
+        assertParseFailure(parser, " questions legacy/students.csv", ParserUtil.MESSAGE_INVALID_CSV_RECORD_TYPE);
+    }
+}
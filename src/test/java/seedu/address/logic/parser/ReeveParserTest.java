@@ -12,6 +12,8 @@ import static seedu.address.testutil.StudentBuilder.DEFAULT_SOLUTION;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
+import java.time.DayOfWeek;
 import java.util.Arrays;
 import java.util.List;
 
@@ -23,30 +25,40 @@ import seedu.address.logic.commands.AddExamCommand;
 import seedu.address.logic.commands.AddQuestionCommand;
 import seedu.address.logic.commands.AttendanceCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.CountCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.DeleteExamCommand;
 import seedu.address.logic.commands.DeleteQuestionCommand;
 import seedu.address.logic.commands.DetailCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.OverdueCommand;
 import seedu.address.logic.commands.QuestionCommand;
 import seedu.address.logic.commands.ScheduleCommand;
 import seedu.address.logic.commands.SolveQuestionCommand;
 import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.ToggleStudentCardCommand;
 import seedu.address.logic.commands.notes.AddNoteCommand;
 import seedu.address.logic.commands.notes.DeleteNoteCommand;
 import seedu.address.logic.commands.notes.EditNoteCommand;
 import seedu.address.logic.commands.notes.NoteCommand;
+import seedu.address.logic.metrics.CommandMetrics;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.notes.note.Note;
+import seedu.address.model.student.CategoryFilter;
 import seedu.address.model.student.NameContainsKeywordsPredicate;
+import seedu.address.model.student.SchoolType;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.Year;
 import seedu.address.model.student.academic.question.UnsolvedQuestion;
+import seedu.address.storage.CsvRecordType;
 import seedu.address.testutil.EditAdminDescriptorBuilder;
 import seedu.address.testutil.EditStudentDescriptorBuilder;
 import seedu.address.testutil.FindStudentDescriptorBuilder;
@@ -141,6 +153,18 @@ public class ReeveParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_filter() throws Exception {
+        assertEquals(new FilterCommand(new CategoryFilter(SchoolType.JC, DayOfWeek.MONDAY, false)),
+                parser.parseCommand(FilterCommand.COMMAND_WORD + " y/JC t/1"));
+    }
+
+    @Test
+    public void parseCommand_count() throws Exception {
+        assertEquals(new CountCommand(new CategoryFilter((Year) null, null, true)),
+                parser.parseCommand(CountCommand.COMMAND_WORD + " overdue"));
+    }
+
     @Test
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
@@ -206,6 +230,21 @@ public class ReeveParserTest {
         assertTrue(parser.parseCommand("toggle") instanceof ToggleStudentCardCommand);
     }
 
+    @Test
+    public void parseCommand_importExport() throws Exception {
+        assertEquals(new ImportCommand(CsvRecordType.STUDENTS, Paths.get("students.csv")),
+                parser.parseCommand(ImportCommand.COMMAND_WORD + " students students.csv"));
+        assertEquals(new ExportCommand(CsvRecordType.EXAMS, Paths.get("exams.csv")),
+                parser.parseCommand(ExportCommand.COMMAND_WORD + " exams exams.csv"));
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        CommandMetrics metrics = new CommandMetrics();
+        assertEquals(new StatsCommand(metrics), new ReeveParser(metrics).parseCommand(StatsCommand.COMMAND_WORD));
+        assertEquals("stats", ReeveParser.getCommandWord("  stats now"));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
@@ -0,0 +1,72 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+public class RunCommandParserTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final RunCommandParser parser = new RunCommandParser(new ReeveParser());
+
+    @Test
+    public void parse_validFile_returnsRunCommand() throws IOException {
+        Path file = writeCommands("# remove students who left", "", DeleteCommand.COMMAND_WORD + " 1",
+                "  " + DeleteCommand.COMMAND_WORD + " 2  ");
+        RunCommand expectedCommand = new RunCommand(file, Map.of(
+                3, new DeleteCommand(INDEX_FIRST_PERSON),
+                4, new DeleteCommand(INDEX_SECOND_PERSON)));
+
+        assertParseSuccess(parser, " " + file, expectedCommand);
+    }
+
+    @Test
+    public void parse_invalidLine_throwsParseException() throws IOException {
+        Path file = writeCommands(DeleteCommand.COMMAND_WORD + " 1", "unknown command");
+        assertParseFailure(parser, file.toString(),
+                String.format(RunCommandParser.MESSAGE_INVALID_LINE, 2, MESSAGE_UNKNOWN_COMMAND));
+    }
+
+    @Test
+    public void parse_commandNotAllowed_throwsParseException() throws IOException {
+        Path file = writeCommands(ExitCommand.COMMAND_WORD);
+        assertParseFailure(parser, file.toString(), String.format(RunCommandParser.MESSAGE_INVALID_LINE, 1,
+                String.format(RunCommandParser.MESSAGE_COMMAND_NOT_ALLOWED, ExitCommand.COMMAND_WORD)));
+
+        file = writeCommands(RunCommand.COMMAND_WORD + " " + file);
+        assertParseFailure(parser, file.toString(), String.format(RunCommandParser.MESSAGE_INVALID_LINE, 1,
+                String.format(RunCommandParser.MESSAGE_COMMAND_NOT_ALLOWED, RunCommand.COMMAND_WORD)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        assertThrows(ParseException.class, () -> parser.parse(temporaryFolder.resolve("missing.txt").toString()));
+    }
+
+    private Path writeCommands(String... lines) throws IOException {
+        Path file = Files.createTempFile(temporaryFolder, "commands", ".txt");
+        Files.write(file, List.of(lines));
+        return file;
+    }
+}
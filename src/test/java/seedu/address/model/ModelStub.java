@@ -4,6 +4,8 @@ import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -13,7 +15,10 @@ import seedu.address.model.notes.ReadOnlyNotebook;
 import seedu.address.model.notes.note.Note;
 import seedu.address.model.schedule.ReadOnlyEvent;
 import seedu.address.model.schedule.ScheduleViewMode;
+import seedu.address.model.student.CategoryFilter;
+import seedu.address.model.student.ExamStatistics;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentQueryPlan;
 
 /**
  * A default model stub that have all of the methods failing.
@@ -54,6 +59,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void addStudents(List<Student> students) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void setReeve(ReadOnlyReeve newData) {
         throw new AssertionError("This method should not be called.");
@@ -130,7 +140,37 @@ public class ModelStub implements Model {
     }
 
     @Override
-    public void updateClassTimesToEvent() {
+    public StudentQueryPlan planStudentQuery(List<Predicate<Student>> criteria) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public int countStudents(CategoryFilter filter) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Predicate<Student> getCategoryPredicate(CategoryFilter filter) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setCurrentDate(LocalDate date) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setSortedStudentListFrozen(boolean isFrozen) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Optional<ExamStatistics> getExamStatistics(String examName) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<ExamStatistics> getAllExamStatistics() {
         throw new AssertionError("This method should not be called.");
     }
 
@@ -144,6 +184,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public List<Student> getClashingStudents(Student toCheck) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void setNotebook(ReadOnlyNotebook notebook) {
         throw new AssertionError("This method should not be called.");
@@ -3,6 +3,7 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import seedu.address.model.student.Student;
 
@@ -29,6 +30,11 @@ public class ModelStubAcceptingStudentAdded extends ModelStub {
         return false;
     }
 
+    @Override
+    public List<Student> getClashingStudents(Student toCheck) {
+        return new ArrayList<>();
+    }
+
     @Override
     public ReadOnlyReeve getReeve() {
         return new Reeve();
@@ -93,6 +93,11 @@ public class ReeveTest {
         public ObservableList<Student> getStudentList() {
             return students;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 
 }
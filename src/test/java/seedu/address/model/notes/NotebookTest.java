@@ -94,6 +94,11 @@ public class NotebookTest {
         public ObservableList<Note> getNotesList() {
             return notes;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 
 }
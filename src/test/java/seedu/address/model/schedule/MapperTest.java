@@ -1,6 +1,7 @@
 package seedu.address.model.schedule;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.testutil.TypicalEvents.ALICE_CLASS_EVENT;
 
 import org.junit.jupiter.api.Test;
@@ -23,6 +24,12 @@ public class MapperTest {
         assertEquals(expectedVEvent, mappedVEvent);
     }
 
+    @Test
+    public void mapEventToVEvent_sameEvent_returnsNewVEvent() {
+        // VEvents are mutable, so they are never shared between callers
+        assertFalse(Mapper.mapEventToVEvent(ALICE_CLASS_EVENT) == Mapper.mapEventToVEvent(ALICE_CLASS_EVENT));
+    }
+
     @Test
     public void mapVEventToEvent_validVEvent_returnEvent() {
         VEvent vEvent = new VEvent();
@@ -6,6 +6,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalEvents.ALICE_CLASS_EVENT;
 import static seedu.address.testutil.TypicalEvents.getTypicalEvents;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.getTypicalPersons;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -14,7 +17,11 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import jfxtras.icalendarfx.components.VEvent;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.StudentBuilder;
 
 public class SchedulerTest {
     private final Scheduler scheduler = new Scheduler();
@@ -118,4 +125,57 @@ public class SchedulerTest {
         assertThrows(NullPointerException.class, () -> scheduler.mapClassTimesToLessonEvent(null));
     }
 
+    @Test
+    public void trackLessonEvents_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> scheduler.trackLessonEvents(null));
+    }
+
+    @Test
+    public void trackLessonEvents_studentsChanged_onlyChangedLessonEventsMapped() {
+        ObservableList<Student> students = FXCollections.observableArrayList(getTypicalPersons());
+        scheduler.trackLessonEvents(students);
+        assertEquals(students.size(), scheduler.getVEvents().size());
+        VEvent aliceLesson = scheduler.getVEvents().get(0);
+        VEvent bensonLesson = scheduler.getVEvents().get(1);
+
+        // edited student with the same class time keeps its lesson event
+        students.set(0, new StudentBuilder(ALICE).withClassVenue("1 Clementi Road").build());
+        assertTrue(scheduler.getVEvents().get(0) == aliceLesson);
+
+        // edited class time replaces only that student's lesson event
+        students.set(1, new StudentBuilder(BENSON).withClassTime("3 1000-1200").build());
+        assertFalse(scheduler.getVEvents().get(1) == bensonLesson);
+        assertTrue(scheduler.getVEvents().get(0) == aliceLesson);
+        assertEquals(students.size(), scheduler.getVEvents().size());
+
+        // removed student removes its lesson event
+        students.remove(0);
+        assertEquals(students.size(), scheduler.getVEvents().size());
+        assertFalse(scheduler.getVEvents().contains(aliceLesson));
+
+        // added student adds a lesson event
+        students.add(ALICE);
+        assertEquals(students.size(), scheduler.getVEvents().size());
+        assertEquals(ALICE.getName().fullName,
+                scheduler.getVEvents().get(students.size() - 1).getSummary().getValue());
+
+        // replaced students are mapped again
+        students.setAll(ALICE, BENSON);
+        assertEquals(2, scheduler.getVEvents().size());
+    }
+
+    @Test
+    public void mapClassTimesToLessonEvent_unchangedStudents_vEventsReused() {
+        scheduler.mapClassTimesToLessonEvent(getTypicalPersons());
+        VEvent aliceLesson = scheduler.getVEvents().get(0);
+        VEvent bensonLesson = scheduler.getVEvents().get(1);
+
+        // a VEvent that was changed after it was mapped is not reused
+        bensonLesson.withSummary("Changed");
+        scheduler.mapClassTimesToLessonEvent(getTypicalPersons());
+        assertTrue(scheduler.getVEvents().get(0) == aliceLesson);
+        assertFalse(scheduler.getVEvents().get(1) == bensonLesson);
+        assertEquals(BENSON.getName().fullName, scheduler.getVEvents().get(1).getSummary().getValue());
+        assertEquals(getTypicalPersons().size(), scheduler.getVEvents().size());
+    }
 }
@@ -1,9 +1,17 @@
 package seedu.address.model.schedule;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+
+import java.time.LocalDateTime;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.student.Student;
+import seedu.address.testutil.StudentBuilder;
+
 public class UniqueIdentifierGeneratorTest {
     private static final String DEFAULT_EVENT_NAME = "eevnt name";
     private static final String DEFAULT_EVENT_START = "2020-12-03T10:15:30";
@@ -30,4 +38,23 @@ public class UniqueIdentifierGeneratorTest {
                         null));
     }
 
+    @Test
+    public void generateLessonUid_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                UniqueIdentifierGenerator.generateLessonUid(null, ALICE.getAdmin().getClassTime()));
+        assertThrows(NullPointerException.class, () ->
+                UniqueIdentifierGenerator.generateLessonUid(ALICE.getIdentity(), null));
+    }
+
+    @Test
+    public void generateLessonUid_sameStudentAndClassTime_sameUid() {
+        String uid = LessonEvent.createLessonEvent(ALICE, LocalDateTime.now()).getUniqueIdentifier();
+        assertEquals(uid, LessonEvent.createLessonEvent(ALICE, LocalDateTime.now().plusDays(3))
+                .getUniqueIdentifier());
+
+        // different class time
+        Student aliceWithOtherClassTime = new StudentBuilder(ALICE).withClassTime("1 0800-0900").build();
+        assertNotEquals(uid, LessonEvent.createLessonEvent(aliceWithOtherClassTime, LocalDateTime.now())
+                .getUniqueIdentifier());
+    }
 }
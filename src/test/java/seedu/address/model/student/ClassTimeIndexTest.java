@@ -0,0 +1,61 @@
+package seedu.address.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BOB;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.student.admin.ClassTime;
+import seedu.address.testutil.StudentBuilder;
+
+public class ClassTimeIndexTest {
+
+    private static final Student LONG_LESSON = new StudentBuilder(BOB).withClassTime("2 0800-1800").build();
+    private static final Student SHORT_LESSON = new StudentBuilder(ALICE).withClassTime("2 1700-1730").build();
+
+    private final ClassTimeIndex classTimeIndex = new ClassTimeIndex();
+
+    @Test
+    public void getClashingStudents_emptyIndex_returnsEmptyList() {
+        assertTrue(classTimeIndex.getClashingStudents(new ClassTime("2 1200-1300")).isEmpty());
+    }
+
+    @Test
+    public void getClashingStudents_lessonStartingLongBefore_returnsStudent() {
+        classTimeIndex.add(LONG_LESSON);
+        classTimeIndex.add(SHORT_LESSON);
+        assertEquals(List.of(LONG_LESSON), classTimeIndex.getClashingStudents(new ClassTime("2 1600-1630")));
+        assertEquals(Arrays.asList(LONG_LESSON, SHORT_LESSON),
+                classTimeIndex.getClashingStudents(new ClassTime("2 1600-1710")));
+    }
+
+    @Test
+    public void getClashingStudents_touchingOrOtherDayLessons_returnsEmptyList() {
+        classTimeIndex.add(SHORT_LESSON);
+        assertTrue(classTimeIndex.getClashingStudents(new ClassTime("2 1600-1700")).isEmpty());
+        assertTrue(classTimeIndex.getClashingStudents(new ClassTime("2 1730-1800")).isEmpty());
+        assertTrue(classTimeIndex.getClashingStudents(new ClassTime("3 1700-1730")).isEmpty());
+    }
+
+    @Test
+    public void remove_longestLesson_noLongerClashes() {
+        classTimeIndex.add(LONG_LESSON);
+        classTimeIndex.add(SHORT_LESSON);
+        classTimeIndex.remove(LONG_LESSON);
+        assertTrue(classTimeIndex.getClashingStudents(new ClassTime("2 0900-1000")).isEmpty());
+        assertEquals(List.of(SHORT_LESSON), classTimeIndex.getClashingStudents(new ClassTime("2 1715-1745")));
+    }
+
+    @Test
+    public void setAll_replacesIndexedStudents() {
+        classTimeIndex.add(LONG_LESSON);
+        classTimeIndex.setAll(List.of(SHORT_LESSON));
+        assertTrue(classTimeIndex.getClashingStudents(new ClassTime("2 0900-1000")).isEmpty());
+        assertEquals(List.of(SHORT_LESSON), classTimeIndex.getClashingStudents(new ClassTime("2 1700-1800")));
+    }
+}
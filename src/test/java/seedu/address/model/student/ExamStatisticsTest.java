@@ -0,0 +1,61 @@
+package seedu.address.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class ExamStatisticsTest {
+
+    private static final Year SEC_1 = new Year("Sec 1");
+    private static final Year SEC_2 = new Year("Sec 2");
+    private static final School ANDERSON = new School("Anderson Secondary");
+    private static final School CATHOLIC = new School("Catholic High");
+
+    private final ExamStatistics statistics = new ExamStatistics("Quiz", List.of(
+            new ExamStatistics.Sample(100, SEC_2, ANDERSON),
+            new ExamStatistics.Sample(40, SEC_1, CATHOLIC),
+            new ExamStatistics.Sample(55, SEC_2, CATHOLIC),
+            new ExamStatistics.Sample(95, SEC_1, ANDERSON),
+            new ExamStatistics.Sample(70, SEC_1, ANDERSON)));
+
+    @Test
+    public void constructor_noSamples_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ExamStatistics("Quiz", List.of()));
+    }
+
+    @Test
+    public void getPercentile() {
+        assertEquals(5, statistics.getCount());
+        assertEquals(72.0, statistics.getMean());
+        assertEquals(70.0, statistics.getMedian());
+        assertEquals(40.0, statistics.getPercentile(0));
+        assertEquals(55.0, statistics.getPercentile(25));
+        assertEquals(97.5, statistics.getPercentile(87.5));
+        assertEquals(100.0, statistics.getPercentile(100));
+        assertThrows(IllegalArgumentException.class, () -> statistics.getPercentile(101));
+    }
+
+    @Test
+    public void getHistogram() {
+        // 100% is counted in the last band
+        assertArrayEquals(new int[] {0, 0, 0, 0, 1, 1, 0, 1, 0, 2}, statistics.getHistogram());
+    }
+
+    @Test
+    public void getMeanByCohort() {
+        assertEquals(Map.of(SEC_1, 205.0 / 3, SEC_2, 77.5), statistics.getMeanByYear());
+        assertEquals(List.of(SEC_1, SEC_2), List.copyOf(statistics.getMeanByYear().keySet()));
+        assertEquals(Map.of(ANDERSON, 265.0 / 3, CATHOLIC, 47.5), statistics.getMeanBySchool());
+    }
+
+    @Test
+    public void getMeanByCohort_modifyMap_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> statistics.getMeanByYear().put(SEC_1, 0.0));
+        assertThrows(UnsupportedOperationException.class, () -> statistics.getMeanBySchool().clear());
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.address.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.CARL;
+import static seedu.address.testutil.TypicalStudents.getTypicalPersons;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.StudentBuilder;
+
+public class StudentBitmapIndexTest {
+
+    private static final LocalDate DATE = LocalDate.of(2020, 6, 30);
+
+    private static final List<CategoryFilter> FILTERS = List.of(
+            new CategoryFilter((Year) null, null, false),
+            new CategoryFilter(SchoolType.SECONDARY, null, false),
+            new CategoryFilter(SchoolType.JC, DayOfWeek.MONDAY, false),
+            new CategoryFilter(new Year("Sec 2"), null, false),
+            new CategoryFilter(new Year("Sec 2"), DayOfWeek.TUESDAY, false),
+            new CategoryFilter((Year) null, DayOfWeek.MONDAY, true),
+            new CategoryFilter(SchoolType.PRIMARY, null, true),
+            new CategoryFilter((Year) null, null, true));
+
+    private final StudentBitmapIndex bitmapIndex = new StudentBitmapIndex();
+
+    @Test
+    public void getMatchingSlots_emptyIndex_returnsNoSlots() {
+        for (CategoryFilter filter : FILTERS) {
+            assertTrue(bitmapIndex.getMatchingSlots(filter, DATE).isEmpty());
+        }
+    }
+
+    @Test
+    public void getMatchingSlots_sameAsFilter() {
+        List<Student> students = getTypicalPersons();
+        bitmapIndex.setAll(students);
+        assertSameAsFilters(students, DATE);
+        assertSameAsFilters(students, DATE.plusYears(1));
+        assertSameAsFilters(students, DATE);
+    }
+
+    @Test
+    public void getStudentsWithOverdueChanged() {
+        Student paidInMay = new StudentBuilder(ALICE).withPaymentDate("15/5/2020").build();
+        Student paidInJune = new StudentBuilder(BENSON).withPaymentDate("15/6/2020").build();
+        Student freeInMay = new StudentBuilder(CARL).withPaymentDate("15/5/2020").withFee("0").build();
+        bitmapIndex.setAll(List.of(paidInMay, paidInJune, freeInMay));
+
+        LocalDate start = LocalDate.of(2020, 6, 1);
+        assertEquals(List.of(), bitmapIndex.getStudentsWithOverdueChanged(start, start));
+        assertEquals(List.of(paidInMay), bitmapIndex.getStudentsWithOverdueChanged(start, start.plusDays(20)));
+        assertEquals(List.of(paidInMay, paidInJune),
+                bitmapIndex.getStudentsWithOverdueChanged(start.plusMonths(1).plusDays(20), start));
+    }
+
+    @Test
+    public void getMatchingSlots_afterRemoveAndAdd_sameAsFilter() {
+        List<Student> students = new ArrayList<>(getTypicalPersons());
+        bitmapIndex.setAll(students);
+        bitmapIndex.getMatchingSlots(new CategoryFilter((Year) null, null, true), DATE);
+
+        bitmapIndex.remove(BENSON);
+        students.remove(BENSON);
+        Student editedAlice = new StudentBuilder(ALICE).withYear("JC 1").withClassTime("6 1000-1200")
+                .withPaymentDate("29/6/2020").build();
+        bitmapIndex.remove(ALICE);
+        bitmapIndex.add(editedAlice);
+        students.set(students.indexOf(ALICE), editedAlice);
+
+        assertSameAsFilters(students, DATE);
+    }
+
+    @Test
+    public void add_afterRemove_reusesSlot() {
+        bitmapIndex.setAll(List.of(ALICE, BENSON));
+        bitmapIndex.remove(ALICE);
+        bitmapIndex.add(CARL);
+        BitSet allSlots = bitmapIndex.getMatchingSlots(new CategoryFilter((Year) null, null, false), DATE);
+        assertEquals(2, allSlots.cardinality());
+        assertEquals(2, allSlots.length());
+        assertTrue(bitmapIndex.isInSlots(CARL, allSlots));
+        assertFalse(bitmapIndex.isInSlots(ALICE, allSlots));
+    }
+
+    private void assertSameAsFilters(List<Student> students, LocalDate date) {
+        for (CategoryFilter filter : FILTERS) {
+            BitSet matchingSlots = bitmapIndex.getMatchingSlots(filter, date);
+            int expectedCount = (int) students.stream().filter(student -> filter.test(student, date)).count();
+            assertEquals(expectedCount, matchingSlots.cardinality(), filter.toString());
+            for (Student student : students) {
+                assertEquals(filter.test(student, date), bitmapIndex.isInSlots(student, matchingSlots),
+                        filter + ": " + student.getName());
+            }
+        }
+    }
+}
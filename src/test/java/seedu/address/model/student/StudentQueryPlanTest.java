@@ -0,0 +1,86 @@
+package seedu.address.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.FIONA;
+import static seedu.address.testutil.TypicalStudents.getTypicalPersons;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.StudentBuilder;
+
+public class StudentQueryPlanTest {
+
+    private final UniqueStudentList students = new UniqueStudentList();
+
+    @BeforeEach
+    public void setUp() {
+        students.setStudents(getTypicalPersons());
+    }
+
+    @Test
+    public void test_indexedAndResidualCriteria_sameAsPredicates() {
+        Predicate<Student> secondary = new SchoolContainsKeywordsPredicate(List.of("Secondary"));
+        Predicate<Student> year = new YearMatchPredicate(new Year("Sec 2"));
+        Predicate<Student> residual = student -> student.getPhone().value.startsWith("9");
+        List<Predicate<Student>> criteria = List.of(secondary, year, residual);
+
+        StudentQueryPlan plan = students.planQuery(criteria);
+        assertEquals(filter(secondary.and(year).and(residual)), filter(plan));
+        assertEquals(List.of(BENSON), filter(plan));
+    }
+
+    @Test
+    public void explain_criteriaOrderedByEstimate() {
+        Predicate<Student> girls = new SchoolContainsKeywordsPredicate(List.of("Girls"));
+        Predicate<Student> name = new NameContainsKeywordsPredicate(List.of("Fiona"));
+        Predicate<Student> residual = student -> true;
+        StudentQueryPlan plan = students.planQuery(List.of(girls, name, residual));
+
+        String expectedPlan = "Query plan:\n"
+                + "1. index lookup: " + name + " (estimated 1), 1 candidates\n"
+                + "2. index lookup: " + girls + " (estimated 2), 1 candidates\n"
+                + "3. filter candidates: " + residual;
+        assertEquals(expectedPlan, plan.explain());
+    }
+
+    @Test
+    public void explain_noCandidatesLeft_remainingLookupsSkipped() {
+        Predicate<Student> unknownName = new NameContainsKeywordsPredicate(List.of("Zed"));
+        Predicate<Student> year = new YearMatchPredicate(new Year("Sec 2"));
+        StudentQueryPlan plan = students.planQuery(List.of(year, unknownName));
+
+        assertTrue(plan.explain().endsWith("(estimated 2), skipped"));
+        assertTrue(filter(plan).isEmpty());
+    }
+
+    @Test
+    public void test_listChanged_planMadeAgain() {
+        StudentQueryPlan plan = students.planQuery(List.of(new NameContainsKeywordsPredicate(List.of("Fiona"))));
+        assertEquals(List.of(FIONA), filter(plan));
+
+        Student aliceFiona = new StudentBuilder(ALICE).withName("Fiona Pauline").build();
+        students.setStudent(ALICE, aliceFiona);
+        assertTrue(plan.test(aliceFiona));
+        assertFalse(plan.test(BENSON));
+    }
+
+    @Test
+    public void explain_noCriteria_allStudents() {
+        StudentQueryPlan plan = students.planQuery(List.of());
+        assertEquals("Query plan:\n1. all students", plan.explain());
+        assertEquals(getTypicalPersons(), filter(plan));
+    }
+
+    private List<Student> filter(Predicate<Student> predicate) {
+        return students.asUnmodifiableObservableList().stream().filter(predicate).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.address.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.DANIEL;
+import static seedu.address.testutil.TypicalStudents.FIONA;
+import static seedu.address.testutil.TypicalStudents.getTypicalPersons;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.StudentBuilder;
+
+public class StudentTokenIndexTest {
+
+    private final StudentTokenIndex tokenIndex = new StudentTokenIndex();
+
+    @Test
+    public void getStudentsWithAnyNameWord_emptyIndex_returnsEmptySet() {
+        assertTrue(tokenIndex.getStudentsWithAnyNameWord(List.of("Alice")).isEmpty());
+    }
+
+    @Test
+    public void getStudentsWithAnyNameWord_sameAsPredicate() {
+        tokenIndex.setAll(getTypicalPersons());
+        assertSameAsPredicate(new NameContainsKeywordsPredicate(List.of("meier")));
+        assertSameAsPredicate(new NameContainsKeywordsPredicate(List.of("Kurz", "ELLE", "Kunz")));
+        assertSameAsPredicate(new NameContainsKeywordsPredicate(List.of("Mei")));
+        assertSameAsPredicate(new NameContainsKeywordsPredicate(List.of()));
+    }
+
+    @Test
+    public void getStudentsWithAllSchoolSubstrings_sameAsPredicate() {
+        tokenIndex.setAll(getTypicalPersons());
+        assertSameAsPredicate(new SchoolContainsKeywordsPredicate(List.of("Girls", "School")));
+        assertSameAsPredicate(new SchoolContainsKeywordsPredicate(List.of("second")));
+        assertSameAsPredicate(new SchoolContainsKeywordsPredicate(List.of("ONDA")));
+        assertSameAsPredicate(new SchoolContainsKeywordsPredicate(List.of("girls", "high")));
+        assertSameAsPredicate(new SchoolContainsKeywordsPredicate(List.of()));
+    }
+
+    @Test
+    public void getStudentsInYear_sameAsPredicate() {
+        tokenIndex.setAll(getTypicalPersons());
+        assertSameAsPredicate(new YearMatchPredicate(new Year("Sec 2")));
+        assertSameAsPredicate(new YearMatchPredicate(new Year("JC 1")));
+    }
+
+    @Test
+    public void estimateMatches_upperBoundOfMatches() {
+        tokenIndex.setAll(getTypicalPersons());
+        List<TokenIndexedPredicate> predicates = List.of(
+                new NameContainsKeywordsPredicate(List.of("Meier", "Daniel")),
+                new SchoolContainsKeywordsPredicate(List.of("s", "Girls")),
+                new YearMatchPredicate(new Year("Sec 2")));
+        for (TokenIndexedPredicate predicate : predicates) {
+            assertTrue(predicate.estimateMatches(tokenIndex) >= predicate.getMatchingStudents(tokenIndex).size());
+        }
+        assertEquals(2, predicates.get(2).estimateMatches(tokenIndex));
+    }
+
+    @Test
+    public void remove_removedStudent_notFound() {
+        tokenIndex.setAll(getTypicalPersons());
+        tokenIndex.remove(FIONA);
+        assertEquals(Set.of(DANIEL.getIdentity()),
+                tokenIndex.getStudentsWithAllSchoolSubstrings(List.of("Girls")));
+
+        Student editedBenson = new StudentBuilder(BENSON).withSchool("Raffles Girls School").build();
+        tokenIndex.remove(BENSON);
+        tokenIndex.add(editedBenson);
+        assertEquals(Set.of(DANIEL.getIdentity(), editedBenson.getIdentity()),
+                tokenIndex.getStudentsWithAllSchoolSubstrings(List.of("Girls")));
+        assertTrue(tokenIndex.getStudentsWithAllSchoolSubstrings(List.of("Hwa")).isEmpty());
+    }
+
+    private void assertSameAsPredicate(TokenIndexedPredicate predicate) {
+        Set<StudentIdentity> expected = getTypicalPersons().stream()
+                .filter(predicate)
+                .map(Student::getIdentity)
+                .collect(Collectors.toSet());
+        assertEquals(expected, predicate.getMatchingStudents(tokenIndex));
+    }
+}
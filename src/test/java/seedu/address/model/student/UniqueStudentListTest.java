@@ -2,18 +2,31 @@ package seedu.address.model.student;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.util.DateUtil.parseToDate;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_SCHOOL_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.StudentBuilder.DEFAULT_EXAM_FYE;
+import static seedu.address.testutil.StudentBuilder.DEFAULT_EXAM_MYE;
 import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
 import static seedu.address.testutil.TypicalStudents.BOB;
+import static seedu.address.testutil.TypicalStudents.CARL;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import javafx.collections.transformation.FilteredList;
+
+import seedu.address.model.student.academic.exam.Exam;
+import seedu.address.model.student.academic.exam.Score;
 import seedu.address.model.student.exceptions.DuplicateStudentException;
 import seedu.address.model.student.exceptions.StudentNotFoundException;
 import seedu.address.testutil.StudentBuilder;
@@ -47,6 +60,14 @@ public class UniqueStudentListTest {
         assertTrue(uniqueStudentList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithDifferentCaseNameAndSchool_returnsTrue() {
+        uniqueStudentList.add(ALICE);
+        Student upperCaseAlice = new StudentBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase())
+                .withSchool(ALICE.getSchool().school.toUpperCase()).build();
+        assertTrue(uniqueStudentList.contains(upperCaseAlice));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueStudentList.add(null));
@@ -58,6 +79,37 @@ public class UniqueStudentListTest {
         assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.add(ALICE));
     }
 
+    @Test
+    public void addAll_duplicateStudent_throwsDuplicateStudentException() {
+        uniqueStudentList.add(ALICE);
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.addAll(List.of(BOB, ALICE)));
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.addAll(List.of(BOB, BOB)));
+
+        // nothing is added
+        assertFalse(uniqueStudentList.contains(BOB));
+    }
+
+    @Test
+    public void addAll_students_addedAsSingleChange() {
+        uniqueStudentList.add(ALICE);
+        List<Integer> addedSizes = new ArrayList<>();
+        uniqueStudentList.asUnmodifiableObservableList().addListener((ListChangeListener<Student>) change -> {
+            while (change.next()) {
+                addedSizes.add(change.getAddedSize());
+            }
+        });
+
+        uniqueStudentList.addAll(List.of(BENSON, CARL));
+        assertEquals(List.of(2), addedSizes);
+        assertEquals(List.of(ALICE, BENSON, CARL), uniqueStudentList.asUnmodifiableObservableList());
+
+        // the students are indexed at their positions
+        uniqueStudentList.remove(BENSON);
+        assertTrue(uniqueStudentList.contains(CARL));
+        uniqueStudentList.setStudent(CARL, BOB);
+        assertEquals(List.of(ALICE, BOB), uniqueStudentList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueStudentList.setStudent(null, ALICE));
@@ -127,6 +179,23 @@ public class UniqueStudentListTest {
         assertEquals(expectedUniqueStudentList, uniqueStudentList);
     }
 
+    @Test
+    public void remove_earlierPerson_laterPersonsStillIndexed() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BENSON);
+        uniqueStudentList.add(CARL);
+        uniqueStudentList.remove(ALICE);
+        assertFalse(uniqueStudentList.contains(ALICE));
+
+        uniqueStudentList.setStudent(CARL, BOB);
+        UniqueStudentList expectedUniqueStudentList = new UniqueStudentList();
+        expectedUniqueStudentList.add(BENSON);
+        expectedUniqueStudentList.add(BOB);
+        assertEquals(expectedUniqueStudentList, uniqueStudentList);
+        assertFalse(uniqueStudentList.contains(CARL));
+        assertTrue(uniqueStudentList.contains(BOB));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueStudentList.setStudents((UniqueStudentList) null));
@@ -180,6 +249,102 @@ public class UniqueStudentListTest {
         assertFalse(uniqueStudentList.hasClashingClassTimeWith(test)); // does not clash
     }
 
+    @Test
+    public void getVersion_modifications_versionIncreases() {
+        long version = uniqueStudentList.getVersion();
+        uniqueStudentList.add(ALICE);
+        assertTrue(uniqueStudentList.getVersion() > version);
+
+        version = uniqueStudentList.getVersion();
+        uniqueStudentList.setStudent(ALICE, BOB);
+        assertTrue(uniqueStudentList.getVersion() > version);
+
+        version = uniqueStudentList.getVersion();
+        uniqueStudentList.remove(BOB);
+        assertTrue(uniqueStudentList.getVersion() > version);
+
+        version = uniqueStudentList.getVersion();
+        uniqueStudentList.setStudents(Collections.singletonList(ALICE));
+        assertTrue(uniqueStudentList.getVersion() > version);
+
+        // failed modification -> version unchanged
+        version = uniqueStudentList.getVersion();
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.add(ALICE));
+        assertEquals(version, uniqueStudentList.getVersion());
+    }
+
+    @Test
+    public void setCurrentDate_overdueChanged_filteredListUpdated() {
+        Student paidInMay = new StudentBuilder(ALICE).withPaymentDate("15/5/2020").build();
+        Student paidInJune = new StudentBuilder(BENSON).withPaymentDate("15/6/2020").build();
+        uniqueStudentList.setStudents(Arrays.asList(paidInMay, paidInJune, CARL));
+        uniqueStudentList.setCurrentDate(LocalDate.of(2020, 6, 1));
+        FilteredList<Student> overdueStudents = new FilteredList<>(uniqueStudentList.asUnmodifiableObservableList(),
+                uniqueStudentList.getCategoryPredicate(new CategoryFilter((Year) null, null, true)));
+        List<Student> replacedStudents = new ArrayList<>();
+        uniqueStudentList.asUnmodifiableObservableList().addListener((ListChangeListener<Student>) change -> {
+            while (change.next()) {
+                replacedStudents.addAll(change.getAddedSubList());
+            }
+        });
+        long version = uniqueStudentList.getVersion();
+
+        // CARL paid on 21/5/2020
+        assertEquals(List.of(), overdueStudents);
+
+        uniqueStudentList.setCurrentDate(LocalDate.of(2020, 6, 20));
+        assertEquals(List.of(paidInMay), overdueStudents);
+        assertEquals(List.of(paidInMay), replacedStudents);
+        assertEquals(1, uniqueStudentList.countMatching(new CategoryFilter(SchoolType.SECONDARY, null, true)));
+
+        uniqueStudentList.setCurrentDate(LocalDate.of(2020, 6, 1));
+        assertEquals(List.of(), overdueStudents);
+        assertEquals(version, uniqueStudentList.getVersion());
+    }
+
+    @Test
+    public void getExamStatistics_examAdded_onlyThatExamRecomputed() {
+        uniqueStudentList.setStudents(Arrays.asList(ALICE, BENSON, CARL));
+        ExamStatistics endOfYear = uniqueStudentList.getExamStatistics(DEFAULT_EXAM_FYE.getName()).get();
+        assertEquals(2, endOfYear.getCount());
+        assertEquals(1, uniqueStudentList.getExamStatistics("CA1").get().getCount());
+        assertFalse(uniqueStudentList.getExamStatistics("CA3").isPresent());
+
+        // BENSON scored 21/40 for CA1
+        Exam firstAssessment = new Exam("CA1", parseToDate("2/3/2020"), new Score("40/40"));
+        uniqueStudentList.setStudent(ALICE, ALICE.addExam(firstAssessment));
+        ExamStatistics firstAssessmentStatistics = uniqueStudentList.getExamStatistics("CA1").get();
+        assertEquals(2, firstAssessmentStatistics.getCount());
+        assertEquals(76.25, firstAssessmentStatistics.getMean());
+        assertSame(endOfYear, uniqueStudentList.getExamStatistics(DEFAULT_EXAM_FYE.getName()).get());
+
+        List<String> examNames = new ArrayList<>();
+        uniqueStudentList.getAllExamStatistics().forEach(statistics -> examNames.add(statistics.getExamName()));
+        assertEquals(List.of("CA1", "CA2", DEFAULT_EXAM_FYE.getName(), DEFAULT_EXAM_MYE.getName()), examNames);
+
+        uniqueStudentList.remove(CARL);
+        assertEquals(1, uniqueStudentList.getExamStatistics(DEFAULT_EXAM_FYE.getName()).get().getCount());
+        assertSame(firstAssessmentStatistics, uniqueStudentList.getExamStatistics("CA1").get());
+    }
+
+    @Test
+    public void getExamStatistics_manyStudents_allScoresCounted() {
+        List<Student> students = new ArrayList<>();
+        double total = 0;
+        for (int i = 0; i < 1000; i++) {
+            int marks = i % 101;
+            students.add(new StudentBuilder().withName("Student " + i)
+                    .withExams(new Exam("Quiz", parseToDate("1/2/2020"), new Score(marks + "/100"))).build());
+            total += marks;
+        }
+        uniqueStudentList.setStudents(students);
+
+        ExamStatistics statistics = uniqueStudentList.getExamStatistics("Quiz").get();
+        assertEquals(1000, statistics.getCount());
+        assertEquals(total / 1000, statistics.getMean(), 1e-9);
+        assertEquals(List.of(statistics), uniqueStudentList.getAllExamStatistics());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
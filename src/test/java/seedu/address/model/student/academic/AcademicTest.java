@@ -3,6 +3,7 @@ package seedu.address.model.student.academic;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.util.DateUtil.parseToDate;
 import static seedu.address.logic.commands.CommandTestUtil.ATTENDANCE_DATE_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.ATTENDANCE_DATE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ATTENDANCE_FEEDBACK_AMY;
@@ -13,9 +14,13 @@ import static seedu.address.testutil.StudentBuilder.DEFAULT_QUESTION_NEWTON;
 import static seedu.address.testutil.StudentBuilder.DEFAULT_SOLUTION;
 import static seedu.address.testutil.TypicalStudents.ALICE;
 
+import java.util.List;
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.student.academic.exam.Exam;
+import seedu.address.model.student.academic.exam.Score;
 import seedu.address.model.student.academic.question.SolvedQuestion;
 import seedu.address.model.student.academic.question.UnsolvedQuestion;
 import seedu.address.testutil.StudentBuilder;
@@ -53,6 +58,32 @@ public class AcademicTest {
         assertFalse(aliceAcademic.equals(editedAliceAcademic));
     }
 
+    @Test
+    public void lazy_detailsLoadedWhenFirstAccessed() {
+        int[] loadCount = new int[1];
+        Academic lazyAcademic = Academic.lazy(() -> {
+            loadCount[0]++;
+            return ALICE.getAcademic();
+        });
+        assertFalse(lazyAcademic.isLoaded());
+        assertEquals(0, loadCount[0]);
+
+        assertEquals(ALICE.getAcademic(), lazyAcademic);
+        assertTrue(lazyAcademic.isLoaded());
+        assertEquals(ALICE.getAcademic().getQuestions(), lazyAcademic.getQuestions());
+        assertEquals(1, loadCount[0]);
+    }
+
+    @Test
+    public void withDetailsLoaded_lazyAcademic_detailsNotKept() {
+        Academic lazyAcademic = Academic.lazy(ALICE::getAcademic);
+        assertEquals(ALICE.getAcademic(), lazyAcademic.withDetailsLoaded());
+        assertFalse(lazyAcademic.isLoaded());
+
+        Academic academic = ALICE.getAcademic();
+        assertTrue(academic.withDetailsLoaded() == academic);
+    }
+
     @Test
     public void containsQuestion() {
         String[] questions = new String[] {DEFAULT_QUESTION_MATH, DEFAULT_QUESTION_NEWTON};
@@ -121,8 +152,9 @@ public class AcademicTest {
         Attendance bobAttendance = new Attendance(ATTENDANCE_DATE_BOB, true);
         Academic aliceAcademic = new StudentBuilder(ALICE).withAttendances(amyAttendance, bobAttendance)
                 .build().getAcademic();
-        String expectedText = "1. " + amyAttendance
-                + "\n2. " + bobAttendance + "\n";
+        // in order of date
+        String expectedText = "1. " + bobAttendance
+                + "\n2. " + amyAttendance + "\n";
         assertEquals(expectedText, aliceAcademic.getFormattedAttendance());
     }
 
@@ -132,10 +164,40 @@ public class AcademicTest {
         Exam examMye = DEFAULT_EXAM_MYE;
         Academic aliceAcademic = new StudentBuilder(ALICE).withExams(examFye, examMye)
                 .build().getAcademic();
-        String expectedText = "1." + examFye
-                + "\n2." + examMye + "\n";
+        // in order of date
+        String expectedText = "1." + examMye
+                + "\n2." + examFye + "\n";
         assertEquals(expectedText, aliceAcademic.getFormattedExams());
     }
 
+    @Test
+    public void getAttendanceBetween_inOrderOfDate() {
+        Attendance first = new Attendance(parseToDate("1/3/2020"), true);
+        Attendance second = new Attendance(parseToDate("8/3/2020"), false);
+        Attendance third = new Attendance(parseToDate("15/3/2020"), true);
+        Academic academic = new Academic(List.of(), List.of(third, first), List.of()).addAttendance(second);
+
+        assertEquals(List.of(first, second, third), academic.getAttendance());
+        assertEquals(List.of(second, third),
+                academic.getAttendanceBetween(parseToDate("2/3/2020"), parseToDate("15/3/2020")));
+        assertEquals(List.of(), academic.getAttendanceBetween(parseToDate("9/3/2020"), parseToDate("14/3/2020")));
+        assertEquals(List.of(), academic.getAttendanceBetween(parseToDate("15/3/2020"), parseToDate("1/3/2020")));
+
+        assertEquals(Optional.of(second), academic.getAttendanceOn(parseToDate("8/3/2020")));
+        assertEquals(Optional.empty(), academic.getAttendanceOn(parseToDate("9/3/2020")));
+        assertTrue(academic.containsAttendance(new Attendance(parseToDate("15/3/2020"), false)));
+        assertEquals(List.of(first, third), academic.deleteAttendance(second).getAttendance());
+    }
 
+    @Test
+    public void getExamsBetween_inOrderOfDate() {
+        Exam sameDateAsMye = new Exam("Oral Examination 2020", DEFAULT_EXAM_MYE.getDate(), new Score("8/10"));
+        Academic academic = new Academic(List.of(), List.of(), List.of(DEFAULT_EXAM_FYE, DEFAULT_EXAM_MYE))
+                .addExam(sameDateAsMye);
+
+        assertEquals(List.of(DEFAULT_EXAM_MYE, sameDateAsMye, DEFAULT_EXAM_FYE), academic.getExams());
+        assertEquals(List.of(DEFAULT_EXAM_MYE, sameDateAsMye),
+                academic.getExamsBetween(parseToDate("1/7/2020"), parseToDate("31/7/2020")));
+        assertEquals(List.of(DEFAULT_EXAM_MYE, DEFAULT_EXAM_FYE), academic.deleteExam(sameDateAsMye).getExams());
+    }
 }
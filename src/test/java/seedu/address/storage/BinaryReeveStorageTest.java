@@ -0,0 +1,108 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.HOON;
+import static seedu.address.testutil.TypicalStudents.IDA;
+import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyReeve;
+import seedu.address.model.Reeve;
+
+public class BinaryReeveStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryReeveStorage(null).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryReeveStorage(testFolder.resolve("NonExistentFile.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void read_jsonFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new JsonReeveStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertThrows(DataConversionException.class, () -> new BinaryReeveStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_corruptedFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryReeveStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(filePath, bytes);
+        assertThrows(DataConversionException.class, () -> new BinaryReeveStorage(filePath).readAddressBook());
+
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(DataConversionException.class, () -> new BinaryReeveStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        Reeve original = getTypicalAddressBook();
+        BinaryReeveStorage binaryReeveStorage = new BinaryReeveStorage(filePath);
+
+        // Save in new file and read back
+        binaryReeveStorage.saveAddressBook(original, filePath);
+        ReadOnlyReeve readBack = binaryReeveStorage.readAddressBook(filePath).get();
+        assertEquals(original, new Reeve(readBack));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addStudent(HOON);
+        original.removeStudent(ALICE);
+        binaryReeveStorage.saveAddressBook(original, filePath);
+        readBack = binaryReeveStorage.readAddressBook(filePath).get();
+        assertEquals(original, new Reeve(readBack));
+
+        // Save and read without specifying file path
+        original.addStudent(IDA);
+        binaryReeveStorage.saveAddressBook(original);
+        readBack = binaryReeveStorage.readAddressBook().get();
+        assertEquals(original, new Reeve(readBack));
+
+        // Empty data
+        binaryReeveStorage.saveAddressBook(new Reeve());
+        assertEquals(new Reeve(), new Reeve(binaryReeveStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_typicalAddressBook_smallerThanJson() throws Exception {
+        Path binaryFilePath = testFolder.resolve("TempAddressBook.bin");
+        Path jsonFilePath = testFolder.resolve("TempAddressBook.json");
+        new BinaryReeveStorage(binaryFilePath).saveAddressBook(getTypicalAddressBook());
+        new JsonReeveStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+        assertTrue(Files.size(binaryFilePath) * 2 < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("SomeFile.bin");
+        assertThrows(NullPointerException.class, () -> new BinaryReeveStorage(filePath).saveAddressBook(null));
+    }
+
+    @Test
+    public void saveAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryReeveStorage(null)
+                .saveAddressBook(new Reeve(), null));
+    }
+}
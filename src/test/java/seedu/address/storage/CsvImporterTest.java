@@ -0,0 +1,182 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.getTypicalPersons;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.model.student.Phone;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.academic.exam.Exam;
+
+public class CsvImporterTest {
+
+    private static final String ALICE_IDENTITY = "Alice Pauline,94351253,Anderson Secondary,Sec 3";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void importRecords_invalidHeader_throwsDataConversionException() throws IOException {
+        Path file = write("exams.csv", String.join(",", CsvRecordType.ATTENDANCE.getHeader()));
+        CsvImporter importer = new CsvImporter(file, CsvRecordType.EXAMS);
+        assertThrows(DataConversionException.class, () -> importer.importRecords(record -> {}));
+
+        Path emptyFile = write("empty.csv");
+        assertThrows(DataConversionException.class, () ->
+                new CsvImporter(emptyFile, CsvRecordType.EXAMS).importRecords(record -> {}));
+    }
+
+    @Test
+    public void importRecords_exportedStudents_sameStudents() throws Exception {
+        Path file = testFolder.resolve("students.csv");
+        new CsvExporter(file, CsvRecordType.STUDENTS).exportRecords(getTypicalPersons());
+
+        List<CsvRecord> records = importAll(file, CsvRecordType.STUDENTS);
+        assertEquals(getTypicalPersons().size(), records.size());
+        for (int i = 0; i < records.size(); i++) {
+            Student expected = getTypicalPersons().get(i);
+            Student imported = records.get(i).getStudent().get();
+            assertEquals(expected.getIdentity(), imported.getIdentity());
+            assertEquals(expected.getAdmin(), imported.getAdmin());
+            assertEquals(List.of(), imported.getExams());
+        }
+    }
+
+    @Test
+    public void importRecords_exportedAcademicRecords_sameRecords() throws Exception {
+        Path attendanceFile = testFolder.resolve("attendance.csv");
+        new CsvExporter(attendanceFile, CsvRecordType.ATTENDANCE).exportRecords(List.of(ALICE, BENSON));
+        List<CsvRecord> records = importAll(attendanceFile, CsvRecordType.ATTENDANCE);
+        assertEquals(ALICE.getAttendance().size() + BENSON.getAttendance().size(), records.size());
+        assertEquals(ALICE.getIdentity(), records.get(0).getIdentity());
+        assertEquals(ALICE.getAttendance().get(0), records.get(0).getAttendance().get());
+
+        Path examFile = testFolder.resolve("exams.csv");
+        new CsvExporter(examFile, CsvRecordType.EXAMS).exportRecords(List.of(BENSON));
+        records = importAll(examFile, CsvRecordType.EXAMS);
+        assertEquals(BENSON.getExams().size(), records.size());
+        for (int i = 0; i < records.size(); i++) {
+            assertEquals(BENSON.getIdentity(), records.get(i).getIdentity());
+            assertEquals(BENSON.getExams().get(i), records.get(i).getExam().get());
+        }
+    }
+
+    @Test
+    public void importRecords_invalidRows_reportWritten() throws Exception {
+        Path file = write("exams.csv", String.join(",", CsvRecordType.EXAMS.getHeader()),
+                ALICE_IDENTITY + ",Quiz 1,1/1/2020,5/10",
+                "Alice Pauline,phone,Anderson Secondary,Sec 3,Quiz 2,1/1/2020,5/10",
+                "",
+                ALICE_IDENTITY + ",\"Quiz, 3\",1/1/2020,5/10",
+                ALICE_IDENTITY + ",\"Quiz\n4\",1/1/2020,5/10",
+                ALICE_IDENTITY + ",Rejected,1/1/2020,5/10",
+                ALICE_IDENTITY + ",Quiz 5",
+                ALICE_IDENTITY + ",\"Quiz 6,1/1/2020,5/10");
+        CsvImporter importer = new CsvImporter(file, CsvRecordType.EXAMS);
+        List<String> examNames = new ArrayList<>();
+        int rejectedRowCount = importer.importRecords(record -> {
+            if (record.getExam().get().getName().equals("Rejected")) {
+                throw new IllegalValueException("rejected");
+            }
+            examNames.add(record.getExam().get().getName());
+        });
+
+        assertEquals(List.of("Quiz 1", "Quiz, 3"), examNames);
+        assertEquals(5, rejectedRowCount);
+        assertEquals(testFolder.resolve("exams" + CsvImporter.REPORT_FILE_SUFFIX), importer.getReportFile());
+
+        List<String> reportHeader = new ArrayList<>(CsvImporter.REPORT_COLUMNS);
+        reportHeader.addAll(CsvRecordType.EXAMS.getHeader());
+        List<String> expectedReport = List.of(
+                CsvUtil.toRecord(reportHeader),
+                CsvUtil.toRecord(List.of("3", Phone.MESSAGE_CONSTRAINTS, "Alice Pauline", "phone",
+                        "Anderson Secondary", "Sec 3", "Quiz 2", "1/1/2020", "5/10")),
+                // a row spanning several lines is reported with its first line
+                CsvUtil.toRecord(List.of("6", Exam.MESSAGE_CONSTRAINTS, "Alice Pauline", "94351253",
+                        "Anderson Secondary", "Sec 3", "Quiz\n4", "1/1/2020", "5/10")),
+                CsvUtil.toRecord(List.of("8", "rejected", "Alice Pauline", "94351253", "Anderson Secondary",
+                        "Sec 3", "Rejected", "1/1/2020", "5/10")),
+                CsvUtil.toRecord(List.of("9", String.format(CsvRecordType.MESSAGE_INVALID_COLUMN_COUNT,
+                        String.join(", ", CsvRecordType.EXAMS.getHeader()), 5), "Alice Pauline", "94351253",
+                        "Anderson Secondary", "Sec 3", "Quiz 5")),
+                CsvUtil.toRecord(List.of("10", CsvUtil.MESSAGE_UNTERMINATED_QUOTE,
+                        ALICE_IDENTITY + ",\"Quiz 6,1/1/2020,5/10")));
+        assertEquals(String.join(System.lineSeparator(), expectedReport) + System.lineSeparator(),
+                Files.readString(importer.getReportFile(), StandardCharsets.UTF_8));
+
+        // the report is removed once every row is imported
+        write("exams.csv", String.join(",", CsvRecordType.EXAMS.getHeader()),
+                ALICE_IDENTITY + ",Quiz 1,1/1/2020,5/10");
+        assertEquals(0, importer.importRecords(record -> {}));
+        assertFalse(Files.exists(importer.getReportFile()));
+    }
+
+    @Test
+    public void importRecords_strayQuote_followingRowsImported() throws Exception {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.join(",", CsvRecordType.EXAMS.getHeader()));
+        lines.add(ALICE_IDENTITY + ",\"Stray,1/1/2020,5/10");
+        List<String> expectedNames = new ArrayList<>();
+        for (int i = 0; i < CsvImporter.MAX_LINES_PER_ROW + 1; i++) {
+            lines.add(ALICE_IDENTITY + ",Quiz " + i + ",1/1/2020,5/10");
+            expectedNames.add("Quiz " + i);
+        }
+        Path file = write("exams.csv", lines.toArray(new String[0]));
+
+        List<String> examNames = new ArrayList<>();
+        CsvImporter importer = new CsvImporter(file, CsvRecordType.EXAMS);
+        assertEquals(1, importer.importRecords(record -> examNames.add(record.getExam().get().getName())));
+        assertEquals(expectedNames, examNames);
+        List<String> report = Files.readAllLines(importer.getReportFile(), StandardCharsets.UTF_8);
+        assertEquals(2, report.size());
+        assertEquals(List.of("2", CsvUtil.MESSAGE_UNTERMINATED_QUOTE),
+                CsvUtil.parseRecord(report.get(1)).subList(0, 2));
+    }
+
+    @Test
+    public void importRecords_moreRowsThanPipeline_orderKept() throws Exception {
+        int rowCount = CsvImporter.BATCH_SIZE * (CsvImporter.MAX_PENDING_BATCHES + 2) + 1;
+        List<String> lines = new ArrayList<>();
+        lines.add(String.join(",", CsvRecordType.EXAMS.getHeader()));
+        List<String> expectedNames = new ArrayList<>();
+        for (int i = 0; i < rowCount; i++) {
+            lines.add(ALICE_IDENTITY + ",Quiz " + i + ",1/1/2020,5/10");
+            expectedNames.add("Quiz " + i);
+        }
+        Path file = write("exams.csv", lines.toArray(new String[0]));
+
+        List<String> examNames = new ArrayList<>();
+        int rejectedRowCount = new CsvImporter(file, CsvRecordType.EXAMS).importRecords(record ->
+                examNames.add(record.getExam().get().getName()));
+        assertEquals(0, rejectedRowCount);
+        assertEquals(expectedNames, examNames);
+    }
+
+    private List<CsvRecord> importAll(Path file, CsvRecordType type) throws Exception {
+        List<CsvRecord> records = new ArrayList<>();
+        assertEquals(0, new CsvImporter(file, type).importRecords(records::add));
+        return records;
+    }
+
+    private Path write(String fileName, String... lines) throws IOException {
+        Path file = testFolder.resolve(fileName);
+        Files.write(file, List.of(lines), StandardCharsets.UTF_8);
+        return file;
+    }
+}
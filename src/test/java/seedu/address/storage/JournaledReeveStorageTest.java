@@ -0,0 +1,187 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.HOON;
+import static seedu.address.testutil.TypicalStudents.IDA;
+import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.Reeve;
+import seedu.address.testutil.StudentBuilder;
+
+public class JournaledReeveStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalPath;
+    private JsonReeveStorage snapshotStorage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.json");
+        journalPath = testFolder.resolve("addressbook.json" + ListJournal.FILE_EXTENSION);
+        snapshotStorage = new JsonReeveStorage(filePath);
+    }
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournaledReeveStorage(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournaledReeveStorage(snapshotStorage).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterFirstSave_onlyJournalWritten() throws Exception {
+        JournaledReeveStorage storage = new JournaledReeveStorage(snapshotStorage);
+        Reeve reeve = getTypicalAddressBook();
+        storage.saveAddressBook(reeve);
+        byte[] snapshot = Files.readAllBytes(filePath);
+        long journalSize = Files.size(journalPath);
+
+        reeve.addStudent(HOON);
+        reeve.setStudent(BENSON, new StudentBuilder(BENSON).withClassTime("7 0800-0900").build());
+        reeve.removeStudent(ALICE);
+        storage.saveAddressBook(reeve);
+        storage.saveAddressBook(reeve);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertTrue(Files.size(journalPath) > journalSize);
+        assertEquals(reeve, new Reeve(new JournaledReeveStorage(snapshotStorage).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_changesJournaled() throws Exception {
+        Reeve reeve = getTypicalAddressBook();
+        new JournaledReeveStorage(snapshotStorage).saveAddressBook(reeve);
+        reeve.addStudent(HOON);
+        new JournaledReeveStorage(snapshotStorage).saveAddressBook(reeve);
+
+        // a new storage first replays the journal, and then continues it
+        JournaledReeveStorage storage = new JournaledReeveStorage(snapshotStorage);
+        Reeve readBack = new Reeve(storage.readAddressBook().get());
+        assertEquals(reeve, readBack);
+        readBack.addStudent(IDA);
+        storage.saveAddressBook(readBack);
+        assertEquals(readBack, new Reeve(new JournaledReeveStorage(snapshotStorage).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compactedIntoSnapshot() throws Exception {
+        JournaledReeveStorage storage = new JournaledReeveStorage(snapshotStorage, 1);
+        Reeve reeve = getTypicalAddressBook();
+        storage.saveAddressBook(reeve);
+        reeve.addStudent(HOON);
+        storage.saveAddressBook(reeve);
+        storage.awaitCompaction();
+
+        assertEquals(reeve, new Reeve(snapshotStorage.readAddressBook().get()));
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(reeve, new Reeve(new JournaledReeveStorage(snapshotStorage).readAddressBook().get()));
+
+        // the snapshot replaced by compaction is kept as the backup of the data file
+        Path backupPath = testFolder.resolve("addressbook.json" + FileUtil.BACKUP_FILE_EXTENSION);
+        assertEquals(getTypicalAddressBook(), new Reeve(new JsonReeveStorage(backupPath).readAddressBook().get()));
+        assertFalse(Files.exists(testFolder.resolve("addressbook.json" + ListJournal.COMPACTION_FILE_EXTENSION)));
+        assertFalse(Files.exists(testFolder.resolve("addressbook.json.tmp")));
+    }
+
+    @Test
+    public void readAddressBook_partiallyWrittenLastEntry_entryIgnored() throws Exception {
+        JournaledReeveStorage storage = new JournaledReeveStorage(snapshotStorage);
+        Reeve reeve = getTypicalAddressBook();
+        storage.saveAddressBook(reeve);
+        reeve.addStudent(HOON);
+        storage.saveAddressBook(reeve);
+        Files.write(journalPath, "{\"sequence\":2,\"ind".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        storage = new JournaledReeveStorage(snapshotStorage);
+        assertEquals(reeve, new Reeve(storage.readAddressBook().get()));
+
+        // the next save replaces the damaged journal
+        reeve.addStudent(IDA);
+        storage.saveAddressBook(reeve);
+        assertEquals(reeve, new Reeve(new JournaledReeveStorage(snapshotStorage).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptedEntry_throwsDataConversionException() throws Exception {
+        JournaledReeveStorage storage = new JournaledReeveStorage(snapshotStorage);
+        Reeve reeve = getTypicalAddressBook();
+        storage.saveAddressBook(reeve);
+        reeve.addStudent(HOON);
+        storage.saveAddressBook(reeve);
+        reeve.addStudent(IDA);
+        storage.saveAddressBook(reeve);
+
+        List<String> lines = Files.readAllLines(journalPath);
+        lines.set(1, "not json");
+        Files.write(journalPath, lines);
+        assertThrows(DataConversionException.class, () -> new JournaledReeveStorage(snapshotStorage)
+                .readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_snapshotReplaced_journalMovedAside() throws Exception {
+        JournaledReeveStorage storage = new JournaledReeveStorage(snapshotStorage);
+        Reeve reeve = getTypicalAddressBook();
+        storage.saveAddressBook(reeve);
+        reeve.addStudent(HOON);
+        storage.saveAddressBook(reeve);
+        byte[] journal = Files.readAllBytes(journalPath);
+
+        snapshotStorage.saveAddressBook(new Reeve());
+        assertEquals(new Reeve(), new Reeve(new JournaledReeveStorage(snapshotStorage).readAddressBook().get()));
+
+        // the changes in the journal are kept for the user to recover
+        assertFalse(Files.exists(journalPath));
+        List<Path> unmatchedJournals;
+        try (Stream<Path> files = Files.list(testFolder)) {
+            unmatchedJournals = files.filter(path -> path.toString().endsWith(ListJournal.UNMATCHED_FILE_EXTENSION))
+                    .collect(Collectors.toList());
+        }
+        assertEquals(1, unmatchedJournals.size());
+        assertArrayEquals(journal, Files.readAllBytes(unmatchedJournals.get(0)));
+    }
+
+    @Test
+    public void mergeJournal_changesJournaled_writtenToSnapshot() throws Exception {
+        JournaledReeveStorage storage = new JournaledReeveStorage(snapshotStorage);
+        Reeve reeve = getTypicalAddressBook();
+        storage.saveAddressBook(reeve);
+        reeve.addStudent(HOON);
+        storage.saveAddressBook(reeve);
+
+        new JournaledReeveStorage(snapshotStorage).mergeJournal();
+        assertFalse(Files.exists(journalPath));
+        assertEquals(reeve, new Reeve(snapshotStorage.readAddressBook().get()));
+
+        // nothing to merge
+        new JournaledReeveStorage(snapshotStorage).mergeJournal();
+        assertEquals(reeve, new Reeve(snapshotStorage.readAddressBook().get()));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalStudents.ALICE;
 import static seedu.address.testutil.TypicalStudents.HOON;
@@ -16,11 +17,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyReeve;
 import seedu.address.model.Reeve;
+import seedu.address.model.student.Student;
 
 public class JsonReeveStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
+    private static final Path SERIALIZABLE_TEST_DATA_FOLDER =
+            Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
 
     @TempDir
     public Path testFolder;
@@ -60,6 +66,82 @@ public class JsonReeveStorageTest {
         assertThrows(DataConversionException.class, () -> readAddressBook("invalidAndValidStudentReeve.json"));
     }
 
+    @Test
+    public void readAddressBook_duplicateStudents_throwDataConversionException() {
+        Path filePath = SERIALIZABLE_TEST_DATA_FOLDER.resolve("duplicateStudentReeve.json");
+        assertThrows(DataConversionException.class, () -> new JsonReeveStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_serializableReeveFile_success() throws Exception {
+        Path filePath = SERIALIZABLE_TEST_DATA_FOLDER.resolve("typicalStudentsReeve.json");
+        ReadOnlyReeve readBack = new JsonReeveStorage(filePath).readAddressBook().get();
+        assertEquals(getTypicalAddressBook(), new Reeve(readBack));
+    }
+
+    @Test
+    public void readAddressBook_academicLoadedLazily_success() throws Exception {
+        Path filePath = SERIALIZABLE_TEST_DATA_FOLDER.resolve("typicalStudentsReeve.json");
+        ReadOnlyReeve readBack = new JsonReeveStorage(filePath, true).readAddressBook().get();
+        for (Student student : readBack.getStudentList()) {
+            assertFalse(student.getAcademic().isLoaded());
+        }
+        assertEquals(getTypicalAddressBook(), new Reeve(readBack));
+        assertTrue(readBack.getStudentList().get(0).getAcademic().isLoaded());
+    }
+
+    @Test
+    public void readAddressBook_academicLoadedLazilyDuplicateStudents_throwDataConversionException() {
+        Path filePath = SERIALIZABLE_TEST_DATA_FOLDER.resolve("duplicateStudentReeve.json");
+        assertThrows(DataConversionException.class, () -> new JsonReeveStorage(filePath, true).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_academicLoadedLazilyInvalidAcademic_throwDataConversionException() throws Exception {
+        String typicalJson = FileUtil.readFromFile(SERIALIZABLE_TEST_DATA_FOLDER.resolve("typicalStudentsReeve.json"));
+        Path filePath = testFolder.resolve("invalidAcademicReeve.json");
+        FileUtil.writeToFile(filePath, typicalJson.replaceFirst("\"questions\": \\[", "\"questions\": [ 1,"));
+        assertThrows(DataConversionException.class, () -> new JsonReeveStorage(filePath, true).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_academicLoadedLazilyInvalidValue_throwsOnAccess() throws Exception {
+        String typicalJson = FileUtil.readFromFile(SERIALIZABLE_TEST_DATA_FOLDER.resolve("typicalStudentsReeve.json"));
+        Path filePath = testFolder.resolve("invalidAcademicReeve.json");
+        FileUtil.writeToFile(filePath, typicalJson.replaceFirst("\"date\" : \"14/04/1998\"", "\"date\" : \"14-04\""));
+        Student alice = new JsonReeveStorage(filePath, true).readAddressBook().get().getStudentList().get(0);
+        assertThrows(IllegalStateException.class, () -> alice.getAcademic().getAttendance());
+    }
+
+    @Test
+    public void saveAddressBook_academicLoadedLazily_sameFileSaved() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Reeve original = getTypicalAddressBook();
+        JsonReeveStorage storage = new JsonReeveStorage(filePath, true);
+        storage.saveAddressBook(original);
+        String savedFile = FileUtil.readFromFile(filePath);
+
+        ReadOnlyReeve readBack = storage.readAddressBook().get();
+        storage.saveAddressBook(readBack);
+        assertEquals(savedFile, FileUtil.readFromFile(filePath));
+
+        // saving does not keep the academic details in memory
+        for (Student student : readBack.getStudentList()) {
+            assertFalse(student.getAcademic().isLoaded());
+        }
+    }
+
+    @Test
+    public void saveAddressBook_readAsSerializableReeve_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Reeve original = getTypicalAddressBook();
+        new JsonReeveStorage(filePath).saveAddressBook(original);
+
+        JsonSerializableReeve readBack = JsonUtil.readJsonFile(filePath, JsonSerializableReeve.class).get();
+        assertEquals(original, readBack.toModelType());
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableReeve(original)), FileUtil.readFromFile(filePath));
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
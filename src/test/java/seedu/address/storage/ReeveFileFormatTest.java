@@ -0,0 +1,75 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.Reeve;
+
+public class ReeveFileFormatTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void of_fileExtension_correctFormat() {
+        assertEquals(ReeveFileFormat.JSON, ReeveFileFormat.of(Paths.get("data", "addressbook.json")));
+        assertEquals(ReeveFileFormat.JSON, ReeveFileFormat.of(Paths.get("data", "addressbook")));
+        assertEquals(ReeveFileFormat.BINARY, ReeveFileFormat.of(Paths.get("data", "addressbook.bin")));
+        assertEquals(ReeveFileFormat.BINARY, ReeveFileFormat.of(Paths.get("data", "addressbook.BIN")));
+    }
+
+    @Test
+    public void createStorage_fileExtension_correctStorage() {
+        assertTrue(ReeveFileFormat.createStorage(Paths.get("addressbook.json")) instanceof JsonReeveStorage);
+        assertTrue(ReeveFileFormat.createStorage(Paths.get("addressbook.bin")) instanceof BinaryReeveStorage);
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_noDataLost() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        Path binaryFilePath = testFolder.resolve("addressbook.bin");
+        Path convertedFilePath = testFolder.resolve("converted.json");
+        new JsonReeveStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(ReeveFileFormat.convert(jsonFilePath, binaryFilePath));
+        assertEquals(getTypicalAddressBook(), new Reeve(new BinaryReeveStorage(binaryFilePath)
+                .readAddressBook().get()));
+
+        assertTrue(ReeveFileFormat.convert(binaryFilePath, convertedFilePath));
+        assertEquals(FileUtil.readFromFile(jsonFilePath), FileUtil.readFromFile(convertedFilePath));
+    }
+
+    @Test
+    public void convert_missingSource_returnsFalse() throws Exception {
+        assertFalse(ReeveFileFormat.convert(testFolder.resolve("missing.json"), testFolder.resolve("target.bin")));
+        assertFalse(FileUtil.isFileExists(testFolder.resolve("target.bin")));
+    }
+
+    @Test
+    public void convertFromOtherFormatIfMissing_variousFiles_convertsOnlyIfMissing() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        Path binaryFilePath = testFolder.resolve("addressbook.bin");
+
+        // neither file exists
+        assertFalse(ReeveFileFormat.convertFromOtherFormatIfMissing(binaryFilePath));
+
+        // only the json file exists
+        new JsonReeveStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+        assertTrue(ReeveFileFormat.convertFromOtherFormatIfMissing(binaryFilePath));
+        assertEquals(getTypicalAddressBook(), new Reeve(new BinaryReeveStorage(binaryFilePath)
+                .readAddressBook().get()));
+
+        // both files exist
+        assertFalse(ReeveFileFormat.convertFromOtherFormatIfMissing(binaryFilePath));
+        assertFalse(ReeveFileFormat.convertFromOtherFormatIfMissing(jsonFilePath));
+    }
+}
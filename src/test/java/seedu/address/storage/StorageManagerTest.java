@@ -1,10 +1,13 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.address.testutil.TypicalStudents.ALICE;
 import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
 import static seedu.address.testutil.notes.TypicalNotes.getTypicalNotebook;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -66,6 +69,20 @@ public class StorageManagerTest {
         assertEquals(original, new Reeve(retrieved));
     }
 
+    @Test
+    public void saveAddressBook_unchangedSinceLastSave_fileNotRewritten() throws Exception {
+        Reeve reeve = getTypicalAddressBook();
+        storageManager.saveAddressBook(reeve);
+        Files.delete(storageManager.getAddressBookFilePath());
+
+        storageManager.saveAddressBook(reeve);
+        assertFalse(Files.exists(storageManager.getAddressBookFilePath()));
+
+        reeve.removeStudent(ALICE);
+        storageManager.saveAddressBook(reeve);
+        assertEquals(reeve, new Reeve(storageManager.readAddressBook().get()));
+    }
+
     @Test
     public void notebookReadSave() throws Exception {
         /*
@@ -0,0 +1,111 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
+import static seedu.address.testutil.notes.TypicalNotes.getTypicalNotebook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.ReadOnlyReeve;
+import seedu.address.model.Reeve;
+import seedu.address.model.notes.Notebook;
+import seedu.address.model.notes.ReadOnlyNotebook;
+import seedu.address.storage.notes.JsonNotebookStorage;
+
+public class WriteBehindStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private SaveCountingStorageManager storageManager;
+    private WriteBehindStorage writeBehindStorage;
+
+    @BeforeEach
+    public void setUp() {
+        storageManager = new SaveCountingStorageManager(new JsonReeveStorage(testFolder.resolve("ab")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")),
+                new JsonNotebookStorage(testFolder.resolve("notebook")));
+        writeBehindStorage = new WriteBehindStorage(storageManager);
+    }
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WriteBehindStorage(null));
+    }
+
+    @Test
+    public void saveAddressBook_thenFlush_dataWritten() throws Exception {
+        Reeve original = getTypicalAddressBook();
+        writeBehindStorage.saveAddressBook(original);
+        writeBehindStorage.flush();
+        ReadOnlyReeve retrieved = storageManager.readAddressBook().get();
+        assertEquals(original, new Reeve(retrieved));
+    }
+
+    @Test
+    public void saveNotebook_thenRead_dataWritten() throws Exception {
+        Notebook original = getTypicalNotebook();
+        writeBehindStorage.saveNotebook(original);
+        ReadOnlyNotebook retrieved = writeBehindStorage.readNotebook().get();
+        assertEquals(original, new Notebook(retrieved));
+    }
+
+    @Test
+    public void saveAddressBook_unchangedData_saveSkipped() throws Exception {
+        Reeve reeve = getTypicalAddressBook();
+        writeBehindStorage.saveAddressBook(reeve);
+        writeBehindStorage.flush();
+        writeBehindStorage.saveAddressBook(reeve);
+        writeBehindStorage.flush();
+        assertEquals(1, storageManager.reeveSaveCount);
+
+        reeve.removeStudent(ALICE);
+        writeBehindStorage.saveAddressBook(reeve);
+        writeBehindStorage.flush();
+        assertEquals(2, storageManager.reeveSaveCount);
+        assertEquals(reeve, new Reeve(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void flush_backgroundWriteFailed_throwsIoException() throws Exception {
+        storageManager.isFailingSaves = true;
+        writeBehindStorage.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, () -> writeBehindStorage.flush());
+
+        // the failure is only reported once, and the data is written on the next save
+        storageManager.isFailingSaves = false;
+        writeBehindStorage.flush();
+        writeBehindStorage.saveAddressBook(getTypicalAddressBook());
+        writeBehindStorage.flush();
+        assertEquals(getTypicalAddressBook(), new Reeve(storageManager.readAddressBook().get()));
+    }
+
+    /**
+     * A {@code StorageManager} that counts the number of times Reeve is saved, and can be made to fail saves.
+     */
+    private static class SaveCountingStorageManager extends StorageManager {
+        private volatile int reeveSaveCount = 0;
+        private volatile boolean isFailingSaves = false;
+
+        SaveCountingStorageManager(ReeveStorage reeveStorage, UserPrefsStorage userPrefsStorage,
+                                   JsonNotebookStorage notebookStorage) {
+            super(reeveStorage, userPrefsStorage, notebookStorage);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyReeve reeve) throws IOException {
+            if (isFailingSaves) {
+                throw new IOException("Failing save");
+            }
+            reeveSaveCount++;
+            super.saveAddressBook(reeve);
+        }
+    }
+}
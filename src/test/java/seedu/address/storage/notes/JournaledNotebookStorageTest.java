@@ -0,0 +1,46 @@
+package seedu.address.storage.notes;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.notes.TypicalNotes.NOTE_BUY_COFFEE;
+import static seedu.address.testutil.notes.TypicalNotes.NOTE_GRADUATION;
+import static seedu.address.testutil.notes.TypicalNotes.getTypicalNotebook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.notes.Notebook;
+import seedu.address.testutil.notes.NoteBuilder;
+
+public class JournaledNotebookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        JsonNotebookStorage snapshotStorage = new JsonNotebookStorage(testFolder.resolve("notebook.json"));
+        assertFalse(new JournaledNotebookStorage(snapshotStorage).readNotebook().isPresent());
+    }
+
+    @Test
+    public void saveNotebook_changesAfterFirstSave_onlyJournalWritten() throws Exception {
+        Path filePath = testFolder.resolve("notebook.json");
+        JsonNotebookStorage snapshotStorage = new JsonNotebookStorage(filePath);
+        JournaledNotebookStorage storage = new JournaledNotebookStorage(snapshotStorage);
+        Notebook notebook = getTypicalNotebook();
+        storage.saveNotebook(notebook);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        notebook.setNote(NOTE_BUY_COFFEE, new NoteBuilder(NOTE_BUY_COFFEE).withDescription("Decaf please").build());
+        notebook.removeNote(NOTE_GRADUATION);
+        storage.saveNotebook(notebook);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(notebook, new Notebook(new JournaledNotebookStorage(snapshotStorage).readNotebook().get()));
+    }
+}